@@ -1,18 +1,23 @@
 package seedu.address;
 
 import java.io.IOException;
+import java.nio.file.Files;
 import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
 import java.util.Optional;
 import java.util.logging.Logger;
 
 import javafx.application.Application;
+import javafx.application.Platform;
 import javafx.stage.Stage;
+import seedu.address.commons.core.AddressBookFormat;
 import seedu.address.commons.core.Config;
 import seedu.address.commons.core.LogsCenter;
 import seedu.address.commons.core.Version;
 import seedu.address.commons.exceptions.DataConversionException;
 import seedu.address.commons.util.ConfigUtil;
 import seedu.address.commons.util.StringUtil;
+import seedu.address.logic.FindPreviewWorker;
 import seedu.address.logic.Logic;
 import seedu.address.logic.LogicManager;
 import seedu.address.model.AddressBook;
@@ -22,8 +27,11 @@ import seedu.address.model.ReadOnlyAddressBook;
 import seedu.address.model.ReadOnlyUserPrefs;
 import seedu.address.model.UserPrefs;
 import seedu.address.model.util.SampleDataUtil;
+import seedu.address.storage.AddressBookSaveWorker;
 import seedu.address.storage.AddressBookStorage;
+import seedu.address.storage.BinaryAddressBookStorage;
 import seedu.address.storage.JsonAddressBookStorage;
+import seedu.address.storage.JsonHistoryJournal;
 import seedu.address.storage.JsonUserPrefsStorage;
 import seedu.address.storage.Storage;
 import seedu.address.storage.StorageManager;
@@ -56,43 +64,82 @@ public class MainApp extends Application {
 
         UserPrefsStorage userPrefsStorage = new JsonUserPrefsStorage(config.getUserPrefsFilePath());
         UserPrefs userPrefs = initPrefs(userPrefsStorage);
-        AddressBookStorage addressBookStorage = new JsonAddressBookStorage(userPrefs.getAddressBookFilePath());
+        AddressBookStorage jsonAddressBookStorage = new JsonAddressBookStorage(userPrefs.getAddressBookFilePath());
+        AddressBookStorage binaryAddressBookStorage = new BinaryAddressBookStorage(
+                BinaryAddressBookStorage.getBinaryFilePath(userPrefs.getAddressBookFilePath()),
+                userPrefs.isLoadPersonsOnDemand());
+        boolean isBinary = userPrefs.getAddressBookFormat() == AddressBookFormat.BINARY;
+        AddressBookStorage addressBookStorage = isBinary ? binaryAddressBookStorage : jsonAddressBookStorage;
         storage = new StorageManager(addressBookStorage, userPrefsStorage);
 
         initLogging(config);
 
-        model = initModelManager(storage, userPrefs);
+        model = initModelManager(storage, isBinary ? jsonAddressBookStorage : binaryAddressBookStorage, userPrefs);
 
-        logic = new LogicManager(model, storage);
+        logic = new LogicManager(model, storage, new AddressBookSaveWorker(storage),
+                new FindPreviewWorker(model, Platform::runLater));
 
         ui = new UiManager(logic);
     }
 
     /**
      * Returns a {@code ModelManager} with the data from {@code storage}'s address book and {@code userPrefs}. <br>
-     * The data from the sample address book will be used instead if {@code storage}'s address book is not found,
-     * or an empty address book will be used instead if errors occur when reading {@code storage}'s address book.
+     * The data from {@code otherFormatStorage}'s address book will be imported if {@code storage}'s address book is
+     * not found, and the data from the sample address book will be used instead if neither is found.
+     * An empty address book will be used instead if errors occur when reading {@code storage}'s address book.
      */
-    private Model initModelManager(Storage storage, ReadOnlyUserPrefs userPrefs) {
+    private Model initModelManager(Storage storage, AddressBookStorage otherFormatStorage,
+            ReadOnlyUserPrefs userPrefs) {
         Optional<ReadOnlyAddressBook> addressBookOptional;
         ReadOnlyAddressBook initialData;
         try {
             addressBookOptional = storage.readAddressBook();
+            if (!addressBookOptional.isPresent()) {
+                addressBookOptional = importAddressBook(storage, otherFormatStorage);
+            }
             if (!addressBookOptional.isPresent()) {
                 logger.info("Data file not found. Will be starting with a sample AddressBook");
             }
             initialData = addressBookOptional.orElseGet(SampleDataUtil::getSampleAddressBook);
         } catch (DataConversionException e) {
-            logger.warning("Data file not in the correct format. Will be starting with an empty AddressBook");
+            logger.warning("Data file not in the correct format. Will be starting with an empty AddressBook. "
+                    + "The data file will be kept as a backup when the AddressBook is next saved");
             initialData = new AddressBook();
         } catch (IOException e) {
             logger.warning("Problem while reading from the file. Will be starting with an empty AddressBook");
             initialData = new AddressBook();
         }
 
+        Path historyJournalFilePath = userPrefs.getHistorySettings().getJournalFilePath();
+        if (historyJournalFilePath != null) {
+            try {
+                return new ModelManager(initialData, userPrefs, new JsonHistoryJournal(historyJournalFilePath));
+            } catch (IOException e) {
+                logger.warning("Problem while clearing the undo history journal. Will be keeping the undo history "
+                        + "in memory only");
+            }
+        }
         return new ModelManager(initialData, userPrefs);
     }
 
+    /**
+     * Returns the address book in {@code otherFormatStorage}, which is there when the data file format in the user
+     * prefs has just been changed, after saving it to {@code storage} in the new format.
+     * The file it was imported from is then renamed, so it is not imported again after it has gone out of date.
+     */
+    private Optional<ReadOnlyAddressBook> importAddressBook(Storage storage, AddressBookStorage otherFormatStorage)
+            throws DataConversionException, IOException {
+        Optional<ReadOnlyAddressBook> importedAddressBook = otherFormatStorage.readAddressBook();
+        if (importedAddressBook.isPresent()) {
+            Path importedFilePath = otherFormatStorage.getAddressBookFilePath();
+            logger.info("Importing data file " + importedFilePath + " into " + storage.getAddressBookFilePath());
+            storage.saveAddressBook(importedAddressBook.get());
+            Files.move(importedFilePath, importedFilePath.resolveSibling(importedFilePath.getFileName() + ".imported"),
+                    StandardCopyOption.REPLACE_EXISTING);
+        }
+        return importedAddressBook;
+    }
+
     private void initLogging(Config config) {
         LogsCenter.init(config);
     }
@@ -174,6 +221,11 @@ public class MainApp extends Application {
     @Override
     public void stop() {
         logger.info("============================ [ Stopping ConnectNUS ] =============================");
+        try {
+            logic.shutdown();
+        } catch (IOException e) {
+            logger.severe("Failed to save address book " + StringUtil.getDetails(e));
+        }
         try {
             storage.saveUserPrefs(model.getUserPrefs());
         } catch (IOException e) {
@@ -0,0 +1,11 @@
+package seedu.address.commons.core;
+
+/**
+ * The file formats that the address book can be stored in.
+ */
+public enum AddressBookFormat {
+    /** Human-readable JSON, which other tools can read and write. */
+    JSON,
+    /** Compact binary, which is smaller and faster to load and save for large address books. */
+    BINARY
+}
@@ -0,0 +1,80 @@
+package seedu.address.commons.core;
+
+import java.io.Serializable;
+import java.nio.file.Path;
+import java.util.Objects;
+
+/**
+ * A Serializable class that contains the undo history settings.
+ * Guarantees: immutable.
+ */
+public class HistorySettings implements Serializable {
+
+    private static final int DEFAULT_MAX_DEPTH = 100;
+    private static final long DEFAULT_MEMORY_BUDGET = 16L * 1024 * 1024;
+
+    private final int maxDepth;
+    private final long memoryBudget;
+    private final Path journalFilePath;
+
+    /**
+     * Constructs a {@code HistorySettings} with the default depth and memory budget, and no journal.
+     */
+    public HistorySettings() {
+        maxDepth = DEFAULT_MAX_DEPTH;
+        memoryBudget = DEFAULT_MEMORY_BUDGET;
+        journalFilePath = null; // null represents keeping the history in memory only
+    }
+
+    /**
+     * Constructs a {@code HistorySettings} with the specified depth, memory budget in bytes and journal file.
+     * States that no longer fit in the memory budget are spilled to the journal, or dropped if it is null.
+     */
+    public HistorySettings(int maxDepth, long memoryBudget, Path journalFilePath) {
+        this.maxDepth = maxDepth;
+        this.memoryBudget = memoryBudget;
+        this.journalFilePath = journalFilePath;
+    }
+
+    public int getMaxDepth() {
+        return maxDepth;
+    }
+
+    public long getMemoryBudget() {
+        return memoryBudget;
+    }
+
+    public Path getJournalFilePath() {
+        return journalFilePath;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+        if (!(other instanceof HistorySettings)) { //this handles null as well.
+            return false;
+        }
+
+        HistorySettings o = (HistorySettings) other;
+
+        return maxDepth == o.maxDepth
+                && memoryBudget == o.memoryBudget
+                && Objects.equals(journalFilePath, o.journalFilePath);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(maxDepth, memoryBudget, journalFilePath);
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder sb = new StringBuilder();
+        sb.append("Max depth : " + maxDepth + "\n");
+        sb.append("Memory budget : " + memoryBudget + "\n");
+        sb.append("Journal file location : " + journalFilePath);
+        return sb.toString();
+    }
+}
@@ -0,0 +1,43 @@
+package seedu.address.commons.util;
+
+import static java.util.Objects.requireNonNull;
+
+import java.lang.ref.WeakReference;
+import java.util.Map;
+import java.util.WeakHashMap;
+
+/**
+ * A pool of immutable values that keeps one shared instance of each value, so that equal values can be stored once
+ * however many times they are used.
+ * Values are held weakly, and are dropped from the pool once nothing else uses them.
+ * Values of different classes that are equal to each other should be kept in different pools.
+ * Guarantees: safe to use from several threads at once.
+ */
+public class InternPool<T> {
+
+    private final Map<T, WeakReference<T>> instances = new WeakHashMap<>();
+
+    /**
+     * Returns the instance in this pool that is equal to {@code value}, adding {@code value} as that instance if there
+     * is none.
+     */
+    public synchronized T intern(T value) {
+        requireNonNull(value);
+        WeakReference<T> reference = instances.get(value);
+        T instance = reference == null ? null : reference.get();
+        if (instance != null) {
+            return instance;
+        }
+        instances.put(value, new WeakReference<>(value));
+        return value;
+    }
+
+    /**
+     * Returns the number of instances in this pool, which may include instances that are no longer used but have not
+     * yet been dropped.
+     */
+    public synchronized int size() {
+        return instances.size();
+    }
+
+}
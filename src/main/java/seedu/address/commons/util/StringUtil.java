@@ -5,7 +5,7 @@ import static seedu.address.commons.util.AppUtil.checkArgument;
 
 import java.io.PrintWriter;
 import java.io.StringWriter;
-import java.util.Arrays;
+import java.util.function.Predicate;
 
 /**
  * Helper functions for handling strings.
@@ -27,15 +27,135 @@ public class StringUtil {
         requireNonNull(sentence);
         requireNonNull(word);
 
+        return containsPreppedWordIgnoreCase(sentence, prepWord(word));
+    }
+
+    /**
+     * Returns a predicate that tests if a sentence contains the {@code word}, in the same way as
+     * {@link #containsWordIgnoreCase(String, String)}.
+     * The {@code word} is checked once here rather than every time a sentence is tested.
+     * @param word cannot be null, cannot be empty, must be a single word
+     */
+    public static Predicate<String> wordMatcherIgnoreCase(String word) {
+        requireNonNull(word);
+
+        String preppedWord = prepWord(word);
+        return sentence -> containsPreppedWordIgnoreCase(requireNonNull(sentence), preppedWord);
+    }
+
+    /**
+     * Returns a predicate that tests if a sentence contains a word that is at most {@code maxEdits} single character
+     * insertions, deletions or substitutions away from the {@code word}, ignoring case.
+     *   <br>examples:<pre>
+     *       fuzzyWordMatcherIgnoreCase("alise", 1).test("Alice Pauline") == true
+     *       fuzzyWordMatcherIgnoreCase("alise", 1).test("Alicia Keys") == false //2 edits away
+     *       </pre>
+     * @param word cannot be null, cannot be empty, must be a single word
+     * @param maxEdits cannot be negative
+     */
+    public static Predicate<String> fuzzyWordMatcherIgnoreCase(String word, int maxEdits) {
+        requireNonNull(word);
+        checkArgument(maxEdits >= 0, "Number of edits cannot be negative");
+
+        String preppedWord = prepWord(word);
+        return sentence -> {
+            requireNonNull(sentence);
+            int start = 0;
+            while (start < sentence.length()) {
+                int end = indexOfWhitespace(sentence, start);
+                if (end == -1) {
+                    end = sentence.length();
+                }
+                if (Math.abs(end - start - preppedWord.length()) <= maxEdits
+                        && editDistanceIgnoreCase(sentence, start, end, preppedWord) <= maxEdits) {
+                    return true;
+                }
+                start = end + 1;
+            }
+            return false;
+        };
+    }
+
+    /**
+     * Returns the least number of single character insertions, deletions and substitutions that change
+     * {@code first} into {@code second}, ignoring case.
+     */
+    public static int editDistanceIgnoreCase(String first, String second) {
+        requireNonNull(first);
+        requireNonNull(second);
+
+        return editDistanceIgnoreCase(first, 0, first.length(), second);
+    }
+
+    /**
+     * Returns the edit distance from the characters of {@code first} from {@code start} to {@code end} to
+     * {@code second}, keeping only two rows of the distance table.
+     */
+    private static int editDistanceIgnoreCase(String first, int start, int end, String second) {
+        int[] previousRow = new int[second.length() + 1];
+        int[] row = new int[second.length() + 1];
+        for (int j = 0; j <= second.length(); j++) {
+            previousRow[j] = j;
+        }
+        for (int i = start; i < end; i++) {
+            row[0] = i - start + 1;
+            for (int j = 1; j <= second.length(); j++) {
+                int substitutionCost = first.regionMatches(true, i, second, j - 1, 1) ? 0 : 1;
+                row[j] = Math.min(previousRow[j - 1] + substitutionCost, Math.min(previousRow[j], row[j - 1]) + 1);
+            }
+            int[] swap = previousRow;
+            previousRow = row;
+            row = swap;
+        }
+        return previousRow[second.length()];
+    }
+
+    private static String prepWord(String word) {
         String preppedWord = word.trim();
         checkArgument(!preppedWord.isEmpty(), "Word parameter cannot be empty");
-        checkArgument(preppedWord.split("\\s+").length == 1, "Word parameter should be a single word");
+        checkArgument(indexOfWhitespace(preppedWord, 0) == -1, "Word parameter should be a single word");
+        return preppedWord;
+    }
 
-        String preppedSentence = sentence;
-        String[] wordsInPreppedSentence = preppedSentence.split("\\s+");
+    /**
+     * Scans the words of {@code sentence} in place, comparing each one of the same length as {@code preppedWord}
+     * against it, so that no words are split out of the sentence.
+     */
+    private static boolean containsPreppedWordIgnoreCase(String sentence, String preppedWord) {
+        int wordLength = preppedWord.length();
+        int start = 0;
+        while (start < sentence.length()) {
+            int end = indexOfWhitespace(sentence, start);
+            if (end == -1) {
+                end = sentence.length();
+            }
+            if (end - start == wordLength && sentence.regionMatches(true, start, preppedWord, 0, wordLength)) {
+                return true;
+            }
+            start = end + 1;
+        }
+        return false;
+    }
 
-        return Arrays.stream(wordsInPreppedSentence)
-                .anyMatch(preppedWord::equalsIgnoreCase);
+    /**
+     * Returns the index of the first whitespace character in {@code s} from {@code fromIndex}, or -1 if there is
+     * none. Whitespace is the same set of characters as {@code \s} in a regular expression.
+     */
+    private static int indexOfWhitespace(String s, int fromIndex) {
+        for (int i = fromIndex; i < s.length(); i++) {
+            switch (s.charAt(i)) {
+            case ' ':
+            case '\t':
+            case '\n':
+            case '\u000B':
+            case '\f':
+            case '\r':
+                return i;
+            default:
+                break;
+            }
+        }
+        return -1;
     }
 
     /**
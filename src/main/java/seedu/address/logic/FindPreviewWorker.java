@@ -0,0 +1,177 @@
+package seedu.address.logic;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Predicate;
+import java.util.stream.Collectors;
+
+import seedu.address.logic.commands.FindCommand;
+import seedu.address.model.Model;
+import seedu.address.model.person.Name;
+import seedu.address.model.person.NameContainsKeywordsPredicate;
+import seedu.address.model.person.Person;
+import seedu.address.model.search.PrefixIndex;
+
+/**
+ * Shows the persons that a find command being typed would look for in the filtered person list, before it is
+ * entered. While typing, the list shows the persons with a word in their name, tags or module codes starting with
+ * each of the words typed so far.
+ * Searches wait until typing pauses, and run on a background thread against the {@link PrefixIndex} of the model.
+ * When the words typed only extend the words of the results shown, the search narrows those results instead of
+ * starting over, so each keystroke looks at fewer persons than the last.
+ * Once no find command with keywords is being typed, the list goes back to the filter it had before the first
+ * preview was shown.
+ * Apart from {@link #shutdown()}, methods must be called on the thread that changes the model, and results are shown
+ * through an executor that runs them on that thread.
+ */
+public class FindPreviewWorker {
+
+    public static final long DEBOUNCE_MILLIS = 150;
+
+    private final Model model;
+    private final Executor modelThreadExecutor;
+    private final long debounceMillis;
+    private final ScheduledExecutorService executor = Executors.newSingleThreadScheduledExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "find-preview");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    /** Increases with every preview or cancel, so that searches that are no longer wanted can be dropped. */
+    private volatile long latestRequest;
+
+    // only used on the model thread; shownNames is null if no preview is shown
+    private List<String> shownPrefixes;
+    private Set<Name> shownNames;
+    private long shownVersion;
+    private Predicate<Person> predicateBeforePreview;
+
+    /**
+     * Creates a worker that previews find commands in {@code model}, showing the results through
+     * {@code modelThreadExecutor}.
+     */
+    public FindPreviewWorker(Model model, Executor modelThreadExecutor) {
+        this(model, modelThreadExecutor, DEBOUNCE_MILLIS);
+    }
+
+    FindPreviewWorker(Model model, Executor modelThreadExecutor, long debounceMillis) {
+        requireAllNonNull(model, modelThreadExecutor);
+        this.model = model;
+        this.modelThreadExecutor = modelThreadExecutor;
+        this.debounceMillis = debounceMillis;
+    }
+
+    /**
+     * Previews {@code commandText} once typing pauses, if it is a find command with keywords. Otherwise, any preview
+     * shown is replaced by the persons shown before it.
+     */
+    public void preview(String commandText) {
+        requireNonNull(commandText);
+        long request = ++latestRequest;
+
+        Optional<List<String>> prefixes = parsePrefixes(commandText);
+        if (prefixes.isEmpty()) {
+            if (shownNames != null) {
+                Predicate<Person> predicate = predicateBeforePreview;
+                forgetShownPreview();
+                model.updateFilteredPersonList(predicate);
+            }
+            return;
+        }
+
+        PrefixIndex prefixIndex = model.getPrefixIndex();
+        long version = model.getAddressBookVersion();
+        Set<Name> namesToNarrow = canNarrowShownPreview(prefixes.get(), version) ? shownNames : null;
+        executor.schedule(() -> search(request, prefixIndex, prefixes.get(), namesToNarrow, version),
+                debounceMillis, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * Drops any preview that is waiting to be shown, and leaves the filtered person list as it is. Called before a
+     * command is executed, which decides the list shown from then on.
+     */
+    public void cancel() {
+        latestRequest++;
+        forgetShownPreview();
+    }
+
+    /**
+     * Stops the background thread. No more previews can be made afterwards.
+     */
+    public void shutdown() {
+        executor.shutdownNow();
+    }
+
+    private void search(long request, PrefixIndex prefixIndex, List<String> prefixes, Set<Name> namesToNarrow,
+            long version) {
+        if (request != latestRequest) {
+            return;
+        }
+        Set<Name> names = namesToNarrow == null
+                ? prefixIndex.find(prefixes)
+                : prefixIndex.narrow(namesToNarrow, prefixes);
+        modelThreadExecutor.execute(() -> show(request, prefixes, names, version));
+    }
+
+    private void show(long request, List<String> prefixes, Set<Name> names, long version) {
+        // The results are stale if more was typed, or if a command changed the address book
+        if (request != latestRequest || version != model.getAddressBookVersion()) {
+            return;
+        }
+        if (shownNames == null) {
+            predicateBeforePreview = model.getFilteredPersonListPredicate();
+        }
+        shownPrefixes = prefixes;
+        shownNames = names;
+        shownVersion = version;
+        model.updateFilteredPersonList(person -> names.contains(person.getName()));
+    }
+
+    private void forgetShownPreview() {
+        shownPrefixes = null;
+        shownNames = null;
+        predicateBeforePreview = null;
+    }
+
+    /**
+     * Returns true if the persons matching {@code prefixes} are all among the persons shown, which is so when each of
+     * the prefixes shown is extended by the prefix in the same place, and the address book has not changed since.
+     */
+    private boolean canNarrowShownPreview(List<String> prefixes, long version) {
+        if (shownNames == null || shownVersion != version || prefixes.size() < shownPrefixes.size()) {
+            return false;
+        }
+        for (int i = 0; i < shownPrefixes.size(); i++) {
+            String shownPrefix = shownPrefixes.get(i);
+            if (!prefixes.get(i).regionMatches(true, 0, shownPrefix, 0, shownPrefix.length())) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Returns the keywords of {@code commandText} if it is a find command with keywords. Fuzzy keywords are left out,
+     * as they do not match by prefix.
+     */
+    private static Optional<List<String>> parsePrefixes(String commandText) {
+        String[] words = commandText.trim().split("\\s+");
+        if (words.length < 2 || !words[0].equals(FindCommand.COMMAND_WORD)) {
+            return Optional.empty();
+        }
+        List<String> prefixes = Arrays.stream(words, 1, words.length)
+                .filter(word -> !NameContainsKeywordsPredicate.isFuzzyKeyword(word))
+                .collect(Collectors.toList());
+        return prefixes.isEmpty() ? Optional.empty() : Optional.of(prefixes);
+    }
+
+}
@@ -1,7 +1,9 @@
 package seedu.address.logic;
 
+import java.io.IOException;
 import java.nio.file.Path;
 import java.util.Set;
+import java.util.function.Consumer;
 
 import javafx.collections.ObservableList;
 import seedu.address.commons.core.GuiSettings;
@@ -26,6 +28,25 @@ public interface Logic {
      */
     CommandResult execute(String commandText) throws CommandException, ParseException;
 
+    /**
+     * Previews the results of {@code commandText} in the filtered person list while it is being typed, if it is a
+     * find command. The results are shown once typing pauses.
+     * @param commandText The command typed so far.
+     */
+    void previewCommand(String commandText);
+
+    /**
+     * Sets the handler that is given the error message when the address book fails to save in the background.
+     * The handler may be called from a thread other than the JavaFX application thread.
+     */
+    void setSaveFailureHandler(Consumer<String> saveFailureHandler);
+
+    /**
+     * Writes any address book saves that are still pending to disk, and stops saving in the background.
+     * @throws IOException if the address book could not be saved.
+     */
+    void shutdown() throws IOException;
+
     /**
      * Returns the AddressBook.
      *
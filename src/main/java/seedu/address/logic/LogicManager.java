@@ -1,8 +1,11 @@
 package seedu.address.logic;
 
+import static java.util.Objects.requireNonNull;
+
 import java.io.IOException;
 import java.nio.file.Path;
 import java.util.Set;
+import java.util.function.Consumer;
 import java.util.logging.Logger;
 
 import javafx.collections.ObservableList;
@@ -18,6 +21,7 @@ import seedu.address.model.ReadOnlyAddressBook;
 import seedu.address.model.module.Lesson;
 import seedu.address.model.person.Person;
 import seedu.address.model.person.user.User;
+import seedu.address.storage.AddressBookSaveWorker;
 import seedu.address.storage.Storage;
 
 /**
@@ -29,25 +33,61 @@ public class LogicManager implements Logic {
 
     private final Model model;
     private final Storage storage;
+    private final AddressBookSaveWorker saveWorker;
+    private final FindPreviewWorker findPreviewWorker;
     private final AddressBookParser addressBookParser;
 
     /**
-     * Constructs a {@code LogicManager} with the given {@code Model} and {@code Storage}.
+     * Constructs a {@code LogicManager} with the given {@code Model} and {@code Storage}, which saves the address book
+     * before each command returns.
      */
     public LogicManager(Model model, Storage storage) {
+        this(model, storage, null);
+    }
+
+    /**
+     * Constructs a {@code LogicManager} with the given {@code Model} and {@code Storage}, which saves the address book
+     * in the background through {@code saveWorker}, or before each command returns if it is null.
+     */
+    public LogicManager(Model model, Storage storage, AddressBookSaveWorker saveWorker) {
+        this(model, storage, saveWorker, null);
+    }
+
+    /**
+     * Constructs a {@code LogicManager} with the given {@code Model} and {@code Storage}, which saves the address book
+     * in the background through {@code saveWorker}, or before each command returns if it is null, and previews find
+     * commands while they are typed through {@code findPreviewWorker}, or not at all if it is null.
+     */
+    public LogicManager(Model model, Storage storage, AddressBookSaveWorker saveWorker,
+            FindPreviewWorker findPreviewWorker) {
         this.model = model;
         this.storage = storage;
+        this.saveWorker = saveWorker;
+        this.findPreviewWorker = findPreviewWorker;
         addressBookParser = new AddressBookParser();
     }
 
     @Override
     public CommandResult execute(String commandText) throws CommandException, ParseException {
         logger.info("----------------[USER COMMAND][" + commandText + "]");
+        if (findPreviewWorker != null) {
+            findPreviewWorker.cancel();
+        }
 
         CommandResult commandResult;
         Command command = addressBookParser.parseCommand(commandText);
+        long versionBeforeCommand = model.getAddressBookVersion();
         commandResult = command.execute(model);
 
+        if (model.getAddressBookVersion() == versionBeforeCommand) {
+            return commandResult;
+        }
+
+        if (saveWorker != null) {
+            saveWorker.save(model.getAddressBook());
+            return commandResult;
+        }
+
         try {
             storage.saveAddressBook(model.getAddressBook());
         } catch (IOException ioe) {
@@ -57,6 +97,32 @@ public class LogicManager implements Logic {
         return commandResult;
     }
 
+    @Override
+    public void previewCommand(String commandText) {
+        requireNonNull(commandText);
+        if (findPreviewWorker != null) {
+            findPreviewWorker.preview(commandText);
+        }
+    }
+
+    @Override
+    public void setSaveFailureHandler(Consumer<String> saveFailureHandler) {
+        requireNonNull(saveFailureHandler);
+        if (saveWorker != null) {
+            saveWorker.setFailureHandler(ioe -> saveFailureHandler.accept(FILE_OPS_ERROR_MESSAGE + ioe));
+        }
+    }
+
+    @Override
+    public void shutdown() throws IOException {
+        if (findPreviewWorker != null) {
+            findPreviewWorker.shutdown();
+        }
+        if (saveWorker != null) {
+            saveWorker.shutdown();
+        }
+    }
+
     @Override
     public ReadOnlyAddressBook getAddressBook() {
         return model.getAddressBook();
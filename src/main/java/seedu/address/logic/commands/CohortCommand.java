@@ -0,0 +1,80 @@
+package seedu.address.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.model.Model;
+import seedu.address.model.module.GraduationRequirements;
+import seedu.address.model.module.RequirementProgress;
+import seedu.address.model.person.Person;
+
+/**
+ * A command used to show how far the displayed contacts are in clearing each core requirement and focus area, which is
+ * the check of the modsleft command run for every displayed contact at once.
+ */
+public class CohortCommand extends Command {
+
+    public static final String COMMAND_WORD = "cohort";
+
+    public static final String MESSAGE_USAGE = COMMAND_WORD + ": Shows how many of the displayed contacts have cleared "
+            + "each core requirement and focus area, and the modules that are most often left to clear.\n"
+            + "Example: " + COMMAND_WORD;
+
+    public static final String MESSAGE_SUCCESS = "Requirement progress of %1$d contacts:";
+    public static final String MESSAGE_REQUIREMENT = "%1$s: %2$d of %3$d cleared.";
+    public static final String MESSAGE_MOST_OUTSTANDING = " Most often left: %1$s";
+    public static final String MESSAGE_NO_CONTACTS = "No contacts to report on!";
+
+    /** Number of modules listed as most often left for each requirement. */
+    static final int MOST_OUTSTANDING_LIMIT = 3;
+
+    private final GraduationRequirements graduationRequirements = GraduationRequirements.getDefault();
+
+    @Override
+    public CommandResult execute(Model model) throws CommandException {
+        requireNonNull(model);
+
+        // Copied so that a parallel count splits the persons evenly, which the filtered list cannot do
+        List<Person> persons = new ArrayList<>(model.getFilteredPersonList());
+        if (persons.isEmpty()) {
+            throw new CommandException(MESSAGE_NO_CONTACTS);
+        }
+
+        RequirementProgress progress = RequirementProgress.of(graduationRequirements, persons,
+                this::findClearedModules);
+        StringBuilder builder = new StringBuilder(String.format(MESSAGE_SUCCESS, progress.getMemberCount()));
+        for (int i = 0; i < graduationRequirements.getRequirements().size(); i++) {
+            builder.append("\n").append(formatRequirement(progress, i));
+        }
+        return new CommandResult(builder.toString());
+    }
+
+    private BitSet findClearedModules(Person person) {
+        BitSet clearedModules = graduationRequirements.toModuleIds(person.getCurrModules());
+        clearedModules.or(graduationRequirements.toModuleIds(person.getPrevModules()));
+        return clearedModules;
+    }
+
+    private String formatRequirement(RequirementProgress progress, int requirementIndex) {
+        String line = String.format(MESSAGE_REQUIREMENT, graduationRequirements.getRequirements().get(requirementIndex),
+                progress.countCleared(requirementIndex), progress.getMemberCount());
+        List<String> mostOutstanding = progress.findMostOutstanding(requirementIndex, MOST_OUTSTANDING_LIMIT);
+        if (mostOutstanding.isEmpty()) {
+            return line;
+        }
+        return line + String.format(MESSAGE_MOST_OUTSTANDING, mostOutstanding.stream()
+                .map(code -> code + " (" + progress.countOutstanding(requirementIndex, code) + ")")
+                .collect(Collectors.joining(", ")));
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this // short circuit if same object
+                || other instanceof CohortCommand; // instanceof handles nulls
+    }
+}
@@ -22,7 +22,6 @@ public class DeleteCommand extends Command {
     @Override
     public CommandResult execute(Model model) throws CommandException {
         requireNonNull(model);
-        model.commitAddressBook();
         return new CommandResult("");
     }
 }
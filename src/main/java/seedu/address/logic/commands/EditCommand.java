@@ -52,7 +52,6 @@ public class EditCommand extends Command {
     @Override
     public CommandResult execute(Model model) throws CommandException {
         requireNonNull(model);
-        model.commitAddressBook();
         return new CommandResult("");
     }
 
@@ -7,17 +7,20 @@ import seedu.address.model.Model;
 import seedu.address.model.tag.TagsContainsKeywordsPredicate;
 
 /**
- * Finds and lists all persons in address book whose tags contain any of the argument keywords.
+ * Finds and lists all persons in address book whose tags contain any of the argument keywords, or match the tag
+ * query in the argument keywords.
  * Keyword matching is case insensitive.
  */
 public class FilterTagCommand extends Command {
 
     public static final String COMMAND_WORD = "filtertag";
 
-    public static final String MESSAGE_USAGE = COMMAND_WORD + ": Finds all persons whose tags contain any of"
-            + "the specified keywords (case-insensitive) and displays them as a list with index numbers.\n"
+    public static final String MESSAGE_USAGE = COMMAND_WORD + ": Finds all persons whose tags contain any of "
+            + "the specified keywords (case-insensitive) and displays them as a list with index numbers. "
+            + "Keywords can also be combined with AND, OR, NOT and brackets.\n"
             + "Parameters: KEYWORD [MORE_KEYWORDS]...\n"
-            + "Example: " + COMMAND_WORD + " friends";
+            + "Example: " + COMMAND_WORD + " friends\n"
+            + "Example: " + COMMAND_WORD + " friends AND NOT (family OR colleagues)";
 
     private final TagsContainsKeywordsPredicate predicate;
 
@@ -29,7 +32,6 @@ public class FilterTagCommand extends Command {
     public CommandResult execute(Model model) {
         requireNonNull(model);
         model.updateFilteredPersonList(predicate);
-        model.commitAddressBook();
         return new CommandResult(
                 String.format(Messages.MESSAGE_PERSONS_LISTED_OVERVIEW, model.getFilteredPersonList().size()));
     }
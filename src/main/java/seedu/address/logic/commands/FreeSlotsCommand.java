@@ -0,0 +1,128 @@
+package seedu.address.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_MIN_LENGTH;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_TAG;
+
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.stream.Collectors;
+
+import seedu.address.commons.core.Messages;
+import seedu.address.commons.core.index.Index;
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.model.Model;
+import seedu.address.model.module.BusyWeek;
+import seedu.address.model.module.FreeSlot;
+import seedu.address.model.person.Name;
+import seedu.address.model.person.Person;
+import seedu.address.model.tag.Tag;
+
+/**
+ * Lists the periods in which the user and a group of contacts all have no lessons, so that the group can meet.
+ * The group is made up of the contacts at the given indexes in the displayed person list, and the contacts in the
+ * address book with the given tag.
+ */
+public class FreeSlotsCommand extends Command {
+
+    public static final String COMMAND_WORD = "freeslots";
+
+    public static final LocalTime DAY_START = LocalTime.of(8, 0);
+    public static final LocalTime DAY_END = LocalTime.of(22, 0);
+    public static final int DEFAULT_MIN_MINUTES = 60;
+
+    public static final String MESSAGE_USAGE = COMMAND_WORD + ": Lists the times between " + DAY_START + " and "
+            + DAY_END + " when you and the contacts identified by the index numbers used in the displayed person "
+            + "list, or the contacts with the given tag, all have no lessons.\n"
+            + "Parameters: [INDEX]... [" + PREFIX_TAG + "TAG] [" + PREFIX_MIN_LENGTH + "MINUTES]\n"
+            + "Only free times of at least MINUTES minutes are listed, " + DEFAULT_MIN_MINUTES + " if not given.\n"
+            + "Example: " + COMMAND_WORD + " 1 2 3 " + PREFIX_MIN_LENGTH + "90\n"
+            + "Example: " + COMMAND_WORD + " " + PREFIX_TAG + "cs2103team";
+
+    public static final String MESSAGE_SUCCESS = "Times of at least %1$d minutes when you and %2$d contacts are free:"
+            + "\n%3$s";
+    public static final String MESSAGE_NO_FREE_SLOTS = "You and %2$d contacts have no common free time of at least "
+            + "%1$d minutes between " + DAY_START + " and " + DAY_END + ".";
+    public static final String MESSAGE_NO_TAGGED_CONTACTS = "No contacts are tagged %1$s!";
+
+    private final List<Index> indexes;
+    private final Optional<Tag> tag;
+    private final int minMinutes;
+
+    /**
+     * Creates a command to list the common free times of the user and the contacts at {@code indexes} or tagged
+     * with {@code tag} that are at least {@code minMinutes} long.
+     */
+    public FreeSlotsCommand(List<Index> indexes, Optional<Tag> tag, int minMinutes) {
+        requireAllNonNull(indexes, tag);
+        this.indexes = new ArrayList<>(indexes);
+        this.tag = tag;
+        this.minMinutes = minMinutes;
+    }
+
+    @Override
+    public CommandResult execute(Model model) throws CommandException {
+        requireNonNull(model);
+        List<Person> group = findGroup(model);
+
+        BusyWeek busyWeek = BusyWeek.unionOf(group, Person::getBusyWeek).union(model.getUser().getBusyWeek());
+        List<FreeSlot> freeSlots = busyWeek.findFreeSlots(DAY_START, DAY_END, minMinutes);
+
+        if (freeSlots.isEmpty()) {
+            return new CommandResult(String.format(MESSAGE_NO_FREE_SLOTS, minMinutes, group.size()));
+        }
+        String slotList = freeSlots.stream().map(FreeSlot::toString).collect(Collectors.joining("\n"));
+        return new CommandResult(String.format(MESSAGE_SUCCESS, minMinutes, group.size(), slotList));
+    }
+
+    /**
+     * Returns the contacts at the indexes and with the tag of this command, each once.
+     */
+    private List<Person> findGroup(Model model) throws CommandException {
+        List<Person> lastShownList = model.getFilteredPersonList();
+        Map<Name, Person> group = new LinkedHashMap<>();
+        for (Index index : indexes) {
+            if (index.getZeroBased() >= lastShownList.size()) {
+                throw new CommandException(Messages.MESSAGE_INVALID_PERSON_DISPLAYED_INDEX);
+            }
+            Person person = lastShownList.get(index.getZeroBased());
+            group.put(person.getName(), person);
+        }
+
+        if (tag.isPresent()) {
+            String tagName = tag.get().tagName;
+            boolean hasTaggedPersons = false;
+            for (Person person : model.getAddressBook().getPersonList()) {
+                if (person.getTags().stream().anyMatch(personTag -> personTag.tagName.equalsIgnoreCase(tagName))) {
+                    group.putIfAbsent(person.getName(), person);
+                    hasTaggedPersons = true;
+                }
+            }
+            if (!hasTaggedPersons) {
+                throw new CommandException(String.format(MESSAGE_NO_TAGGED_CONTACTS, tagName));
+            }
+        }
+        return new ArrayList<>(group.values());
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        if (!(other instanceof FreeSlotsCommand)) {
+            return false;
+        }
+
+        FreeSlotsCommand otherCommand = (FreeSlotsCommand) other;
+        return indexes.equals(otherCommand.indexes)
+                && tag.equals(otherCommand.tag)
+                && minMinutes == otherCommand.minMinutes;
+    }
+}
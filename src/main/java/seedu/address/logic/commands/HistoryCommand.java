@@ -0,0 +1,35 @@
+package seedu.address.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+
+import seedu.address.model.HistoryStatistics;
+import seedu.address.model.Model;
+
+/**
+ * Shows how many states are in the undo history and how much memory and disk space they take up.
+ */
+public class HistoryCommand extends Command {
+
+    public static final String COMMAND_WORD = "history";
+
+    public static final String MESSAGE_SUCCESS = "Undo history: %1$d states in memory (about %2$s), "
+            + "%3$d states on disk (%4$s)";
+
+    private static final long BYTES_PER_KILOBYTE = 1024;
+
+    @Override
+    public CommandResult execute(Model model) {
+        requireNonNull(model);
+        HistoryStatistics statistics = model.getHistoryStatistics();
+        return new CommandResult(String.format(MESSAGE_SUCCESS, statistics.getStatesInMemory(),
+                formatSize(statistics.getEstimatedMemory()), statistics.getStatesOnDisk(),
+                formatSize(statistics.getDiskUsage())));
+    }
+
+    /**
+     * Formats {@code bytes} in kilobytes, rounded up so that a small non-empty history does not show as 0 KB.
+     */
+    private static String formatSize(long bytes) {
+        return (bytes + BYTES_PER_KILOBYTE - 1) / BYTES_PER_KILOBYTE + " KB";
+    }
+}
@@ -47,7 +47,6 @@ public class ModuleCommand extends Command {
     @Override
     public CommandResult execute(Model model) throws CommandException {
         requireNonNull(model);
-        model.commitAddressBook();
         return new CommandResult("");
     }
 
@@ -8,6 +8,7 @@ import java.util.regex.Pattern;
 
 import seedu.address.logic.commands.AddCommand;
 import seedu.address.logic.commands.ClearCommand;
+import seedu.address.logic.commands.CohortCommand;
 import seedu.address.logic.commands.Command;
 import seedu.address.logic.commands.DeleteCommand;
 import seedu.address.logic.commands.EditCommand;
@@ -17,7 +18,9 @@ import seedu.address.logic.commands.FilterPlanModCommand;
 import seedu.address.logic.commands.FilterPrevModCommand;
 import seedu.address.logic.commands.FilterTagCommand;
 import seedu.address.logic.commands.FindCommand;
+import seedu.address.logic.commands.FreeSlotsCommand;
 import seedu.address.logic.commands.HelpCommand;
+import seedu.address.logic.commands.HistoryCommand;
 import seedu.address.logic.commands.LessonCommand;
 import seedu.address.logic.commands.ListCommand;
 import seedu.address.logic.commands.ModuleCommand;
@@ -105,6 +108,12 @@ public class AddressBookParser {
         case FilterPlanModCommand.COMMAND_WORD:
             return new FilterPlanModCommandParser().parse(arguments);
 
+        case FreeSlotsCommand.COMMAND_WORD:
+            return new FreeSlotsCommandParser().parse(arguments);
+
+        case CohortCommand.COMMAND_WORD:
+            return new CohortCommand();
+
         case NextSemCommand.COMMAND_WORD:
             return new NextSemCommand();
 
@@ -114,6 +123,9 @@ public class AddressBookParser {
         case RedoCommand.COMMAND_WORD:
             return new RedoCommand();
 
+        case HistoryCommand.COMMAND_WORD:
+            return new HistoryCommand();
+
         case ExitCommand.COMMAND_WORD:
             return new ExitCommand();
 
@@ -21,5 +21,6 @@ public class CliSyntax {
     public static final Prefix PREFIX_DAY = new Prefix("d/");
     public static final Prefix PREFIX_START = new Prefix("start/");
     public static final Prefix PREFIX_END = new Prefix("end/");
+    public static final Prefix PREFIX_MIN_LENGTH = new Prefix("min/");
 
 }
@@ -4,6 +4,7 @@ import static seedu.address.commons.core.Messages.MESSAGE_INVALID_COMMAND_FORMAT
 
 import seedu.address.logic.commands.FilterTagCommand;
 import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.model.tag.TagQuery;
 import seedu.address.model.tag.TagsContainsKeywordsPredicate;
 
 /**
@@ -25,6 +26,10 @@ public class FilterTagCommandParser implements Parser<FilterTagCommand> {
 
         String tagKeyword = trimmedArgs;
 
-        return new FilterTagCommand(new TagsContainsKeywordsPredicate(tagKeyword));
+        try {
+            return new FilterTagCommand(new TagsContainsKeywordsPredicate(tagKeyword));
+        } catch (IllegalArgumentException e) {
+            throw new ParseException(TagQuery.MESSAGE_CONSTRAINTS, e);
+        }
     }
 }
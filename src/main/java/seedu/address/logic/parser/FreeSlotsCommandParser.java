@@ -0,0 +1,73 @@
+package seedu.address.logic.parser;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.core.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_MIN_LENGTH;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_TAG;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+import seedu.address.commons.core.index.Index;
+import seedu.address.logic.commands.FreeSlotsCommand;
+import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.model.tag.Tag;
+
+/**
+ * Parses input arguments and creates a new FreeSlotsCommand object
+ */
+public class FreeSlotsCommandParser implements Parser<FreeSlotsCommand> {
+
+    public static final String MESSAGE_INVALID_MIN_LENGTH = "The minimum length should be a whole number of minutes "
+            + "from 1 to " + 24 * 60 + ".";
+
+    /**
+     * Parses the given {@code String} of arguments in the context of the FreeSlotsCommand
+     * and returns a FreeSlotsCommand object for execution.
+     * @throws ParseException if the user input does not conform the expected format
+     */
+    public FreeSlotsCommand parse(String args) throws ParseException {
+        requireNonNull(args);
+        ArgumentMultimap argMultimap = ArgumentTokenizer.tokenize(args, PREFIX_TAG, PREFIX_MIN_LENGTH);
+
+        String preamble = argMultimap.getPreamble();
+        Optional<String> tagName = argMultimap.getValue(PREFIX_TAG);
+        if (preamble.isEmpty() && tagName.isEmpty()) {
+            throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, FreeSlotsCommand.MESSAGE_USAGE));
+        }
+
+        List<Index> indexes = new ArrayList<>();
+        try {
+            for (String index : preamble.split("\\s+")) {
+                if (!index.isEmpty()) {
+                    indexes.add(ParserUtil.parseIndex(index));
+                }
+            }
+        } catch (ParseException pe) {
+            throw new ParseException(
+                    String.format(MESSAGE_INVALID_COMMAND_FORMAT, FreeSlotsCommand.MESSAGE_USAGE), pe);
+        }
+
+        Optional<Tag> tag = tagName.isPresent() ? Optional.of(ParserUtil.parseTag(tagName.get())) : Optional.empty();
+
+        int minMinutes = FreeSlotsCommand.DEFAULT_MIN_MINUTES;
+        if (argMultimap.getValue(PREFIX_MIN_LENGTH).isPresent()) {
+            minMinutes = parseMinutes(argMultimap.getValue(PREFIX_MIN_LENGTH).get());
+        }
+
+        return new FreeSlotsCommand(indexes, tag, minMinutes);
+    }
+
+    private static int parseMinutes(String minutes) throws ParseException {
+        try {
+            int parsedMinutes = Integer.parseInt(minutes.trim());
+            if (parsedMinutes < 1 || parsedMinutes > 24 * 60) {
+                throw new ParseException(MESSAGE_INVALID_MIN_LENGTH);
+            }
+            return parsedMinutes;
+        } catch (NumberFormatException e) {
+            throw new ParseException(MESSAGE_INVALID_MIN_LENGTH, e);
+        }
+    }
+}
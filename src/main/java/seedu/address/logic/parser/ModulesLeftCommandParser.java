@@ -17,6 +17,9 @@ public class ModulesLeftCommandParser implements Parser<ModulesLeftCommand> {
      * @throws ParseException if the user input does not conform the expected format
      */
     public ModulesLeftCommand parse(String args) throws ParseException {
+        if (args.trim().equals("closest")) {
+            return new ModulesLeftCommand();
+        }
         try {
             Index index = ParserUtil.parseIndex(args);
             return new ModulesLeftCommand(index);
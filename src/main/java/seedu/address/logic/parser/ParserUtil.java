@@ -137,7 +137,7 @@ public class ParserUtil {
         if (!Tag.isValidTagName(trimmedTag)) {
             throw new ParseException(Tag.MESSAGE_CONSTRAINTS);
         }
-        return new Tag(trimmedTag);
+        return Tag.of(trimmedTag);
     }
 
     /**
@@ -164,7 +164,7 @@ public class ParserUtil {
         if (!Module.isValidModuleName(trimmedMod)) {
             throw new ParseException(Module.MESSAGE_CONSTRAINTS);
         }
-        return new Module(trimmedMod);
+        return Module.of(trimmedMod);
     }
 
     /**
@@ -192,7 +192,7 @@ public class ParserUtil {
         if (!Module.isValidModuleName(trimmedMod)) {
             throw new ParseException(Module.MESSAGE_CONSTRAINTS);
         }
-        return new CurrentModule(trimmedMod);
+        return CurrentModule.of(trimmedMod);
     }
 
     /**
@@ -220,7 +220,7 @@ public class ParserUtil {
         if (!Module.isValidModuleName(trimmedMod)) {
             throw new ParseException(Module.MESSAGE_CONSTRAINTS);
         }
-        return new PreviousModule(trimmedMod);
+        return PreviousModule.of(trimmedMod);
     }
 
     /**
@@ -247,7 +247,7 @@ public class ParserUtil {
         if (!Module.isValidModuleName(trimmedMod)) {
             throw new ParseException(Module.MESSAGE_CONSTRAINTS);
         }
-        return new PlannedModule(trimmedMod);
+        return PlannedModule.of(trimmedMod);
     }
 
     /**
@@ -3,14 +3,24 @@ package seedu.address.model;
 import static java.util.Objects.requireNonNull;
 
 import java.util.List;
+import java.util.Optional;
+import java.util.function.Predicate;
 
 import javafx.collections.ObservableList;
 import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.model.module.CurrModContainsKeywordsPredicate;
 import seedu.address.model.module.Lesson;
+import seedu.address.model.module.PlanModContainsKeywordsPredicate;
+import seedu.address.model.module.PrevModContainsKeywordsPredicate;
+import seedu.address.model.person.NameContainsKeywordsPredicate;
 import seedu.address.model.person.Person;
 import seedu.address.model.person.UniquePersonList;
 import seedu.address.model.person.user.EmptyUser;
+import seedu.address.model.person.user.ExistingUser;
 import seedu.address.model.person.user.User;
+import seedu.address.model.search.PrefixIndex;
+import seedu.address.model.tag.TagQuery;
+import seedu.address.model.tag.TagsContainsKeywordsPredicate;
 
 /**
  * Wraps all data at the address-book level
@@ -66,8 +76,24 @@ public class AddressBook implements ReadOnlyAddressBook {
      */
     public void resetData(ReadOnlyAddressBook newData) {
         requireNonNull(newData);
-        setUser(newData.getUser());
-        setPersons(newData.getPersonList());
+        batch(() -> {
+            setUser(newData.getUser());
+            setPersons(newData.getPersonList());
+        });
+    }
+
+    /**
+     * Runs {@code changes}, which change this address book, as one batch: listeners of the person list are told of
+     * all the changes to it in one change once {@code changes} is done, rather than one change each.
+     */
+    public void batch(Runnable changes) {
+        requireNonNull(changes);
+        persons.beginBatch();
+        try {
+            changes.run();
+        } finally {
+            persons.endBatch();
+        }
     }
 
     //// user operations
@@ -93,12 +119,28 @@ public class AddressBook implements ReadOnlyAddressBook {
         user = emptyUser;
     }
 
+    /**
+     * Adds {@code lesson} to a copy of the user, leaving the previous user object untouched for any earlier state
+     * that still refers to it.
+     */
     public void addLessonToUser(Lesson lesson) throws CommandException {
-        user.addLesson(lesson);
+        User updatedUser = copyOfUser();
+        updatedUser.addLesson(lesson);
+        user = updatedUser;
     }
 
+    /**
+     * Removes {@code lesson} from a copy of the user, leaving the previous user object untouched for any earlier
+     * state that still refers to it.
+     */
     public void removeLessonToUser(Lesson lesson) throws CommandException {
-        user.removeLesson(lesson);
+        User updatedUser = copyOfUser();
+        updatedUser.removeLesson(lesson);
+        user = updatedUser;
+    }
+
+    private User copyOfUser() {
+        return hasUser() ? new ExistingUser(user) : user;
     }
 
     //// person-level operations
@@ -119,6 +161,36 @@ public class AddressBook implements ReadOnlyAddressBook {
         persons.add(p);
     }
 
+    /**
+     * Adds a person to the address book at position {@code index} of the person list.
+     * The person must not already exist in the address book.
+     */
+    public void addPerson(int index, Person p) {
+        persons.add(index, p);
+    }
+
+    /**
+     * Returns the position of {@code person} in the person list, or -1 if it is not in the address book.
+     */
+    public int indexOfPerson(Person person) {
+        return persons.indexOf(person);
+    }
+
+    /**
+     * Returns the number of persons in the address book, including changes made in an open batch.
+     */
+    public int countPersons() {
+        return persons.size();
+    }
+
+    /**
+     * Returns the persons in the address book, which unlike {@link #getPersonList()} shows the changes made in an
+     * open batch right away.
+     */
+    public List<Person> getCurrentPersonList() {
+        return persons.asUnmodifiableCurrentList();
+    }
+
     /**
      * Replaces the given person {@code target} in the list with {@code editedPerson}.
      * {@code target} must exist in the address book.
@@ -137,6 +209,37 @@ public class AddressBook implements ReadOnlyAddressBook {
     public void removePerson(Person key) {
         persons.remove(key);
     }
+
+    /**
+     * Returns a predicate that gives the same results as {@code predicate}, answered from the search indexes of this
+     * address book if {@code predicate} is a name, module or tag keyword predicate, or {@code predicate} itself
+     * otherwise.
+     */
+    public Predicate<Person> toIndexedPredicate(Predicate<Person> predicate) {
+        requireNonNull(predicate);
+        if (predicate instanceof NameContainsKeywordsPredicate) {
+            return persons.nameKeywordsMatcher(((NameContainsKeywordsPredicate) predicate).getKeywords());
+        } else if (predicate instanceof CurrModContainsKeywordsPredicate) {
+            return persons.currModuleKeywordsMatcher(((CurrModContainsKeywordsPredicate) predicate).getKeywords());
+        } else if (predicate instanceof PrevModContainsKeywordsPredicate) {
+            return persons.prevModuleKeywordsMatcher(((PrevModContainsKeywordsPredicate) predicate).getKeywords());
+        } else if (predicate instanceof PlanModContainsKeywordsPredicate) {
+            return persons.planModuleKeywordsMatcher(((PlanModContainsKeywordsPredicate) predicate).getKeywords());
+        } else if (predicate instanceof TagsContainsKeywordsPredicate) {
+            // Blank keywords have no query, and match no one
+            Optional<TagQuery> query = ((TagsContainsKeywordsPredicate) predicate).getQuery();
+            return query.isPresent() ? persons.tagQueryMatcher(query.get()) : predicate;
+        }
+        return predicate;
+    }
+
+    /**
+     * Returns the index of the prefixes of the words in each person's name, tags and module codes, building it
+     * first if needed.
+     */
+    public PrefixIndex getPrefixIndex() {
+        return persons.getPrefixIndex();
+    }
     //// util methods
 
     @Override
@@ -0,0 +1,266 @@
+package seedu.address.model;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Set;
+
+import seedu.address.model.person.Person;
+import seedu.address.model.person.user.ExistingUser;
+import seedu.address.model.person.user.User;
+
+/**
+ * An invertible change made to an {@code AddressBook}, recorded in the undo/redo history.
+ * Each change holds only the objects it touched, so it can be applied or reverted without copying the address book.
+ * Changes are also written out to a {@code HistoryJournal} when older states are spilled to disk.
+ */
+public abstract class AddressBookChange {
+
+    private static final long CHANGE_OVERHEAD = 32;
+    private static final long PERSON_OVERHEAD = 320;
+    private static final long FIELD_OVERHEAD = 64;
+    private static final long PENDING_PERSON_OVERHEAD = 96;
+    private static final long REFERENCE_SIZE = 8;
+
+    /**
+     * Makes this change to {@code addressBook}, which must be in the state the change was recorded from.
+     */
+    abstract void apply(AddressBook addressBook);
+
+    /**
+     * Undoes this change on {@code addressBook}, which must be in the state the change left it in.
+     */
+    abstract void revert(AddressBook addressBook);
+
+    /**
+     * Returns a rough estimate, in bytes, of the memory this change keeps alive.
+     */
+    public abstract long estimateSize();
+
+    /**
+     * Returns a rough estimate, in bytes, of the memory held by {@code person}: a fixed overhead for the object and
+     * its fields, two bytes per character of text, and a fixed cost per tag, module and lesson.
+     * A person whose details are still to be loaded is charged a fixed overhead for the object and its name, as the
+     * details would otherwise be loaded just to be measured.
+     */
+    static long estimateSize(Person person) {
+        if (person.getPendingDetailsLoader().isPresent()) {
+            return PENDING_PERSON_OVERHEAD + 2 * person.getName().fullName.length();
+        }
+        long textLength = person.getName().fullName.length() + person.getPhone().value.length()
+                + person.getEmail().value.length() + person.getAddress().value.length()
+                + person.getGithub().value.length();
+        int fieldCount = person.getTags().size() + person.getCurrModules().size() + person.getPrevModules().size()
+                + person.getPlanModules().size() + person.getLessons().size();
+        return PERSON_OVERHEAD + 2 * textLength + FIELD_OVERHEAD * fieldCount;
+    }
+
+    /**
+     * Returns a rough estimate, in bytes, of the memory held by {@code user}, in the same way as for a person.
+     */
+    static long estimateSize(User user) {
+        if (!(user instanceof ExistingUser)) {
+            return CHANGE_OVERHEAD;
+        }
+        long textLength = user.getName().fullName.length() + user.getPhone().value.length()
+                + user.getEmail().value.length() + user.getAddress().value.length()
+                + user.getGithub().value.length();
+        int fieldCount = user.getCurrModules().size() + user.getPrevModules().size()
+                + user.getPlanModules().size() + user.getLessons().size();
+        return PERSON_OVERHEAD + 2 * textLength + FIELD_OVERHEAD * fieldCount;
+    }
+
+    /**
+     * A person added at position {@code index} of the person list.
+     */
+    public static class AddPerson extends AddressBookChange {
+        private final int index;
+        private final Person person;
+
+        public AddPerson(int index, Person person) {
+            this.index = index;
+            this.person = person;
+        }
+
+        @Override
+        void apply(AddressBook addressBook) {
+            addressBook.addPerson(index, person);
+        }
+
+        @Override
+        void revert(AddressBook addressBook) {
+            addressBook.removePerson(person);
+        }
+
+        @Override
+        public long estimateSize() {
+            return CHANGE_OVERHEAD + estimateSize(person);
+        }
+
+        public int getIndex() {
+            return index;
+        }
+
+        public Person getPerson() {
+            return person;
+        }
+    }
+
+    /**
+     * A person removed from position {@code index} of the person list.
+     */
+    public static class RemovePerson extends AddressBookChange {
+        private final int index;
+        private final Person person;
+
+        public RemovePerson(int index, Person person) {
+            this.index = index;
+            this.person = person;
+        }
+
+        @Override
+        void apply(AddressBook addressBook) {
+            addressBook.removePerson(person);
+        }
+
+        @Override
+        void revert(AddressBook addressBook) {
+            addressBook.addPerson(index, person);
+        }
+
+        @Override
+        public long estimateSize() {
+            return CHANGE_OVERHEAD + estimateSize(person);
+        }
+
+        public int getIndex() {
+            return index;
+        }
+
+        public Person getPerson() {
+            return person;
+        }
+    }
+
+    /**
+     * A person replaced in place by an edited person.
+     */
+    public static class SetPerson extends AddressBookChange {
+        private final Person target;
+        private final Person editedPerson;
+
+        public SetPerson(Person target, Person editedPerson) {
+            this.target = target;
+            this.editedPerson = editedPerson;
+        }
+
+        @Override
+        void apply(AddressBook addressBook) {
+            addressBook.setPerson(target, editedPerson);
+        }
+
+        @Override
+        void revert(AddressBook addressBook) {
+            addressBook.setPerson(editedPerson, target);
+        }
+
+        @Override
+        public long estimateSize() {
+            return CHANGE_OVERHEAD + estimateSize(target) + estimateSize(editedPerson);
+        }
+
+        public Person getTarget() {
+            return target;
+        }
+
+        public Person getEditedPerson() {
+            return editedPerson;
+        }
+    }
+
+    /**
+     * The user replaced by another user, which covers adding, editing and deleting the user as well as changes to
+     * the user's lessons.
+     */
+    public static class SetUser extends AddressBookChange {
+        private final User previousUser;
+        private final User user;
+
+        public SetUser(User previousUser, User user) {
+            this.previousUser = previousUser;
+            this.user = user;
+        }
+
+        @Override
+        void apply(AddressBook addressBook) {
+            addressBook.setUser(user);
+        }
+
+        @Override
+        void revert(AddressBook addressBook) {
+            addressBook.setUser(previousUser);
+        }
+
+        @Override
+        public long estimateSize() {
+            return CHANGE_OVERHEAD + estimateSize(previousUser) + estimateSize(user);
+        }
+
+        public User getPreviousUser() {
+            return previousUser;
+        }
+
+        public User getUser() {
+            return user;
+        }
+    }
+
+    /**
+     * The whole person list replaced, such as when the address book is cleared.
+     * The persons the list is replaced with are shared with the address book, so they, and the previous persons that
+     * are still among them, are only charged for their places in the lists.
+     */
+    public static class SetPersons extends AddressBookChange {
+        private final List<Person> previousPersons;
+        private final List<Person> persons;
+
+        public SetPersons(List<Person> previousPersons, List<Person> persons) {
+            this.previousPersons = new ArrayList<>(previousPersons);
+            this.persons = new ArrayList<>(persons);
+        }
+
+        @Override
+        void apply(AddressBook addressBook) {
+            addressBook.setPersons(persons);
+        }
+
+        @Override
+        void revert(AddressBook addressBook) {
+            addressBook.setPersons(previousPersons);
+        }
+
+        @Override
+        public long estimateSize() {
+            // Compared by identity, as equal persons that are different objects are not shared
+            Set<Person> sharedPersons = Collections.newSetFromMap(new IdentityHashMap<>());
+            sharedPersons.addAll(persons);
+
+            long size = CHANGE_OVERHEAD + REFERENCE_SIZE * (previousPersons.size() + persons.size());
+            for (Person person : previousPersons) {
+                if (!sharedPersons.contains(person)) {
+                    size += estimateSize(person);
+                }
+            }
+            return size;
+        }
+
+        public List<Person> getPreviousPersons() {
+            return Collections.unmodifiableList(previousPersons);
+        }
+
+        public List<Person> getPersons() {
+            return Collections.unmodifiableList(persons);
+        }
+    }
+}
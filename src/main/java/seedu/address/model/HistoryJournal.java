@@ -0,0 +1,45 @@
+package seedu.address.model;
+
+import java.io.IOException;
+import java.util.List;
+
+import seedu.address.commons.exceptions.DataConversionException;
+
+/**
+ * Stores the oldest states of the undo history outside of memory, so that they can still be undone into.
+ * States are pushed from the oldest end of the in-memory history and popped back in the reverse order.
+ */
+public interface HistoryJournal {
+
+    /**
+     * Saves {@code changes} as the newest state in the journal.
+     * @throws IOException if there was any problem writing to the journal.
+     */
+    void push(List<AddressBookChange> changes) throws IOException;
+
+    /**
+     * Removes the newest state from the journal and returns its changes.
+     * @throws DataConversionException if the state in the journal could not be read back.
+     * @throws IOException if there was any problem reading from the journal.
+     */
+    List<AddressBookChange> pop() throws DataConversionException, IOException;
+
+    /**
+     * Discards the oldest state in the journal.
+     * @throws IOException if there was any problem writing to the journal.
+     */
+    void removeOldest() throws IOException;
+
+    /**
+     * Discards every state in the journal.
+     * @throws IOException if there was any problem writing to the journal.
+     */
+    void clear() throws IOException;
+
+    /** Returns the number of states in the journal. */
+    int size();
+
+    /** Returns the number of bytes the journal takes up on disk. */
+    long getFileSize();
+
+}
@@ -0,0 +1,57 @@
+package seedu.address.model;
+
+import java.util.Objects;
+
+/**
+ * The size of the undo history at a point in time.
+ * Guarantees: immutable.
+ */
+public class HistoryStatistics {
+
+    private final int statesInMemory;
+    private final long estimatedMemory;
+    private final int statesOnDisk;
+    private final long diskUsage;
+
+    /**
+     * Every field must be present and not negative.
+     */
+    public HistoryStatistics(int statesInMemory, long estimatedMemory, int statesOnDisk, long diskUsage) {
+        this.statesInMemory = statesInMemory;
+        this.estimatedMemory = estimatedMemory;
+        this.statesOnDisk = statesOnDisk;
+        this.diskUsage = diskUsage;
+    }
+
+    public int getStatesInMemory() {
+        return statesInMemory;
+    }
+
+    public long getEstimatedMemory() {
+        return estimatedMemory;
+    }
+
+    public int getStatesOnDisk() {
+        return statesOnDisk;
+    }
+
+    public long getDiskUsage() {
+        return diskUsage;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this // short circuit if same object
+                || (other instanceof HistoryStatistics // instanceof handles nulls
+                && statesInMemory == ((HistoryStatistics) other).statesInMemory
+                && estimatedMemory == ((HistoryStatistics) other).estimatedMemory
+                && statesOnDisk == ((HistoryStatistics) other).statesOnDisk
+                && diskUsage == ((HistoryStatistics) other).diskUsage);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(statesInMemory, estimatedMemory, statesOnDisk, diskUsage);
+    }
+
+}
@@ -2,6 +2,7 @@ package seedu.address.model;
 
 import java.nio.file.Path;
 import java.util.Set;
+import java.util.function.Consumer;
 import java.util.function.Predicate;
 
 import javafx.collections.ObservableList;
@@ -10,6 +11,7 @@ import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.model.module.Lesson;
 import seedu.address.model.person.Person;
 import seedu.address.model.person.user.User;
+import seedu.address.model.search.PrefixIndex;
 
 /**
  * The API of the Model component.
@@ -56,6 +58,13 @@ public interface Model {
     /** Returns the AddressBook */
     ReadOnlyAddressBook getAddressBook();
 
+    /**
+     * Makes the changes of {@code changes} to the address book as one batch: the filtered person list and other
+     * listeners of the person list see all of them in one change once {@code changes} is done, instead of one change
+     * each. Bulk changes to many persons should be made in a batch.
+     */
+    void batch(Consumer<Model> changes);
+
     /**
      * Returns true if a user already exists in the address book.
      */
@@ -118,6 +127,18 @@ public interface Model {
      */
     void updateFilteredPersonList(Predicate<Person> predicate);
 
+    /**
+     * Returns the predicate that the filtered person list was last filtered by.
+     */
+    Predicate<Person> getFilteredPersonListPredicate();
+
+    /**
+     * Returns the index of the prefixes of the words in each person's name, tags and module codes, building it first
+     * if needed. It must be called on the thread that changes the model, but the index can then be searched from any
+     * thread.
+     */
+    PrefixIndex getPrefixIndex();
+
     /**
      * @return the set of lessons in focus.
      */
@@ -135,9 +156,16 @@ public interface Model {
 
     /**
      * Commits current AddressBook into VersionedAddressBook.
+     * Nothing is added to the history if the AddressBook has not changed since the last commit.
      */
     void commitAddressBook();
 
+    /**
+     * Returns a number that changes whenever the address book is changed, so that callers can tell if a command
+     * changed the address book by comparing the versions before and after it.
+     */
+    long getAddressBookVersion();
+
     /**
      * Returns if VersionedAddressBook can be undid.
      * @return If undo is possible
@@ -160,4 +188,9 @@ public interface Model {
      */
     void redoAddressBook();
 
+    /**
+     * Returns the number of states in the undo history and how much memory and disk space they take up.
+     */
+    HistoryStatistics getHistoryStatistics();
+
 }
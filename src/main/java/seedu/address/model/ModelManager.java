@@ -3,32 +3,27 @@ package seedu.address.model;
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
+import java.io.IOException;
 import java.nio.file.Path;
+import java.util.ArrayList;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Set;
+import java.util.function.Consumer;
 import java.util.function.Predicate;
 import java.util.logging.Logger;
+import java.util.stream.Collectors;
 
 import javafx.collections.ObservableList;
 import javafx.collections.transformation.FilteredList;
 import seedu.address.commons.core.GuiSettings;
 import seedu.address.commons.core.LogsCenter;
-import seedu.address.logic.commands.ModuleCommand;
 import seedu.address.logic.commands.exceptions.CommandException;
-import seedu.address.model.module.CurrentModule;
 import seedu.address.model.module.Lesson;
-import seedu.address.model.module.PlannedModule;
-import seedu.address.model.module.PreviousModule;
-import seedu.address.model.person.Address;
-import seedu.address.model.person.Email;
-import seedu.address.model.person.Github;
 import seedu.address.model.person.Name;
 import seedu.address.model.person.Person;
-import seedu.address.model.person.Phone;
-import seedu.address.model.person.user.ExistingUser;
 import seedu.address.model.person.user.User;
-import seedu.address.model.tag.Tag;
+import seedu.address.model.search.PrefixIndex;
 
 /**
  * Represents the in-memory model of the address book data.
@@ -39,6 +34,7 @@ public class ModelManager implements Model {
     private final VersionedAddressBook versionedAddressBook;
     private final UserPrefs userPrefs;
     private final FilteredList<Person> filteredPersons;
+    private Predicate<Person> filteredPersonsPredicate = PREDICATE_SHOW_ALL_PERSONS;
     private Set<Lesson> timetable = new HashSet<>();
 
     /**
@@ -48,13 +44,26 @@ public class ModelManager implements Model {
                         ReadOnlyUserPrefs userPrefs) {
         requireAllNonNull(addressBook, userPrefs);
 
-        logger.fine("Initializing with address book: " + addressBook + " and user prefs " + userPrefs);
+        // The message lists every person, so it is only built if it is going to be logged
+        logger.fine(() -> "Initializing with address book: " + addressBook + " and user prefs " + userPrefs);
 
-        this.versionedAddressBook = new VersionedAddressBook(addressBook);
+        this.versionedAddressBook = new VersionedAddressBook(addressBook, userPrefs.getHistorySettings());
         this.userPrefs = new UserPrefs(userPrefs);
         filteredPersons = new FilteredList<>(this.versionedAddressBook.getPersonList());
     }
 
+    /**
+     * Initializes a ModelManager with the given addressBook and userPrefs, which spills the oldest states of its
+     * undo history to historyJournal.
+     */
+    public ModelManager(ReadOnlyAddressBook addressBook, ReadOnlyUserPrefs userPrefs,
+                        HistoryJournal historyJournal) throws IOException {
+        this(addressBook, userPrefs);
+        requireNonNull(historyJournal);
+
+        versionedAddressBook.setHistoryJournal(historyJournal);
+    }
+
     public ModelManager() {
         this(new AddressBook(), new UserPrefs());
     }
@@ -106,6 +115,12 @@ public class ModelManager implements Model {
         return versionedAddressBook;
     }
 
+    @Override
+    public void batch(Consumer<Model> changes) {
+        requireNonNull(changes);
+        versionedAddressBook.batch(() -> changes.accept(this));
+    }
+
     @Override
     public boolean hasUser() {
         return versionedAddressBook.hasUser();
@@ -183,95 +198,36 @@ public class ModelManager implements Model {
 
     @Override
     public void nextSem() throws CommandException {
-        List<Person> currentPeopleList = getFilteredPersonList();
-
-        for (int i = 0; i < currentPeopleList.size(); i++) {
-            Person personToEdit = currentPeopleList.get(i);
-            ModuleCommand.EditModuleDescriptor editModuleDescriptor = new ModuleCommand.EditModuleDescriptor();
-            editModuleDescriptor.setCurrModules(null);
-            editModuleDescriptor.setPlanModules(personToEdit.getPlanModules());
-            Set<PreviousModule> updatedPreviousModules = new HashSet<>();
-            for (int n = 0; n < personToEdit.getCurrModules().size(); n++) {
-                Object currCurrentModule = personToEdit.getCurrModules().toArray()[n];
-                if (currCurrentModule instanceof CurrentModule) {
-                    CurrentModule currentModule = (CurrentModule) currCurrentModule;
-                    updatedPreviousModules.add(currentModule.toPrevModule());
-                }
+        // The shown persons are rolled over from a snapshot of the list, which is then replaced in one batch, so the
+        // list changes once however many persons there are
+        Set<Name> shownNames = filteredPersons.stream().map(Person::getName).collect(Collectors.toSet());
+        List<Person> persons = new ArrayList<>(versionedAddressBook.getPersonList());
+        List<Person> rolledOverPersons =
+                SemesterRollover.rollOver(persons, person -> shownNames.contains(person.getName()));
+
+        batch(unused -> {
+            versionedAddressBook.setPersons(rolledOverPersons);
+            if (hasUser()) {
+                setUser(SemesterRollover.rollOver(getUser()));
             }
-            updatedPreviousModules.addAll(personToEdit.getPrevModules());
-            editModuleDescriptor.setPrevModules(updatedPreviousModules);
-            Person editedPerson = createEditedPerson(personToEdit, editModuleDescriptor);
-            setPerson(personToEdit, editedPerson);
-        }
+        });
 
         updateFilteredPersonList(PREDICATE_SHOW_ALL_PERSONS);
-
-        User user = getUser();
-        ModuleCommand.EditModuleDescriptor editModuleDescriptor = new ModuleCommand.EditModuleDescriptor();
-        editModuleDescriptor.setCurrModules(null);
-        editModuleDescriptor.setPlanModules(user.getPlanModules());
-        Set<PreviousModule> updatedPreviousModules = new HashSet<>();
-        for (int n = 0; n < user.getCurrModules().size(); n++) {
-            Object currCurrentModule = user.getCurrModules().toArray()[n];
-            if (currCurrentModule instanceof CurrentModule) {
-                CurrentModule currentModule = (CurrentModule) currCurrentModule;
-                updatedPreviousModules.add(currentModule.toPrevModule());
-            }
-        }
-        updatedPreviousModules.addAll(user.getPrevModules());
-        editModuleDescriptor.setPrevModules(updatedPreviousModules);
-        User editedUser = createEditedUser(user, editModuleDescriptor);
-        setUser(editedUser);
-    }
-
-    /**
-     * Creates and returns a {@code Person} with the details of {@code personToEdit}
-     * edited with {@code editModuleDescriptor}.
-     */
-    private static Person createEditedPerson(Person personToEdit,
-                                             ModuleCommand.EditModuleDescriptor editModuleDescriptor) {
-        assert personToEdit != null;
-
-        Name name = personToEdit.getName();
-        Phone phone = personToEdit.getPhone();
-        Email email = personToEdit.getEmail();
-        Address address = personToEdit.getAddress();
-        Github github = personToEdit.getGithub();
-        Set<Tag> tags = personToEdit.getTags();
-        Set<CurrentModule> setCurrentModules = editModuleDescriptor.getCurrModules();
-        Set<PreviousModule> setPreviousModules = editModuleDescriptor.getPrevModules();
-        Set<PlannedModule> setPlannedModules = editModuleDescriptor.getPlanModules();
-
-        return new Person(name, phone, email, address, github, tags, setCurrentModules, setPreviousModules,
-                setPlannedModules);
-    }
-
-    /**
-     * Creates and returns a {@code User} with the details of {@code userToEdit}
-     * edited with {@code editModuleDescriptor}.
-     */
-    private static ExistingUser createEditedUser(User user,
-                                             ModuleCommand.EditModuleDescriptor editModuleDescriptor) {
-        assert user != null;
-
-        Name name = user.getName();
-        Phone phone = user.getPhone();
-        Email email = user.getEmail();
-        Address address = user.getAddress();
-        Github github = user.getGithub();
-        Set<CurrentModule> setCurrentModules = editModuleDescriptor.getCurrModules();
-        Set<PreviousModule> setPreviousModules = editModuleDescriptor.getPrevModules();
-        Set<PlannedModule> setPlannedModules = editModuleDescriptor.getPlanModules();
-
-        return new ExistingUser(name, phone, email, address, github, setCurrentModules, setPreviousModules,
-                setPlannedModules);
     }
 
     @Override
     public void commitAddressBook() {
+        if (!this.versionedAddressBook.hasUncommittedChanges()) {
+            return;
+        }
         this.versionedAddressBook.commit();
     }
 
+    @Override
+    public long getAddressBookVersion() {
+        return this.versionedAddressBook.getVersion();
+    }
+
     @Override
     public boolean canUndoAddressBook() {
         return this.versionedAddressBook.canUndo();
@@ -292,6 +248,11 @@ public class ModelManager implements Model {
         this.versionedAddressBook.redo();
     }
 
+    @Override
+    public HistoryStatistics getHistoryStatistics() {
+        return this.versionedAddressBook.getHistoryStatistics();
+    }
+
 
 
     //=========== Filtered Person List Accessors =============================================================
@@ -308,7 +269,19 @@ public class ModelManager implements Model {
     @Override
     public void updateFilteredPersonList(Predicate<Person> predicate) {
         requireNonNull(predicate);
-        filteredPersons.setPredicate(predicate);
+        // Same results, but name and module searches are answered from indexes rather than by scanning every person
+        filteredPersonsPredicate = predicate;
+        filteredPersons.setPredicate(versionedAddressBook.toIndexedPredicate(predicate));
+    }
+
+    @Override
+    public Predicate<Person> getFilteredPersonListPredicate() {
+        return filteredPersonsPredicate;
+    }
+
+    @Override
+    public PrefixIndex getPrefixIndex() {
+        return versionedAddressBook.getPrefixIndex();
     }
 
     @Override
@@ -0,0 +1,71 @@
+package seedu.address.model;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.function.Predicate;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import seedu.address.model.module.CurrentModule;
+import seedu.address.model.module.PreviousModule;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.user.ExistingUser;
+import seedu.address.model.person.user.User;
+
+/**
+ * Moves the current modules of persons and the user into their previous modules when a new semester begins.
+ * Persons are never changed in place: a rolled over copy is made of each, so the persons of a large address book can
+ * be rolled over in parallel on the common fork/join pool, and the copies put in the address book in one go.
+ * Lessons are not carried over, as they are the timetable of the semester that has ended.
+ */
+class SemesterRollover {
+
+    /** Largest number of persons that are rolled over on one thread. */
+    static final int SEQUENTIAL_THRESHOLD = 256;
+
+    /**
+     * Returns {@code persons} in the same order, with each person that {@code isRolledOver} accepts replaced by its
+     * rolled over copy. {@code persons} must not change while this runs, and {@code isRolledOver} must be safe to
+     * call from several threads at once.
+     */
+    static List<Person> rollOver(List<Person> persons, Predicate<Person> isRolledOver) {
+        requireAllNonNull(persons, isRolledOver);
+        Stream<Person> stream = persons.size() > SEQUENTIAL_THRESHOLD ? persons.parallelStream() : persons.stream();
+        return stream.map(person -> isRolledOver.test(person) ? rollOver(person) : person)
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * Returns a copy of {@code person} whose current modules are now previous modules.
+     */
+    static Person rollOver(Person person) {
+        requireNonNull(person);
+        return new Person(person.getName(), person.getPhone(), person.getEmail(), person.getAddress(),
+                person.getGithub(), person.getTags(), new HashSet<>(),
+                toPrevModules(person.getCurrModules(), person.getPrevModules()), person.getPlanModules());
+    }
+
+    /**
+     * Returns a copy of {@code user}, who must be an existing user, whose current modules are now previous modules.
+     */
+    static ExistingUser rollOver(User user) {
+        requireNonNull(user);
+        return new ExistingUser(user.getName(), user.getPhone(), user.getEmail(), user.getAddress(),
+                user.getGithub(), new HashSet<>(), toPrevModules(user.getCurrModules(), user.getPrevModules()),
+                user.getPlanModules());
+    }
+
+    private static Set<PreviousModule> toPrevModules(Set<CurrentModule> currModules,
+            Set<PreviousModule> prevModules) {
+        Set<PreviousModule> updatedPrevModules = new HashSet<>(prevModules);
+        for (CurrentModule currModule : currModules) {
+            updatedPrevModules.add(currModule.toPrevModule());
+        }
+        return updatedPrevModules;
+    }
+
+}
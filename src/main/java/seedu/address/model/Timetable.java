@@ -5,9 +5,12 @@ import java.util.Set;
 
 import seedu.address.model.module.Lesson;
 import seedu.address.model.module.LessonComparator;
+import seedu.address.model.module.LessonSchedule;
 
 /**
  * Converts set of lessons to timetable in days and sorted by time.
+ * The lessons of a person or user are a {@link LessonSchedule}, which is already in this order, so they are only
+ * sorted if they come from elsewhere.
  */
 public class Timetable {
     private static String[] days = new String[]
@@ -26,7 +29,9 @@ public class Timetable {
      */
     public ArrayList<Lesson> sort() {
         ArrayList<Lesson> lessonsList = new ArrayList<>(lessons);
-        lessonsList.sort(new LessonComparator());
+        if (!(lessons instanceof LessonSchedule)) {
+            lessonsList.sort(new LessonComparator());
+        }
         return lessonsList;
     }
 
@@ -38,10 +43,17 @@ public class Timetable {
     public ArrayList<Lesson>[] toWeek() {
         assert (!lessons.equals(null)) : "Timetable not initialised";
 
-        ArrayList<Lesson> lessonsList = this.sort();
-
         @SuppressWarnings("unchecked")
         ArrayList<Lesson>[] week = new ArrayList[7];
+        if (lessons instanceof LessonSchedule) {
+            LessonSchedule schedule = (LessonSchedule) lessons;
+            for (int i = 0; i < 7; i++) {
+                week[i] = new ArrayList<>(schedule.getLessonsOn(i + 1));
+            }
+            return week;
+        }
+
+        ArrayList<Lesson> lessonsList = this.sort();
         for (int i = 0; i < 7; i++) {
             week[i] = new ArrayList<Lesson>();
         }
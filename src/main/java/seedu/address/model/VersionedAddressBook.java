@@ -1,58 +1,108 @@
 package seedu.address.model;
 
+import java.io.IOException;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.logging.Logger;
+
+import seedu.address.commons.core.HistorySettings;
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.exceptions.DataConversionException;
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.model.module.Lesson;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.user.User;
 
 /**
- * Contains all states of AddressBooks
+ * Contains all states of AddressBooks.
+ * Rather than copies of each state, the history keeps the {@code AddressBookChange}s made between states, so undoing
+ * or redoing a command only reverts or reapplies what that command changed.
+ * The history is bounded by its {@code HistorySettings}: once it is deeper than the maximum depth, or its estimated
+ * size is over the memory budget, the oldest states are moved to the {@code HistoryJournal} if there is one, and
+ * dropped otherwise.
  */
 public class VersionedAddressBook extends AddressBook {
+    private static final Logger logger = LogsCenter.getLogger(VersionedAddressBook.class);
 
-    private List<ReadOnlyAddressBook> addressBookStateList;
+    private final List<HistoryState> addressBookChangeList = new ArrayList<>();
+    private final HistorySettings historySettings;
+    private List<AddressBookChange> uncommittedChanges = new ArrayList<>();
+    private HistoryJournal historyJournal;
+    private long estimatedMemory;
+    private long version;
     private int currentStatePointer;
+    private boolean isRecording;
 
     /**
-     * Creates a VersionedAddressBook with a copy of addressBook in it.
+     * Creates a VersionedAddressBook with a copy of addressBook in it and the default history settings.
      * @param addressBook State to save into VersionedAddressBook
      */
     public VersionedAddressBook(ReadOnlyAddressBook addressBook) {
+        this(addressBook, new HistorySettings());
+    }
+
+    /**
+     * Creates a VersionedAddressBook with a copy of addressBook in it, whose history is bounded by historySettings.
+     * @param addressBook State to save into VersionedAddressBook
+     * @param historySettings Limits on how much history to keep in memory
+     */
+    public VersionedAddressBook(ReadOnlyAddressBook addressBook, HistorySettings historySettings) {
         super(addressBook);
 
-        this.addressBookStateList = new ArrayList<>();
-        this.addressBookStateList.add(new AddressBook(addressBook));
+        this.historySettings = historySettings;
         this.currentStatePointer = 0;
+        this.isRecording = true;
     }
 
     /**
-     * Adds current AddressBook into AddressBook State List, while incrementing current state pointer.
+     * Spills states that are evicted from memory to {@code historyJournal}, which is cleared first since it cannot
+     * hold any state of this address book yet.
+     */
+    public void setHistoryJournal(HistoryJournal historyJournal) throws IOException {
+        historyJournal.clear();
+        this.historyJournal = historyJournal;
+    }
+
+    /**
+     * Adds the changes made since the last commit into the history as one state, while incrementing current state
+     * pointer.
      */
     public void commit() {
-        this.addressBookStateList.subList(currentStatePointer + 1, this.addressBookStateList.size()).clear();
-        this.addressBookStateList.add(new AddressBook(this));
+        discardRedoStates();
+        HistoryState state = new HistoryState(uncommittedChanges);
+        this.addressBookChangeList.add(state);
+        this.estimatedMemory += state.estimatedSize;
+        this.uncommittedChanges = new ArrayList<>();
         this.currentStatePointer++;
+        evictOldStates();
     }
 
     /**
-     * Reverts to the previous AddressBook state and returns the previous AddressBook state.
+     * Reverts to the previous AddressBook state by reverting the changes committed last.
      */
     public void undo() {
+        discardUncommittedChanges();
+        restoreSpilledStateIfNeeded();
         this.currentStatePointer--;
-        resetData(this.addressBookStateList.get(this.currentStatePointer));
+        revert(this.addressBookChangeList.get(this.currentStatePointer).changes);
     }
 
     /**
-     * Reverts to the forward AddressBook state and returns the forward AddressBook state.
+     * Reverts to the forward AddressBook state by reapplying the changes that were undone last.
      */
     public void redo() {
+        discardUncommittedChanges();
+        apply(this.addressBookChangeList.get(this.currentStatePointer).changes);
         this.currentStatePointer++;
-        resetData(this.addressBookStateList.get(this.currentStatePointer));
     }
 
     /**
      * Checks if there is a previous state in VersionedAddressBook.
+     * If all the states in memory have been undone, the newest state in the journal is read back into memory first.
      * @return If VersionedAddressBook can be undid
      */
     public boolean canUndo() {
+        restoreSpilledStateIfNeeded();
         return !(this.currentStatePointer <= 0);
     }
 
@@ -61,7 +111,236 @@ public class VersionedAddressBook extends AddressBook {
      * @return If VersionedAddressBook can be redid
      */
     public boolean canRedo() {
-        return this.addressBookStateList.size() > this.currentStatePointer + 1;
+        return this.addressBookChangeList.size() > this.currentStatePointer;
+    }
+
+    /**
+     * Returns true if the address book has been changed since the last commit.
+     */
+    public boolean hasUncommittedChanges() {
+        return !uncommittedChanges.isEmpty();
+    }
+
+    /**
+     * Returns a number that goes up with every change to the address book, including changes made by undo and redo.
+     * The address book is unchanged for as long as its version is the same.
+     */
+    public long getVersion() {
+        return version;
+    }
+
+    /**
+     * Returns the current size of the history.
+     */
+    public HistoryStatistics getHistoryStatistics() {
+        if (historyJournal == null) {
+            return new HistoryStatistics(addressBookChangeList.size(), estimatedMemory, 0, 0);
+        }
+        return new HistoryStatistics(addressBookChangeList.size(), estimatedMemory, historyJournal.size(),
+                historyJournal.getFileSize());
+    }
+
+    private void discardUncommittedChanges() {
+        revert(uncommittedChanges);
+        uncommittedChanges = new ArrayList<>();
+    }
+
+    private void discardRedoStates() {
+        List<HistoryState> redoStates =
+                this.addressBookChangeList.subList(currentStatePointer, this.addressBookChangeList.size());
+        for (HistoryState state : redoStates) {
+            estimatedMemory -= state.estimatedSize;
+        }
+        redoStates.clear();
+    }
+
+    /**
+     * Drops the oldest states until the history is within its maximum depth, then moves the oldest states out of
+     * memory until it is within its memory budget. The newest state is always kept so the last command can be undone.
+     */
+    private void evictOldStates() {
+        while (isTooDeep()) {
+            if (historyJournal != null && historyJournal.size() > 0) {
+                removeOldestSpilledState();
+            } else if (addressBookChangeList.size() > 1) {
+                removeOldestState();
+            } else {
+                break;
+            }
+        }
+        while (addressBookChangeList.size() > 1 && estimatedMemory > historySettings.getMemoryBudget()) {
+            spill(removeOldestState());
+        }
+    }
+
+    private boolean isTooDeep() {
+        int depth = addressBookChangeList.size() + (historyJournal == null ? 0 : historyJournal.size());
+        return depth > historySettings.getMaxDepth();
+    }
+
+    private HistoryState removeOldestState() {
+        HistoryState oldest = addressBookChangeList.remove(0);
+        estimatedMemory -= oldest.estimatedSize;
+        currentStatePointer--;
+        return oldest;
+    }
+
+    private void removeOldestSpilledState() {
+        try {
+            historyJournal.removeOldest();
+        } catch (IOException e) {
+            closeJournal(e);
+        }
+    }
+
+    private void spill(HistoryState state) {
+        if (historyJournal == null) {
+            return;
+        }
+        try {
+            historyJournal.push(state.changes);
+        } catch (IOException e) {
+            closeJournal(e);
+        }
+    }
+
+    /**
+     * Brings the newest state in the journal back into memory, as the state before all the states in memory, once
+     * every state in memory has been undone.
+     * If the journal cannot be read, it is dropped and there is nothing more to undo.
+     */
+    private void restoreSpilledStateIfNeeded() {
+        if (currentStatePointer > 0 || historyJournal == null || historyJournal.size() == 0) {
+            return;
+        }
+        try {
+            HistoryState state = new HistoryState(historyJournal.pop());
+            addressBookChangeList.add(0, state);
+            estimatedMemory += state.estimatedSize;
+            currentStatePointer++;
+        } catch (DataConversionException | IOException e) {
+            closeJournal(e);
+        }
+    }
+
+    /**
+     * Stops using the journal after it failed, so the history falls back to what is still in memory.
+     */
+    private void closeJournal(Exception cause) {
+        logger.warning("Undo history journal failed, older states will be dropped: " + cause);
+        HistoryJournal failedJournal = historyJournal;
+        historyJournal = null;
+        try {
+            failedJournal.clear();
+        } catch (IOException e) {
+            logger.warning("Could not clear undo history journal: " + e);
+        }
+    }
+
+    /**
+     * Reapplies {@code changes} in one batch, so that redoing a command that changed many persons updates the person
+     * list once.
+     */
+    private void apply(List<AddressBookChange> changes) {
+        isRecording = false;
+        try {
+            batch(() -> changes.forEach(change -> change.apply(this)));
+        } finally {
+            isRecording = true;
+        }
+    }
+
+    /**
+     * Reverts {@code changes}, newest first, in one batch, as for {@link #apply(List)}.
+     */
+    private void revert(List<AddressBookChange> changes) {
+        isRecording = false;
+        try {
+            batch(() -> {
+                for (int i = changes.size() - 1; i >= 0; i--) {
+                    changes.get(i).revert(this);
+                }
+            });
+        } finally {
+            isRecording = true;
+        }
+    }
+
+    private void record(AddressBookChange change) {
+        version++;
+        if (isRecording) {
+            uncommittedChanges.add(change);
+        }
+    }
+
+    //// operations recorded as changes
+
+    @Override
+    public void setPersons(List<Person> persons) {
+        List<Person> previousPersons = new ArrayList<>(getCurrentPersonList());
+        super.setPersons(persons);
+        record(new AddressBookChange.SetPersons(previousPersons, persons));
+    }
+
+    @Override
+    public void setUser(User user) {
+        User previousUser = getUser();
+        super.setUser(user);
+        record(new AddressBookChange.SetUser(previousUser, user));
+    }
+
+    @Override
+    public void addUser(User u) {
+        User previousUser = getUser();
+        super.addUser(u);
+        record(new AddressBookChange.SetUser(previousUser, u));
+    }
+
+    @Override
+    public void deleteUser() {
+        User previousUser = getUser();
+        super.deleteUser();
+        record(new AddressBookChange.SetUser(previousUser, getUser()));
+    }
+
+    @Override
+    public void addLessonToUser(Lesson lesson) throws CommandException {
+        User previousUser = getUser();
+        super.addLessonToUser(lesson);
+        record(new AddressBookChange.SetUser(previousUser, getUser()));
+    }
+
+    @Override
+    public void removeLessonToUser(Lesson lesson) throws CommandException {
+        User previousUser = getUser();
+        super.removeLessonToUser(lesson);
+        record(new AddressBookChange.SetUser(previousUser, getUser()));
+    }
+
+    @Override
+    public void addPerson(Person p) {
+        int index = countPersons();
+        super.addPerson(p);
+        record(new AddressBookChange.AddPerson(index, p));
+    }
+
+    @Override
+    public void addPerson(int index, Person p) {
+        super.addPerson(index, p);
+        record(new AddressBookChange.AddPerson(index, p));
+    }
+
+    @Override
+    public void setPerson(Person target, Person editedPerson) {
+        super.setPerson(target, editedPerson);
+        record(new AddressBookChange.SetPerson(target, editedPerson));
+    }
+
+    @Override
+    public void removePerson(Person key) {
+        int index = indexOfPerson(key);
+        super.removePerson(key);
+        record(new AddressBookChange.RemovePerson(index, key));
     }
 
     @Override
@@ -69,4 +348,17 @@ public class VersionedAddressBook extends AddressBook {
         return other == this // short circuit if same object
                 || (other instanceof VersionedAddressBook); // instanceof handles nulls
     }
+
+    /**
+     * The changes of one command in the history, along with their estimated size in memory.
+     */
+    private static class HistoryState {
+        private final List<AddressBookChange> changes;
+        private final long estimatedSize;
+
+        HistoryState(List<AddressBookChange> changes) {
+            this.changes = changes;
+            this.estimatedSize = changes.stream().mapToLong(AddressBookChange::estimateSize).sum();
+        }
+    }
 }
@@ -0,0 +1,244 @@
+package seedu.address.model.module;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.AppUtil.checkArgument;
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+import java.util.function.Function;
+
+/**
+ * The times of a week taken up by lessons, as a bitmap of {@value #MINUTES_PER_SLOT}-minute slots from Monday 00:00
+ * to Sunday 24:00, so that timetables are compared with a few operations on 64 slots at a time instead of lesson by
+ * lesson.
+ * A slot is busy if any part of it is taken up by a lesson, so a lesson that does not start or end on a slot boundary
+ * makes the whole slot it starts or ends in busy.
+ * Guarantees: immutable.
+ */
+public class BusyWeek {
+
+    public static final int MINUTES_PER_SLOT = 5;
+    public static final int SLOTS_PER_DAY = 24 * 60 / MINUTES_PER_SLOT;
+    public static final int SLOTS_PER_WEEK = LessonSchedule.DAYS_IN_WEEK * SLOTS_PER_DAY;
+
+    /** A week with no lessons. */
+    public static final BusyWeek FREE = new BusyWeek(new BitSet());
+
+    /** Largest number of weeks combined by one thread when combining the weeks of a group. */
+    static final int SEQUENTIAL_UNION_THRESHOLD = 64;
+
+    private final BitSet busySlots;
+
+    private BusyWeek(BitSet busySlots) {
+        this.busySlots = busySlots;
+    }
+
+    /**
+     * Returns the week taken up by {@code lessons}.
+     */
+    public static BusyWeek of(Collection<? extends Lesson> lessons) {
+        requireNonNull(lessons);
+        BitSet busySlots = new BitSet(SLOTS_PER_WEEK);
+        for (Lesson lesson : lessons) {
+            busySlots.set(firstSlot(lesson), endSlot(lesson));
+        }
+        return new BusyWeek(busySlots);
+    }
+
+    /**
+     * Returns the week taken up by the lessons of any of {@code members}, whose weeks are given by
+     * {@code busyWeekOf}.
+     * The weeks of large groups are worked out and combined in parts on the common fork/join pool, as working out a
+     * member's week may need their lessons to be loaded first.
+     */
+    public static <T> BusyWeek unionOf(List<T> members, Function<? super T, BusyWeek> busyWeekOf) {
+        requireAllNonNull(members, busyWeekOf);
+        UnionTask<T> task = new UnionTask<>(new ArrayList<>(members), busyWeekOf, 0, members.size());
+        BitSet busySlots = members.size() <= SEQUENTIAL_UNION_THRESHOLD
+                ? task.compute()
+                : ForkJoinPool.commonPool().invoke(task);
+        return new BusyWeek(busySlots);
+    }
+
+    /**
+     * Returns this week with {@code lesson} added.
+     */
+    public BusyWeek with(Lesson lesson) {
+        requireNonNull(lesson);
+        BitSet busySlots = (BitSet) this.busySlots.clone();
+        busySlots.set(firstSlot(lesson), endSlot(lesson));
+        return new BusyWeek(busySlots);
+    }
+
+    /**
+     * Returns the week taken up by the lessons of both this week and {@code other}.
+     */
+    public BusyWeek union(BusyWeek other) {
+        requireNonNull(other);
+        BitSet busySlots = (BitSet) this.busySlots.clone();
+        busySlots.or(other.busySlots);
+        return new BusyWeek(busySlots);
+    }
+
+    /**
+     * Returns true if any slot is busy in both this week and {@code other}.
+     */
+    public boolean overlaps(BusyWeek other) {
+        requireNonNull(other);
+        return busySlots.intersects(other.busySlots);
+    }
+
+    /**
+     * Returns true if no slot taken up by {@code lesson} is busy in this week.
+     */
+    public boolean isFreeDuring(Lesson lesson) {
+        requireNonNull(lesson);
+        return isFree(firstSlot(lesson), endSlot(lesson));
+    }
+
+    /**
+     * Returns true if no slot from {@code startTime} to {@code endTime} on {@code day}, i.e. monday 1, sunday 7, is
+     * busy in this week.
+     */
+    public boolean isFreeBetween(int day, LocalTime startTime, LocalTime endTime) {
+        requireNonNull(startTime);
+        requireNonNull(endTime);
+        checkArgument(day >= 1 && day <= LessonSchedule.DAYS_IN_WEEK, "Day should be from 1 to 7");
+        return isFree(firstSlot(day, toMinute(startTime)), endSlot(day, toMinute(endTime)));
+    }
+
+    /**
+     * Returns the first busy slot at or after {@code slot}, or {@value #SLOTS_PER_WEEK} if there is none.
+     */
+    public int nextBusySlot(int slot) {
+        int busySlot = busySlots.nextSetBit(slot);
+        return busySlot == -1 ? SLOTS_PER_WEEK : busySlot;
+    }
+
+    /**
+     * Returns the first free slot at or after {@code slot}, or {@value #SLOTS_PER_WEEK} if there is none.
+     */
+    public int nextFreeSlot(int slot) {
+        return Math.min(busySlots.nextClearBit(slot), SLOTS_PER_WEEK);
+    }
+
+    /**
+     * Returns the free periods of each day from {@code from} to {@code to} that are at least {@code minMinutes}
+     * long, from Monday to Sunday. Periods start and end on slot boundaries, so {@code from} and {@code to} are
+     * rounded inwards to the nearest boundary.
+     */
+    public List<FreeSlot> findFreeSlots(LocalTime from, LocalTime to, int minMinutes) {
+        requireAllNonNull(from, to);
+        checkArgument(minMinutes > 0, "Minimum length should be positive");
+        int minSlots = (minMinutes + MINUTES_PER_SLOT - 1) / MINUTES_PER_SLOT;
+        List<FreeSlot> freeSlots = new ArrayList<>();
+        for (int day = 1; day <= LessonSchedule.DAYS_IN_WEEK; day++) {
+            int dayStart = (day - 1) * SLOTS_PER_DAY;
+            int windowEnd = dayStart + toMinute(to) / MINUTES_PER_SLOT;
+            int freeSlot = nextFreeSlot(endSlot(day, toMinute(from)));
+            while (freeSlot < windowEnd) {
+                int busySlot = Math.min(nextBusySlot(freeSlot), windowEnd);
+                if (busySlot - freeSlot >= minSlots) {
+                    freeSlots.add(new FreeSlot(day, toTime(freeSlot - dayStart), toTime(busySlot - dayStart)));
+                }
+                freeSlot = nextFreeSlot(busySlot);
+            }
+        }
+        return freeSlots;
+    }
+
+    /**
+     * Returns the number of busy slots in this week.
+     */
+    public int countBusySlots() {
+        return busySlots.cardinality();
+    }
+
+    private boolean isFree(int firstSlot, int endSlot) {
+        int busySlot = busySlots.nextSetBit(firstSlot);
+        return busySlot == -1 || busySlot >= endSlot;
+    }
+
+    private static int firstSlot(Lesson lesson) {
+        return firstSlot(lesson.getDay(), lesson.getStartMinute());
+    }
+
+    private static int endSlot(Lesson lesson) {
+        return endSlot(lesson.getDay(), lesson.getEndMinute());
+    }
+
+    private static int firstSlot(int day, int minute) {
+        return (day - 1) * SLOTS_PER_DAY + minute / MINUTES_PER_SLOT;
+    }
+
+    private static int endSlot(int day, int minute) {
+        return (day - 1) * SLOTS_PER_DAY + (minute + MINUTES_PER_SLOT - 1) / MINUTES_PER_SLOT;
+    }
+
+    private static int toMinute(LocalTime time) {
+        return time.getHour() * 60 + time.getMinute();
+    }
+
+    private static LocalTime toTime(int slotOfDay) {
+        return LocalTime.MIDNIGHT.plusMinutes((long) slotOfDay * MINUTES_PER_SLOT);
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this // short circuit if same object
+                || (other instanceof BusyWeek // instanceof handles nulls
+                && busySlots.equals(((BusyWeek) other).busySlots)); // state check
+    }
+
+    @Override
+    public int hashCode() {
+        return busySlots.hashCode();
+    }
+
+    @Override
+    public String toString() {
+        return countBusySlots() + " busy slots of " + MINUTES_PER_SLOT + " minutes";
+    }
+
+    /**
+     * Combines the weeks of the members from {@code from} to {@code to}, splitting them in halves that are combined
+     * in parallel until there are few enough for one thread.
+     */
+    private static class UnionTask<T> extends RecursiveTask<BitSet> {
+        private final List<T> members;
+        private final Function<? super T, BusyWeek> busyWeekOf;
+        private final int from;
+        private final int to;
+
+        UnionTask(List<T> members, Function<? super T, BusyWeek> busyWeekOf, int from, int to) {
+            this.members = members;
+            this.busyWeekOf = busyWeekOf;
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        protected BitSet compute() {
+            if (to - from <= SEQUENTIAL_UNION_THRESHOLD) {
+                BitSet busySlots = new BitSet(SLOTS_PER_WEEK);
+                for (int i = from; i < to; i++) {
+                    busySlots.or(busyWeekOf.apply(members.get(i)).busySlots);
+                }
+                return busySlots;
+            }
+            int middle = (from + to) >>> 1;
+            UnionTask<T> firstHalf = new UnionTask<>(members, busyWeekOf, from, middle);
+            firstHalf.fork();
+            BitSet busySlots = new UnionTask<>(members, busyWeekOf, middle, to).compute();
+            busySlots.or(firstHalf.join());
+            return busySlots;
+        }
+    }
+
+}
@@ -1,15 +1,29 @@
 package seedu.address.model.module;
 
+import seedu.address.commons.util.InternPool;
+
 /**
  * Module that CS student is currently taking.
  */
 public class CurrentModule extends Module {
+
+    private static final InternPool<CurrentModule> POOL = new InternPool<>();
+
     public CurrentModule(String moduleName) {
         super(moduleName);
     }
 
+    /**
+     * Returns the shared {@code CurrentModule} named {@code moduleName}.
+     *
+     * @param moduleName A valid module name.
+     */
+    public static CurrentModule of(String moduleName) {
+        return POOL.intern(new CurrentModule(moduleName));
+    }
+
     public PreviousModule toPrevModule() {
-        return new PreviousModule(this.moduleName);
+        return PreviousModule.of(this.moduleName);
     }
 
 }
@@ -0,0 +1,76 @@
+package seedu.address.model.module;
+
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.time.DayOfWeek;
+import java.time.LocalTime;
+import java.time.format.TextStyle;
+import java.util.Locale;
+import java.util.Objects;
+
+/**
+ * A period of a day in which no one in a group has lessons.
+ * Guarantees: immutable.
+ */
+public class FreeSlot {
+
+    private final int day;
+    private final LocalTime startTime;
+    private final LocalTime endTime;
+
+    /**
+     * Constructs a free slot.
+     *
+     * @param day day of week i.e. monday 1, sunday 7
+     * @param startTime time the slot starts
+     * @param endTime time the slot ends
+     */
+    public FreeSlot(int day, LocalTime startTime, LocalTime endTime) {
+        requireAllNonNull(startTime, endTime);
+        this.day = day;
+        this.startTime = startTime;
+        this.endTime = endTime;
+    }
+
+    public int getDay() {
+        return day;
+    }
+
+    public LocalTime getStartTime() {
+        return startTime;
+    }
+
+    public LocalTime getEndTime() {
+        return endTime;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        if (!(other instanceof FreeSlot)) {
+            return false;
+        }
+
+        FreeSlot otherSlot = (FreeSlot) other;
+        return day == otherSlot.day
+                && startTime.equals(otherSlot.startTime)
+                && endTime.equals(otherSlot.endTime);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(day, startTime, endTime);
+    }
+
+    /**
+     * Format state as text for viewing, e.g. Monday 08:00 to 10:00.
+     */
+    @Override
+    public String toString() {
+        return DayOfWeek.of(day).getDisplayName(TextStyle.FULL, Locale.ENGLISH) + " " + startTime + " to " + endTime;
+    }
+
+}
@@ -0,0 +1,210 @@
+package seedu.address.model.module;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.TreeSet;
+import java.util.stream.Collectors;
+
+/**
+ * The graduation requirements of a course, such as its core modules and focus areas, in the order they are numbered
+ * by the modsleft command.
+ * Each module that any requirement needs is given an id when the requirements are read, in alphabetical order of
+ * module code, and a set of modules is kept as a bit set of those ids. The modules left to clear a requirement are then
+ * found with a few operations on 64 modules at a time, and listed in alphabetical order by reading the bits in order.
+ * Modules that no requirement needs have no id, and are left out of the sets.
+ * Guarantees: immutable, and so safe to use from several threads at once.
+ */
+public class GraduationRequirements {
+
+    public static final String DEFAULT_RESOURCE = "/requirements/cs-ay2122.txt";
+
+    private static final String COMMENT_START = "#";
+    private static final String NAME_SEPARATOR = ":";
+
+    private final String[] moduleCodes;
+    private final Map<String, Integer> moduleIds;
+    private final List<Requirement> requirements;
+
+    private GraduationRequirements(String[] moduleCodes, Map<String, Integer> moduleIds,
+            List<Requirement> requirements) {
+        this.moduleCodes = moduleCodes;
+        this.moduleIds = moduleIds;
+        this.requirements = Collections.unmodifiableList(requirements);
+    }
+
+    /**
+     * Returns the requirements of Computer Science students who enrolled in AY21/22, which are read from
+     * {@value #DEFAULT_RESOURCE} the first time they are needed.
+     */
+    public static GraduationRequirements getDefault() {
+        return DefaultHolder.DEFAULT;
+    }
+
+    /**
+     * Reads requirements from {@code lines}. Each requirement is on a line of its own, made up of its name, a colon,
+     * and the codes of the modules it needs, separated by spaces. Blank lines and lines starting with {@code #} are
+     * skipped.
+     *
+     * @throws IllegalArgumentException if a line is not in this format, or has an invalid module code.
+     */
+    public static GraduationRequirements parse(List<String> lines) {
+        requireNonNull(lines);
+        List<String> names = new ArrayList<>();
+        List<List<String>> codesOfRequirements = new ArrayList<>();
+        TreeSet<String> allCodes = new TreeSet<>();
+        for (int i = 0; i < lines.size(); i++) {
+            String line = lines.get(i).trim();
+            if (line.isEmpty() || line.startsWith(COMMENT_START)) {
+                continue;
+            }
+            int separator = line.indexOf(NAME_SEPARATOR);
+            String name = separator == -1 ? "" : line.substring(0, separator).trim();
+            String codes = separator == -1 ? "" : line.substring(separator + 1).trim();
+            if (name.isEmpty() || codes.isEmpty()) {
+                throw new IllegalArgumentException(String.format("Requirement on line %d has no name or modules: %s",
+                        i + 1, line));
+            }
+            List<String> codesOfRequirement = new ArrayList<>();
+            for (String code : codes.split("\\s+")) {
+                if (!Module.isValidModuleName(code)) {
+                    throw new IllegalArgumentException(String.format("Module %s on line %d is invalid: %s",
+                            code, i + 1, Module.MESSAGE_CONSTRAINTS));
+                }
+                codesOfRequirement.add(code.toUpperCase());
+            }
+            names.add(name);
+            codesOfRequirements.add(codesOfRequirement);
+            allCodes.addAll(codesOfRequirement);
+        }
+
+        String[] moduleCodes = allCodes.toArray(new String[0]);
+        Map<String, Integer> moduleIds = new HashMap<>();
+        for (int id = 0; id < moduleCodes.length; id++) {
+            moduleIds.put(moduleCodes[id], id);
+        }
+        List<Requirement> requirements = new ArrayList<>();
+        for (int i = 0; i < names.size(); i++) {
+            BitSet modules = new BitSet(moduleCodes.length);
+            codesOfRequirements.get(i).forEach(code -> modules.set(moduleIds.get(code)));
+            requirements.add(new Requirement(names.get(i), modules));
+        }
+        return new GraduationRequirements(moduleCodes, moduleIds, requirements);
+    }
+
+    /**
+     * Reads requirements from the resource at {@code resourcePath}, in the format of {@link #parse(List)}.
+     *
+     * @throws UncheckedIOException if the resource cannot be read.
+     * @throws IllegalArgumentException if the resource is missing or not in the expected format.
+     */
+    public static GraduationRequirements readResource(String resourcePath) {
+        requireNonNull(resourcePath);
+        InputStream in = GraduationRequirements.class.getResourceAsStream(resourcePath);
+        if (in == null) {
+            throw new IllegalArgumentException("No requirements found at " + resourcePath);
+        }
+        try (BufferedReader reader = new BufferedReader(new InputStreamReader(in, StandardCharsets.UTF_8))) {
+            return parse(reader.lines().collect(Collectors.toList()));
+        } catch (IOException e) {
+            throw new UncheckedIOException("Could not read requirements from " + resourcePath, e);
+        }
+    }
+
+    /**
+     * Returns the requirements, in order.
+     */
+    public List<Requirement> getRequirements() {
+        return requirements;
+    }
+
+    /**
+     * Returns the number of modules that have ids, which are the ids from 0 up to this number.
+     */
+    public int getModuleCount() {
+        return moduleCodes.length;
+    }
+
+    /**
+     * Returns the code of the module with id {@code moduleId}.
+     */
+    public String getModuleCode(int moduleId) {
+        return moduleCodes[moduleId];
+    }
+
+    /**
+     * Returns the id of the module with code {@code moduleCode}, ignoring case, or -1 if no requirement needs it.
+     */
+    public int findModuleId(String moduleCode) {
+        requireNonNull(moduleCode);
+        return moduleIds.getOrDefault(moduleCode.toUpperCase(), -1);
+    }
+
+    /**
+     * Returns the ids of {@code modules}, leaving out modules that no requirement needs.
+     */
+    public BitSet toModuleIds(Collection<? extends Module> modules) {
+        requireNonNull(modules);
+        BitSet ids = new BitSet(moduleCodes.length);
+        for (Module module : modules) {
+            Integer id = moduleIds.get(module.moduleName);
+            if (id != null) {
+                ids.set(id);
+            }
+        }
+        return ids;
+    }
+
+    /**
+     * Returns the codes of the modules with {@code ids}, in alphabetical order.
+     */
+    public List<String> toModuleCodes(BitSet ids) {
+        requireNonNull(ids);
+        List<String> codes = new ArrayList<>(ids.cardinality());
+        for (int id = ids.nextSetBit(0); id >= 0; id = ids.nextSetBit(id + 1)) {
+            codes.add(moduleCodes[id]);
+        }
+        return codes;
+    }
+
+    /**
+     * Returns the requirement with the fewest modules left after {@code clearedModules}, among the requirements that
+     * are not cleared yet, which is found by looking at each requirement once. Ties go to the requirement that comes
+     * first. Nothing is returned if every requirement is cleared.
+     */
+    public Optional<Requirement> findClosestToClearing(BitSet clearedModules) {
+        requireNonNull(clearedModules);
+        Requirement closest = null;
+        int fewestModulesLeft = Integer.MAX_VALUE;
+        for (Requirement requirement : requirements) {
+            int modulesLeft = requirement.countModulesLeft(clearedModules);
+            if (modulesLeft > 0 && modulesLeft < fewestModulesLeft) {
+                closest = requirement;
+                fewestModulesLeft = modulesLeft;
+            }
+        }
+        return Optional.ofNullable(closest);
+    }
+
+    /**
+     * Loads the default requirements when it is first used, which the JVM does once even if several threads ask at
+     * the same time.
+     */
+    private static class DefaultHolder {
+        private static final GraduationRequirements DEFAULT = readResource(DEFAULT_RESOURCE);
+    }
+
+}
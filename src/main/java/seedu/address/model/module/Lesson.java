@@ -4,6 +4,7 @@ import static seedu.address.commons.util.AppUtil.checkArgument;
 import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
 import java.time.LocalTime;
+import java.util.Objects;
 
 import com.fasterxml.jackson.annotation.JsonValue;
 
@@ -59,6 +60,20 @@ public abstract class Lesson {
         return endTime;
     }
 
+    /**
+     * Returns the number of minutes from midnight to the start of the lesson.
+     */
+    public int getStartMinute() {
+        return startTime.getHour() * 60 + startTime.getMinute();
+    }
+
+    /**
+     * Returns the number of minutes from midnight to the end of the lesson.
+     */
+    public int getEndMinute() {
+        return endTime.getHour() * 60 + endTime.getMinute();
+    }
+
     /**
      * @return the String value of the lesson type (instead of abbreviation).
      */
@@ -86,14 +101,25 @@ public abstract class Lesson {
 
     @Override
     public boolean equals(Object other) {
-        return other == this // short circuit if same object
-                || (other instanceof Lesson // instanceof handles nulls
-                && module.equals(((Lesson) other).module)); // state check
+        if (other == this) {
+            return true;
+        }
+
+        if (!(other instanceof Lesson)) {
+            return false;
+        }
+
+        Lesson otherLesson = (Lesson) other;
+        return getType().equals(otherLesson.getType())
+                && module.equals(otherLesson.module)
+                && day == otherLesson.day
+                && startTime.equals(otherLesson.startTime)
+                && endTime.equals(otherLesson.endTime);
     }
 
     @Override
     public int hashCode() {
-        return module.hashCode();
+        return Objects.hash(getType(), module, day, startTime, endTime);
     }
 
     /**
@@ -0,0 +1,203 @@
+package seedu.address.model.module;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.AbstractSet;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.NoSuchElementException;
+import java.util.Optional;
+import java.util.TreeMap;
+
+/**
+ * A set of lessons that do not overlap, kept by day and sorted by start time within each day.
+ * As no two lessons of a day overlap, the lessons of a day sorted by start time are also sorted by end time, so the
+ * only lessons a new lesson can clash with are the ones starting just before and just after it. Clashes are found
+ * with two lookups instead of a comparison with every lesson, and the lessons are always in chronological order
+ * without being sorted.
+ * Lessons are found by their start minute within their day, as their equality includes their start time.
+ */
+public class LessonSchedule extends AbstractSet<Lesson> {
+
+    public static final int DAYS_IN_WEEK = 7;
+
+    public static final String MESSAGE_SAME_TIME = "Lesson has same start/end time as %s";
+    public static final String MESSAGE_OVERLAP = "Lesson timing overlaps with %s";
+
+    private final List<NavigableMap<Integer, Lesson>> lessonsByDay;
+    private final boolean isModifiable;
+
+    /**
+     * Creates an empty schedule.
+     */
+    public LessonSchedule() {
+        lessonsByDay = new ArrayList<>(DAYS_IN_WEEK);
+        for (int i = 0; i < DAYS_IN_WEEK; i++) {
+            lessonsByDay.add(new TreeMap<>());
+        }
+        isModifiable = true;
+    }
+
+    /**
+     * Creates a schedule of {@code lessons}.
+     *
+     * @throws IllegalArgumentException if any of the lessons clash.
+     */
+    public LessonSchedule(Collection<? extends Lesson> lessons) {
+        this();
+        addAll(lessons);
+    }
+
+    private LessonSchedule(List<NavigableMap<Integer, Lesson>> lessonsByDay, boolean isModifiable) {
+        this.lessonsByDay = lessonsByDay;
+        this.isModifiable = isModifiable;
+    }
+
+    /**
+     * Returns a view of this schedule that throws {@code UnsupportedOperationException} if modification is attempted.
+     */
+    public LessonSchedule unmodifiableView() {
+        return isModifiable ? new LessonSchedule(lessonsByDay, false) : this;
+    }
+
+    /**
+     * Returns the lesson in this schedule that {@code lesson} clashes with, if any. Lessons clash if they are on the
+     * same day and their times overlap; a lesson may start at the time another ends.
+     */
+    public Optional<Lesson> findClash(Lesson lesson) {
+        requireNonNull(lesson);
+        NavigableMap<Integer, Lesson> lessonsOnDay = lessonsOn(lesson.getDay());
+        int startMinute = lesson.getStartMinute();
+
+        Map.Entry<Integer, Lesson> startingBefore = lessonsOnDay.floorEntry(startMinute);
+        if (startingBefore != null && startingBefore.getValue().getEndMinute() > startMinute) {
+            return Optional.of(startingBefore.getValue());
+        }
+        Map.Entry<Integer, Lesson> startingAfter = lessonsOnDay.higherEntry(startMinute);
+        if (startingAfter != null && startingAfter.getKey() < lesson.getEndMinute()) {
+            return Optional.of(startingAfter.getValue());
+        }
+        return Optional.empty();
+    }
+
+    /**
+     * Returns an unmodifiable view of the lessons on {@code day}, i.e. monday 1, sunday 7, in chronological order.
+     */
+    public Collection<Lesson> getLessonsOn(int day) {
+        return Collections.unmodifiableCollection(lessonsOn(day).values());
+    }
+
+    /**
+     * Adds {@code lesson} to the schedule.
+     *
+     * @throws IllegalArgumentException if {@code lesson} clashes with a lesson in the schedule, including an equal
+     *     one, with a message naming that lesson.
+     */
+    @Override
+    public boolean add(Lesson lesson) {
+        checkModifiable();
+        Optional<Lesson> clash = findClash(lesson);
+        if (clash.isPresent()) {
+            Lesson existingLesson = clash.get();
+            boolean isSameTime = existingLesson.getStartTime().equals(lesson.getStartTime())
+                    || existingLesson.getEndTime().equals(lesson.getEndTime());
+            throw new IllegalArgumentException(
+                    String.format(isSameTime ? MESSAGE_SAME_TIME : MESSAGE_OVERLAP, existingLesson));
+        }
+        lessonsOn(lesson.getDay()).put(lesson.getStartMinute(), lesson);
+        return true;
+    }
+
+    @Override
+    public boolean remove(Object other) {
+        checkModifiable();
+        if (!contains(other)) {
+            return false;
+        }
+        Lesson lesson = (Lesson) other;
+        lessonsOn(lesson.getDay()).remove(lesson.getStartMinute());
+        return true;
+    }
+
+    @Override
+    public boolean contains(Object other) {
+        if (!(other instanceof Lesson)) {
+            return false;
+        }
+        Lesson lesson = (Lesson) other;
+        if (lesson.getDay() < 1 || lesson.getDay() > DAYS_IN_WEEK) {
+            return false;
+        }
+        return lesson.equals(lessonsOn(lesson.getDay()).get(lesson.getStartMinute()));
+    }
+
+    @Override
+    public void clear() {
+        checkModifiable();
+        lessonsByDay.forEach(Map::clear);
+    }
+
+    @Override
+    public int size() {
+        int size = 0;
+        for (NavigableMap<Integer, Lesson> lessonsOnDay : lessonsByDay) {
+            size += lessonsOnDay.size();
+        }
+        return size;
+    }
+
+    /**
+     * Returns an iterator over the lessons in chronological order, from Monday to Sunday.
+     */
+    @Override
+    public Iterator<Lesson> iterator() {
+        return new Iterator<>() {
+            private int nextDay = 1;
+            private Iterator<Lesson> lessonsOnDay = Collections.emptyIterator();
+            private Iterator<Lesson> lastReturnedFrom;
+
+            @Override
+            public boolean hasNext() {
+                while (!lessonsOnDay.hasNext() && nextDay <= DAYS_IN_WEEK) {
+                    lessonsOnDay = lessonsOn(nextDay++).values().iterator();
+                }
+                return lessonsOnDay.hasNext();
+            }
+
+            @Override
+            public Lesson next() {
+                if (!hasNext()) {
+                    throw new NoSuchElementException();
+                }
+                lastReturnedFrom = lessonsOnDay;
+                return lessonsOnDay.next();
+            }
+
+            @Override
+            public void remove() {
+                checkModifiable();
+                if (lastReturnedFrom == null) {
+                    throw new IllegalStateException();
+                }
+                lastReturnedFrom.remove();
+                lastReturnedFrom = null;
+            }
+        };
+    }
+
+    private NavigableMap<Integer, Lesson> lessonsOn(int day) {
+        return lessonsByDay.get(day - 1);
+    }
+
+    private void checkModifiable() {
+        if (!isModifiable) {
+            throw new UnsupportedOperationException();
+        }
+    }
+
+}
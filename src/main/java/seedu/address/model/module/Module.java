@@ -3,8 +3,13 @@ package seedu.address.model.module;
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.AppUtil.checkArgument;
 
+import java.util.regex.Pattern;
+
+import seedu.address.commons.util.InternPool;
+
 /**
  * Represents a Module in the address book.
+ * Modules are best made with {@link #of(String)}, which shares one instance of each module among all its uses.
  * Guarantees: immutable; name is valid as declared in {@link #isValidModuleName(String)}
  */
 public class Module {
@@ -13,6 +18,9 @@ public class Module {
             + "4 digit module code, and an optional letter suffix";
     public static final String VALIDATION_REGEX = "^[a-zA-Z]{2,4}[0-9]{4}[a-zA-Z]{0,1}$";
 
+    private static final Pattern VALIDATION_PATTERN = Pattern.compile(VALIDATION_REGEX);
+    private static final InternPool<Module> POOL = new InternPool<>();
+
     public final String moduleName;
 
     /**
@@ -26,11 +34,20 @@ public class Module {
         this.moduleName = moduleName.toUpperCase();
     }
 
+    /**
+     * Returns the shared {@code Module} named {@code moduleName}.
+     *
+     * @param moduleName A valid module name.
+     */
+    public static Module of(String moduleName) {
+        return POOL.intern(new Module(moduleName));
+    }
+
     /**
      * Returns true if a given string is a valid module name.
      */
     public static boolean isValidModuleName(String test) {
-        return test.matches(VALIDATION_REGEX);
+        return VALIDATION_PATTERN.matcher(test).matches();
     }
 
     @Override
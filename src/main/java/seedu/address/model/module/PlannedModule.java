@@ -1,10 +1,24 @@
 package seedu.address.model.module;
 
+import seedu.address.commons.util.InternPool;
+
 /**
  * Modules CS student plans to take.
  */
 public class PlannedModule extends Module {
+
+    private static final InternPool<PlannedModule> POOL = new InternPool<>();
+
     public PlannedModule(String moduleName) {
         super(moduleName);
     }
+
+    /**
+     * Returns the shared {@code PlannedModule} named {@code moduleName}.
+     *
+     * @param moduleName A valid module name.
+     */
+    public static PlannedModule of(String moduleName) {
+        return POOL.intern(new PlannedModule(moduleName));
+    }
 }
@@ -23,6 +23,10 @@ public class PrevModContainsKeywordsPredicate implements Predicate<Person> {
         this.keywords = keywords;
     }
 
+    public String getKeywords() {
+        return keywords;
+    }
+
     @Override
     public boolean test(Person person) {
         return person.getPrevModules().stream()
@@ -1,10 +1,24 @@
 package seedu.address.model.module;
 
+import seedu.address.commons.util.InternPool;
+
 /**
  * Module that CS student has taken.
  */
 public class PreviousModule extends Module {
+
+    private static final InternPool<PreviousModule> POOL = new InternPool<>();
+
     public PreviousModule(String moduleName) {
         super(moduleName);
     }
+
+    /**
+     * Returns the shared {@code PreviousModule} named {@code moduleName}.
+     *
+     * @param moduleName A valid module name.
+     */
+    public static PreviousModule of(String moduleName) {
+        return POOL.intern(new PreviousModule(moduleName));
+    }
 }
@@ -0,0 +1,69 @@
+package seedu.address.model.module;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.BitSet;
+
+/**
+ * A graduation requirement, such as the core modules or a focus area, and the modules needed to clear it.
+ * Modules are identified by their ids in the {@link GraduationRequirements} the requirement belongs to, so the
+ * modules left to clear are found from the modules a student has cleared with a few operations on bit sets.
+ * Guarantees: immutable.
+ */
+public class Requirement {
+
+    private final String name;
+    private final BitSet modules;
+
+    Requirement(String name, BitSet modules) {
+        this.name = name;
+        this.modules = modules;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    /**
+     * Returns the ids of the modules needed to clear this requirement.
+     */
+    public BitSet getModules() {
+        return (BitSet) modules.clone();
+    }
+
+    /**
+     * Returns the ids of the modules of this requirement that are not among {@code clearedModules}.
+     */
+    public BitSet findModulesLeft(BitSet clearedModules) {
+        requireNonNull(clearedModules);
+        BitSet modulesLeft = (BitSet) modules.clone();
+        modulesLeft.andNot(clearedModules);
+        return modulesLeft;
+    }
+
+    /**
+     * Returns the number of modules of this requirement that are not among {@code clearedModules}.
+     */
+    public int countModulesLeft(BitSet clearedModules) {
+        return findModulesLeft(clearedModules).cardinality();
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this // short circuit if same object
+                || (other instanceof Requirement // instanceof handles nulls
+                && name.equals(((Requirement) other).name)
+                && modules.equals(((Requirement) other).modules)); // state check
+    }
+
+    @Override
+    public int hashCode() {
+        return name.hashCode();
+    }
+
+    @Override
+    public String toString() {
+        return name;
+    }
+
+}
@@ -0,0 +1,133 @@
+package seedu.address.model.module;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.util.BitSet;
+import java.util.Comparator;
+import java.util.List;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+/**
+ * How far a group of students is in clearing each of the {@link GraduationRequirements}: how many of them have
+ * cleared each requirement, and, among those who have not, how many have yet to clear each module of it.
+ * The counts are tallied in parallel on the common fork/join pool for large groups, with each part of the group
+ * tallied on its own and the tallies added up at the end, so the work is spread across cores without any locking.
+ * Guarantees: immutable.
+ */
+public class RequirementProgress {
+
+    /** Largest number of members that are tallied on one thread. */
+    static final int SEQUENTIAL_THRESHOLD = 256;
+
+    private final GraduationRequirements requirements;
+    private final int memberCount;
+    private final int[] clearedCounts;
+    private final int[][] outstandingCounts;
+
+    private RequirementProgress(GraduationRequirements requirements, Tally tally) {
+        this.requirements = requirements;
+        this.memberCount = tally.memberCount;
+        this.clearedCounts = tally.clearedCounts;
+        this.outstandingCounts = tally.outstandingCounts;
+    }
+
+    /**
+     * Returns the progress of {@code members} in clearing {@code requirements}, where the ids of the modules each
+     * member has cleared are given by {@code clearedModulesOf}, which must be safe to call from several threads at
+     * once.
+     */
+    public static <T> RequirementProgress of(GraduationRequirements requirements, List<T> members,
+            Function<? super T, BitSet> clearedModulesOf) {
+        requireAllNonNull(requirements, members, clearedModulesOf);
+        List<Requirement> requirementList = requirements.getRequirements();
+        int moduleCount = requirements.getModuleCount();
+        Stream<T> stream = members.size() > SEQUENTIAL_THRESHOLD ? members.parallelStream() : members.stream();
+        Tally tally = stream.collect(() -> new Tally(requirementList.size(), moduleCount),
+                (partialTally, member) -> partialTally.add(requirementList, clearedModulesOf.apply(member)),
+                Tally::addAll);
+        return new RequirementProgress(requirements, tally);
+    }
+
+    public int getMemberCount() {
+        return memberCount;
+    }
+
+    /**
+     * Returns the number of members who have cleared the requirement at {@code requirementIndex}.
+     */
+    public int countCleared(int requirementIndex) {
+        return clearedCounts[requirementIndex];
+    }
+
+    /**
+     * Returns the number of members who have yet to clear the module {@code moduleCode} of the requirement at
+     * {@code requirementIndex}, or 0 if the requirement does not need that module.
+     */
+    public int countOutstanding(int requirementIndex, String moduleCode) {
+        requireNonNull(moduleCode);
+        int moduleId = requirements.findModuleId(moduleCode);
+        return moduleId == -1 ? 0 : outstandingCounts[requirementIndex][moduleId];
+    }
+
+    /**
+     * Returns the codes of at most {@code limit} modules of the requirement at {@code requirementIndex} that the most
+     * members have yet to clear, most outstanding first. Modules that every member has cleared are left out, and ties
+     * are in alphabetical order.
+     */
+    public List<String> findMostOutstanding(int requirementIndex, int limit) {
+        int[] counts = outstandingCounts[requirementIndex];
+        // Ids are in alphabetical order of code, so ties are broken by id
+        return IntStream.range(0, counts.length)
+                .filter(id -> counts[id] > 0)
+                .boxed()
+                .sorted(Comparator.comparingInt((Integer id) -> counts[id]).reversed()
+                        .thenComparing(Comparator.naturalOrder()))
+                .limit(limit)
+                .map(requirements::getModuleCode)
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * The counts of part of a group, which can be added to as members are looked at and added up with the counts of
+     * other parts.
+     */
+    private static class Tally {
+        private int memberCount;
+        private final int[] clearedCounts;
+        private final int[][] outstandingCounts;
+
+        Tally(int requirementCount, int moduleCount) {
+            clearedCounts = new int[requirementCount];
+            outstandingCounts = new int[requirementCount][moduleCount];
+        }
+
+        void add(List<Requirement> requirements, BitSet clearedModules) {
+            memberCount++;
+            for (int i = 0; i < requirements.size(); i++) {
+                BitSet modulesLeft = requirements.get(i).findModulesLeft(clearedModules);
+                if (modulesLeft.isEmpty()) {
+                    clearedCounts[i]++;
+                    continue;
+                }
+                for (int id = modulesLeft.nextSetBit(0); id >= 0; id = modulesLeft.nextSetBit(id + 1)) {
+                    outstandingCounts[i][id]++;
+                }
+            }
+        }
+
+        void addAll(Tally other) {
+            memberCount += other.memberCount;
+            for (int i = 0; i < clearedCounts.length; i++) {
+                clearedCounts[i] += other.clearedCounts[i];
+                for (int id = 0; id < outstandingCounts[i].length; id++) {
+                    outstandingCounts[i][id] += other.outstandingCounts[i][id];
+                }
+            }
+        }
+    }
+
+}
@@ -1,5 +1,6 @@
 package seedu.address.model.person;
 
+import java.util.ArrayList;
 import java.util.List;
 import java.util.function.Predicate;
 
@@ -7,18 +8,70 @@ import seedu.address.commons.util.StringUtil;
 
 /**
  * Tests that a {@code Person}'s {@code Name} matches any of the keywords given.
+ * A keyword starting with {@value #FUZZY_KEYWORD_PREFIX} also matches words a few typing mistakes away from it.
  */
 public class NameContainsKeywordsPredicate implements Predicate<Person> {
+
+    public static final String FUZZY_KEYWORD_PREFIX = "~";
+
+    private static final int MAX_SHORT_WORD_LENGTH = 4;
+
     private final List<String> keywords;
+    private final List<Predicate<String>> keywordMatchers = new ArrayList<>();
 
+    /**
+     * Creates a predicate for persons whose name contains any of {@code keywords} as a whole word, ignoring case.
+     * For fuzzy keywords, the words may also be up to {@link #getMaxEdits(String)} edits away from the keyword.
+     *
+     * @throws IllegalArgumentException if any of {@code keywords} is empty or not a single word.
+     */
     public NameContainsKeywordsPredicate(List<String> keywords) {
         this.keywords = keywords;
+        for (String keyword : keywords) {
+            if (isFuzzyKeyword(keyword)) {
+                String word = toFuzzyWord(keyword);
+                keywordMatchers.add(StringUtil.fuzzyWordMatcherIgnoreCase(word, getMaxEdits(word)));
+            } else {
+                keywordMatchers.add(StringUtil.wordMatcherIgnoreCase(keyword));
+            }
+        }
+    }
+
+    /**
+     * Returns true if {@code keyword} starts with {@value #FUZZY_KEYWORD_PREFIX}, ignoring surrounding spaces.
+     */
+    public static boolean isFuzzyKeyword(String keyword) {
+        return keyword.trim().startsWith(FUZZY_KEYWORD_PREFIX);
+    }
+
+    /**
+     * Returns the word of the fuzzy {@code keyword}, without its {@value #FUZZY_KEYWORD_PREFIX}.
+     */
+    public static String toFuzzyWord(String keyword) {
+        return keyword.trim().substring(FUZZY_KEYWORD_PREFIX.length());
+    }
+
+    /**
+     * Returns the number of single character edits that a name word may be away from the fuzzy keyword
+     * {@code word}: one for words of up to {@value #MAX_SHORT_WORD_LENGTH} characters, and two for longer words.
+     */
+    public static int getMaxEdits(String word) {
+        return word.length() <= MAX_SHORT_WORD_LENGTH ? 1 : 2;
+    }
+
+    public List<String> getKeywords() {
+        return keywords;
     }
 
     @Override
     public boolean test(Person person) {
-        return keywords.stream()
-                .anyMatch(keyword -> StringUtil.containsWordIgnoreCase(person.getName().fullName, keyword));
+        String fullName = person.getName().fullName;
+        for (Predicate<String> keywordMatcher : keywordMatchers) {
+            if (keywordMatcher.test(fullName)) {
+                return true;
+            }
+        }
+        return false;
     }
 
     @Override
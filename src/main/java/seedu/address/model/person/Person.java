@@ -2,15 +2,17 @@ package seedu.address.model.person;
 
 import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
-import java.time.LocalTime;
 import java.util.Collections;
 import java.util.HashSet;
 import java.util.Objects;
+import java.util.Optional;
 import java.util.Set;
 
 import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.model.module.BusyWeek;
 import seedu.address.model.module.CurrentModule;
 import seedu.address.model.module.Lesson;
+import seedu.address.model.module.LessonSchedule;
 import seedu.address.model.module.PlannedModule;
 import seedu.address.model.module.PreviousModule;
 import seedu.address.model.tag.Tag;
@@ -18,22 +20,29 @@ import seedu.address.model.tag.Tag;
 /**
  * Represents a Person in the address book.
  * Guarantees: details are present and not null, field values are validated, immutable.
+ * A person's details other than its name can be left to be loaded when they are first needed, see
+ * {@link #withDetailsLoadedOnDemand(Name, PersonDetailsLoader)}.
  */
 public class Person {
 
     // Identity fields
     private final Name name;
-    private final Phone phone;
-    private final Email email;
+    private Phone phone;
+    private Email email;
 
     // Data fields
-    private final Address address;
-    private final Github github;
-    private final Set<Tag> tags = new HashSet<>();
-    private final Set<CurrentModule> currModules = new HashSet<>();
-    private final Set<PreviousModule> prevModules = new HashSet<>();
-    private final Set<PlannedModule> planModules = new HashSet<>();
-    private final Set<Lesson> lessons = new HashSet<>();
+    private Address address;
+    private Github github;
+    private Set<Tag> tags;
+    private Set<CurrentModule> currModules;
+    private Set<PreviousModule> prevModules;
+    private Set<PlannedModule> planModules;
+    private LessonSchedule lessons;
+    // Worked out from the lessons when first needed, and kept until they change
+    private BusyWeek busyWeek;
+
+    // Set until the details above, other than the name, are loaded
+    private volatile PersonDetailsLoader detailsLoader;
 
     /**
      * Every field must be present and not null.
@@ -46,10 +55,11 @@ public class Person {
         this.email = email;
         this.address = address;
         this.github = github;
-        this.tags.addAll(tags);
-        this.currModules.addAll(currModules);
-        this.prevModules.addAll(prevModules);
-        this.planModules.addAll(planModules);
+        this.tags = new HashSet<>(tags);
+        this.currModules = new HashSet<>(currModules);
+        this.prevModules = new HashSet<>(prevModules);
+        this.planModules = new HashSet<>(planModules);
+        this.lessons = new LessonSchedule();
     }
 
     /**
@@ -57,16 +67,67 @@ public class Person {
      */
     public Person(Person person) {
         requireAllNonNull(person);
+        person.loadDetails();
         this.name = person.name;
         this.phone = person.phone;
         this.email = person.email;
         this.address = person.address;
         this.github = person.github;
-        this.tags.addAll(person.tags);
-        this.currModules.addAll(person.currModules);
-        this.prevModules.addAll(person.prevModules);
-        this.planModules.addAll(person.planModules);
-        this.lessons.addAll(person.lessons);
+        this.tags = new HashSet<>(person.tags);
+        this.currModules = new HashSet<>(person.currModules);
+        this.prevModules = new HashSet<>(person.prevModules);
+        this.planModules = new HashSet<>(person.planModules);
+        this.lessons = new LessonSchedule(person.lessons);
+        this.busyWeek = person.busyWeek;
+    }
+
+    private Person(Name name, PersonDetailsLoader detailsLoader) {
+        this.name = name;
+        this.detailsLoader = detailsLoader;
+    }
+
+    /**
+     * Returns a person called {@code name} whose other details are loaded by {@code detailsLoader} only when they
+     * are first needed. The person loaded must have the same name.
+     */
+    public static Person withDetailsLoadedOnDemand(Name name, PersonDetailsLoader detailsLoader) {
+        requireAllNonNull(name, detailsLoader);
+        return new Person(name, detailsLoader);
+    }
+
+    /**
+     * Returns the loader of this person's details, if they have not been loaded yet.
+     */
+    public Optional<PersonDetailsLoader> getPendingDetailsLoader() {
+        return Optional.ofNullable(detailsLoader);
+    }
+
+    /**
+     * Loads this person's details if they have not been loaded yet. Safe to call from any thread.
+     */
+    private void loadDetails() {
+        if (detailsLoader == null) {
+            return;
+        }
+        synchronized (this) {
+            if (detailsLoader == null) {
+                return;
+            }
+            Person details = detailsLoader.load();
+            assert details.name.equals(name) : "Loaded details belong to another person";
+            // The loaded person is not kept by anyone else, so its sets can be taken over rather than copied
+            phone = details.phone;
+            email = details.email;
+            address = details.address;
+            github = details.github;
+            tags = details.tags;
+            currModules = details.currModules;
+            prevModules = details.prevModules;
+            planModules = details.planModules;
+            lessons = details.lessons;
+            // Written last, so that other threads that see it cleared also see the details
+            detailsLoader = null;
+        }
     }
 
     public Name getName() {
@@ -74,18 +135,22 @@ public class Person {
     }
 
     public Phone getPhone() {
+        loadDetails();
         return phone;
     }
 
     public Email getEmail() {
+        loadDetails();
         return email;
     }
 
     public Address getAddress() {
+        loadDetails();
         return address;
     }
 
     public Github getGithub() {
+        loadDetails();
         return github;
     }
 
@@ -94,6 +159,7 @@ public class Person {
      * if modification is attempted.
      */
     public Set<Tag> getTags() {
+        loadDetails();
         return Collections.unmodifiableSet(tags);
     }
 
@@ -102,6 +168,7 @@ public class Person {
      * if modification is attempted.
      */
     public Set<CurrentModule> getCurrModules() {
+        loadDetails();
         return Collections.unmodifiableSet(currModules);
     }
 
@@ -110,6 +177,7 @@ public class Person {
      * if modification is attempted.
      */
     public Set<PreviousModule> getPrevModules() {
+        loadDetails();
         return Collections.unmodifiableSet(prevModules);
     }
 
@@ -118,6 +186,7 @@ public class Person {
      * if modification is attempted.
      */
     public Set<PlannedModule> getPlanModules() {
+        loadDetails();
         return Collections.unmodifiableSet(planModules);
     }
 
@@ -153,18 +222,31 @@ public class Person {
      * Shifts all Current Modules {@code Set<CurrentModules>} into {@code Set<PreviousModules>}.
      */
     public void updatePrevMods() {
+        loadDetails();
         Set<PreviousModule> temporary = new HashSet<>();
-        currModules.stream().forEach(currMod -> temporary.add(new PreviousModule(currMod.moduleName)));
+        currModules.stream().forEach(currMod -> temporary.add(currMod.toPrevModule()));
         prevModules.addAll(temporary);
         currModules.clear();
     }
 
     /**
-     * Returns an immutable lesson set, which throws {@code UnsupportedOperationException}
+     * Returns an immutable lesson set in chronological order, which throws {@code UnsupportedOperationException}
      * if modification is attempted.
      */
     public Set<Lesson> getLessons() {
-        return Collections.unmodifiableSet(lessons);
+        loadDetails();
+        return lessons.unmodifiableView();
+    }
+
+    /**
+     * Returns the times of the week taken up by the person's lessons.
+     */
+    public BusyWeek getBusyWeek() {
+        loadDetails();
+        if (busyWeek == null) {
+            busyWeek = BusyWeek.of(lessons);
+        }
+        return busyWeek;
     }
 
     /**
@@ -187,40 +269,15 @@ public class Person {
      * @throws CommandException If lesson to be added overlaps with existing lessons of the contact.
      */
     public void addLesson(Lesson lesson) throws CommandException {
-        LocalTime lessonStartTime = lesson.getStartTime();
-        LocalTime lessonEndTime = lesson.getEndTime();
-        for (Lesson existingLesson : lessons) {
-            // base case : same day
-            if (lesson.getDay() == existingLesson.getDay()) {
-                LocalTime existingStartTime = existingLesson.getStartTime();
-                LocalTime existingEndTime = existingLesson.getEndTime();
-                int compareStartTime = lessonStartTime.compareTo(existingStartTime);
-                int compareEndTime = lessonEndTime.compareTo(existingEndTime);
-                int compareStartTimeToEndTime = lessonStartTime.compareTo(existingEndTime);
-                int compareEndTimeToStartTime = lessonEndTime.compareTo(existingStartTime);
-                // case 1 : start time is after or the same as existing end time - valid
-                if (compareStartTimeToEndTime >= 0) {
-                    continue;
-                // case 2 : end time is before or the same as existing start time - valid
-                } else if (compareEndTimeToStartTime <= 0) {
-                    continue;
-                // case 3 : start or end time is the same - invalid
-                } else if ((compareStartTime == 0) || (compareEndTime == 0)) {
-                    throw new CommandException(String.format("Lesson has same start/end time as %s", existingLesson));
-                // case 4 : start time is later, end time is earlier - invalid
-                } else if ((compareStartTime > 0) && (compareEndTime < 0)) {
-                    throw new CommandException(String.format("Lesson timing overlaps with %s", existingLesson));
-                // case 5 : start time is later, but earlier than existing end time - invalid
-                } else if ((compareStartTime > 0) && (compareStartTimeToEndTime < 0)) {
-                    throw new CommandException(String.format("Lesson timing overlaps with %s", existingLesson));
-                // case 6 : end time is earlier, but later than existing start time - invalid
-                } else if ((compareEndTime < 0) && (compareEndTimeToStartTime > 0)) {
-                    throw new CommandException(String.format("Lesson timing overlaps with %s", existingLesson));
-                }
-            }
+        loadDetails();
+        try {
+            lessons.add(lesson);
+        } catch (IllegalArgumentException e) {
+            throw new CommandException(e.getMessage(), e);
+        }
+        if (busyWeek != null) {
+            busyWeek = busyWeek.with(lesson);
         }
-        // no overlaps, add lesson to user
-        lessons.add(lesson);
     }
 
     /**
@@ -230,7 +287,9 @@ public class Person {
      * @throws CommandException No lesson found in set in contact.
      */
     public void removeLesson(Lesson lesson) throws CommandException {
+        loadDetails();
         boolean isRemoved = lessons.remove(lesson);
+        busyWeek = null;
 
         if (!isRemoved) {
             throw new CommandException("No such lesson exists!");
@@ -266,6 +325,7 @@ public class Person {
     @Override
     public int hashCode() {
         // use this method for custom fields hashing instead of implementing your own
+        loadDetails();
         return Objects.hash(name, phone, email, address, github, tags, currModules, prevModules, planModules);
     }
 
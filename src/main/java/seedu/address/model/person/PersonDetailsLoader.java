@@ -0,0 +1,19 @@
+package seedu.address.model.person;
+
+/**
+ * Loads the details of a {@link Person} that are kept out of memory until they are first needed.
+ *
+ * @see Person#withDetailsLoadedOnDemand(Name, PersonDetailsLoader)
+ */
+@FunctionalInterface
+public interface PersonDetailsLoader {
+
+    /**
+     * Returns a new person with all the details of the person being loaded. The person returned is taken over by
+     * the person being loaded, so it must not be used anywhere else.
+     *
+     * @throws IllegalStateException if the details can no longer be loaded.
+     */
+    Person load();
+
+}
@@ -3,13 +3,25 @@ package seedu.address.model.person;
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
 import java.util.Iterator;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Predicate;
 
 import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
 import seedu.address.model.person.exceptions.DuplicatePersonException;
 import seedu.address.model.person.exceptions.PersonNotFoundException;
+import seedu.address.model.search.ModuleIndex;
+import seedu.address.model.search.NameIndex;
+import seedu.address.model.search.PrefixIndex;
+import seedu.address.model.search.TagIndex;
+import seedu.address.model.tag.TagQuery;
 
 /**
  * A list of persons that enforces uniqueness between its elements and does not allow nulls.
@@ -20,20 +32,45 @@ import seedu.address.model.person.exceptions.PersonNotFoundException;
  *
  * Supports a minimal set of list operations.
  *
+ * A secondary index from each person's {@code Name} to its position in the list is kept in step with every change,
+ * so that identity lookups do not need to scan the list. A {@link NameIndex} of the words in each person's name, and
+ * a {@link ModuleIndex} for each of the current, previous and planned module sets, a {@link TagIndex} and a
+ * {@link PrefixIndex}, are kept in the same way for searches. All of them are updated before the list itself, so
+ * that listeners of the list already see them changed.
+ *
+ * Changes can be made in a batch, between {@link #beginBatch()} and {@link #endBatch()}. The persons and indexes
+ * change as usual during a batch, but the observable list is only brought up to date when the batch ends, so its
+ * listeners are told of all the changes of the batch in one change rather than one change each.
+ *
  * @see Person#isSamePerson(Person)
  */
 public class UniquePersonList implements Iterable<Person> {
 
+    /** The persons in the list, which the observable list is the same as whenever no batch is open. */
+    private final List<Person> persons = new ArrayList<>();
     private final ObservableList<Person> internalList = FXCollections.observableArrayList();
     private final ObservableList<Person> internalUnmodifiableList =
             FXCollections.unmodifiableObservableList(internalList);
+    private final Map<Name, Integer> positions = new HashMap<>();
+    private final NameIndex nameIndex = new NameIndex();
+    private final ModuleIndex currModuleIndex = new ModuleIndex(persons, Person::getCurrModules);
+    private final ModuleIndex prevModuleIndex = new ModuleIndex(persons, Person::getPrevModules);
+    private final ModuleIndex planModuleIndex = new ModuleIndex(persons, Person::getPlanModules);
+    private final TagIndex tagIndex = new TagIndex(persons);
+    private final PrefixIndex prefixIndex = new PrefixIndex(persons);
+    private int batchDepth;
+    private boolean isChangedInBatch;
+    /** Position of the first person changed in the open batch. */
+    private int changedFrom;
+    /** Number of persons at the end of the list that are unchanged in the open batch. */
+    private int unchangedAtEnd;
 
     /**
      * Returns true if the list contains an equivalent person as the given argument.
      */
     public boolean contains(Person toCheck) {
         requireNonNull(toCheck);
-        return internalList.stream().anyMatch(toCheck::isSamePerson);
+        return positions.containsKey(toCheck.getName());
     }
 
     /**
@@ -45,7 +82,29 @@ public class UniquePersonList implements Iterable<Person> {
         if (contains(toAdd)) {
             throw new DuplicatePersonException();
         }
-        internalList.add(toAdd);
+        positions.put(toAdd.getName(), persons.size());
+        addToSearchIndexes(toAdd);
+        persons.add(toAdd);
+        if (isPublishing(persons.size() - 1)) {
+            internalList.add(toAdd);
+        }
+    }
+
+    /**
+     * Inserts a person into the list at {@code index}, shifting the persons at and after it back by one.
+     * The person must not already exist in the list.
+     */
+    public void add(int index, Person toAdd) {
+        requireNonNull(toAdd);
+        if (contains(toAdd)) {
+            throw new DuplicatePersonException();
+        }
+        addToSearchIndexes(toAdd);
+        persons.add(index, toAdd);
+        reindexFrom(index);
+        if (isPublishing(index)) {
+            internalList.add(index, toAdd);
+        }
     }
 
     /**
@@ -56,7 +115,7 @@ public class UniquePersonList implements Iterable<Person> {
     public void setPerson(Person target, Person editedPerson) {
         requireAllNonNull(target, editedPerson);
 
-        int index = internalList.indexOf(target);
+        int index = indexOf(target);
         if (index == -1) {
             throw new PersonNotFoundException();
         }
@@ -65,7 +124,14 @@ public class UniquePersonList implements Iterable<Person> {
             throw new DuplicatePersonException();
         }
 
-        internalList.set(index, editedPerson);
+        positions.remove(target.getName());
+        positions.put(editedPerson.getName(), index);
+        removeFromSearchIndexes(target);
+        addToSearchIndexes(editedPerson);
+        persons.set(index, editedPerson);
+        if (isPublishing(index)) {
+            internalList.set(index, editedPerson);
+        }
     }
 
     /**
@@ -74,14 +140,25 @@ public class UniquePersonList implements Iterable<Person> {
      */
     public void remove(Person toRemove) {
         requireNonNull(toRemove);
-        if (!internalList.remove(toRemove)) {
+        int index = indexOf(toRemove);
+        if (index == -1) {
             throw new PersonNotFoundException();
         }
+
+        positions.remove(toRemove.getName());
+        removeFromSearchIndexes(toRemove);
+        persons.remove(index);
+        reindexFrom(index);
+        if (isPublishing(index, persons.size() - index)) {
+            internalList.remove(index);
+        }
     }
 
     public void setPersons(UniquePersonList replacement) {
         requireNonNull(replacement);
-        internalList.setAll(replacement.internalList);
+        positions.clear();
+        positions.putAll(replacement.positions);
+        replacePersons(replacement.persons);
     }
 
     /**
@@ -90,15 +167,224 @@ public class UniquePersonList implements Iterable<Person> {
      */
     public void setPersons(List<Person> persons) {
         requireAllNonNull(persons);
-        if (!personsAreUnique(persons)) {
-            throw new DuplicatePersonException();
+        Map<Name, Integer> replacementPositions = new HashMap<>();
+        Set<Name> duplicateNames = findDuplicateNames(persons, replacementPositions);
+        if (!duplicateNames.isEmpty()) {
+            throw new DuplicatePersonException(duplicateNames);
+        }
+
+        positions.clear();
+        positions.putAll(replacementPositions);
+        replacePersons(persons);
+    }
+
+    private void replacePersons(List<Person> replacement) {
+        resetSearchIndexes(replacement);
+        // The replacement may be a view of this list, so it is copied before the list is cleared
+        List<Person> replacementCopy = new ArrayList<>(replacement);
+        persons.clear();
+        persons.addAll(replacementCopy);
+        if (isPublishing(0, 0)) {
+            internalList.setAll(replacementCopy);
+        }
+    }
+
+    /**
+     * Starts a batch of changes, which ends at the matching call to {@link #endBatch()}. Batches may be nested, in
+     * which case the outermost batch decides when the changes are published.
+     */
+    public void beginBatch() {
+        batchDepth++;
+    }
+
+    /**
+     * Ends the batch started by the matching call to {@link #beginBatch()}. If it is the outermost batch and the list
+     * was changed during it, only the range of the observable list that was changed is brought up to date, so a
+     * batch that changes one person is published as a change of that person alone.
+     */
+    public void endBatch() {
+        if (batchDepth == 0) {
+            throw new IllegalStateException("No batch to end");
+        }
+        batchDepth--;
+        if (batchDepth == 0 && isChangedInBatch) {
+            isChangedInBatch = false;
+            publishChangedRange();
+        }
+    }
+
+    /**
+     * Replaces the persons changed in the batch that just ended in the observable list, in as few changes as the
+     * list allows: one for a person set, added or removed, or for the whole list replaced, and two otherwise.
+     */
+    private void publishChangedRange() {
+        int publishedTo = internalList.size() - unchangedAtEnd;
+        List<Person> changedPersons = new ArrayList<>(persons.subList(changedFrom, persons.size() - unchangedAtEnd));
+        if (changedFrom == 0 && unchangedAtEnd == 0) {
+            internalList.setAll(changedPersons);
+        } else if (publishedTo - changedFrom == 1 && changedPersons.size() == 1) {
+            internalList.set(changedFrom, changedPersons.get(0));
+        } else {
+            if (publishedTo > changedFrom) {
+                internalList.remove(changedFrom, publishedTo);
+            }
+            if (!changedPersons.isEmpty()) {
+                internalList.addAll(changedFrom, changedPersons);
+            }
+        }
+    }
+
+    /**
+     * Returns true if a change to the person at {@code index}, which was just made, should be made to the observable
+     * list right away, which is when no batch is open. Otherwise, the change is added to the range changed in the
+     * batch.
+     */
+    private boolean isPublishing(int index) {
+        return isPublishing(index, persons.size() - index - 1);
+    }
+
+    /**
+     * Returns true if a change from {@code index}, which was just made and left the last {@code unchangedAfter}
+     * persons as they were, should be made to the observable list right away, which is when no batch is open.
+     * Otherwise, the change is added to the range changed in the batch.
+     */
+    private boolean isPublishing(int index, int unchangedAfter) {
+        if (batchDepth == 0) {
+            return true;
+        }
+        if (!isChangedInBatch) {
+            isChangedInBatch = true;
+            changedFrom = index;
+            unchangedAtEnd = unchangedAfter;
+        } else {
+            // Persons before the first change and after the last one keep their places, however the persons
+            // between them were changed
+            changedFrom = Math.min(changedFrom, index);
+            unchangedAtEnd = Math.min(unchangedAtEnd, unchangedAfter);
         }
+        return false;
+    }
+
+    /**
+     * Returns a predicate that tests if a person's name contains any of {@code keywords} as a whole word, ignoring
+     * case, by looking the keywords up in the name index of this list.
+     */
+    public Predicate<Person> nameKeywordsMatcher(List<String> keywords) {
+        return nameIndex.matcherFor(keywords);
+    }
+
+    /**
+     * Returns a predicate that tests if a person has a current module whose code is one of the words in
+     * {@code keywords}, ignoring case, by looking the codes up in the current module index of this list.
+     */
+    public Predicate<Person> currModuleKeywordsMatcher(String keywords) {
+        return currModuleIndex.matcherFor(keywords);
+    }
+
+    /**
+     * Returns a predicate that tests if a person has a previous module whose code is one of the words in
+     * {@code keywords}, ignoring case, by looking the codes up in the previous module index of this list.
+     */
+    public Predicate<Person> prevModuleKeywordsMatcher(String keywords) {
+        return prevModuleIndex.matcherFor(keywords);
+    }
+
+    /**
+     * Returns a predicate that tests if a person has a planned module whose code is one of the words in
+     * {@code keywords}, ignoring case, by looking the codes up in the planned module index of this list.
+     */
+    public Predicate<Person> planModuleKeywordsMatcher(String keywords) {
+        return planModuleIndex.matcherFor(keywords);
+    }
+
+    /**
+     * Returns a predicate that tests if a person's tags match {@code query}, by answering the query from the tag
+     * index of this list.
+     */
+    public Predicate<Person> tagQueryMatcher(TagQuery query) {
+        return tagIndex.matcherFor(query);
+    }
+
+    /**
+     * Returns the index of the prefixes of the words in each person's name, tags and module codes, building it
+     * first if needed.
+     */
+    public PrefixIndex getPrefixIndex() {
+        prefixIndex.build();
+        return prefixIndex;
+    }
 
-        internalList.setAll(persons);
+    private void addToSearchIndexes(Person person) {
+        nameIndex.add(person.getName());
+        currModuleIndex.add(person);
+        prevModuleIndex.add(person);
+        planModuleIndex.add(person);
+        tagIndex.add(person);
+        prefixIndex.add(person);
+    }
+
+    private void removeFromSearchIndexes(Person person) {
+        nameIndex.remove(person.getName());
+        currModuleIndex.remove(person);
+        prevModuleIndex.remove(person);
+        planModuleIndex.remove(person);
+        tagIndex.remove(person);
+        prefixIndex.remove(person);
+    }
+
+    /**
+     * Indexes the names in {@code persons}, which are about to replace the list. The other indexes are built again
+     * from the new list when they are next searched.
+     */
+    private void resetSearchIndexes(List<Person> persons) {
+        nameIndex.clear();
+        persons.forEach(person -> nameIndex.add(person.getName()));
+        currModuleIndex.reset();
+        prevModuleIndex.reset();
+        planModuleIndex.reset();
+        tagIndex.reset();
+        prefixIndex.reset();
+    }
+
+    /**
+     * Returns the position of the person in the list that is equal to {@code person}, or -1 if there is none.
+     */
+    public int indexOf(Person person) {
+        requireNonNull(person);
+        Integer index = positions.get(person.getName());
+        if (index == null || !persons.get(index).equals(person)) {
+            return -1;
+        }
+        return index;
+    }
+
+    /**
+     * Refreshes the index entries of every person at or after {@code start}, whose positions may have shifted.
+     */
+    private void reindexFrom(int start) {
+        for (int i = start; i < persons.size(); i++) {
+            positions.put(persons.get(i).getName(), i);
+        }
+    }
+
+    /**
+     * Returns the number of persons in the list, including changes made in an open batch.
+     */
+    public int size() {
+        return persons.size();
+    }
+
+    /**
+     * Returns the persons in the list as an unmodifiable {@code List}, which shows the changes made in an open batch
+     * right away.
+     */
+    public List<Person> asUnmodifiableCurrentList() {
+        return Collections.unmodifiableList(persons);
     }
 
     /**
-     * Returns the backing list as an unmodifiable {@code ObservableList}.
+     * Returns the backing list as an unmodifiable {@code ObservableList}. While a batch is open, the list does not
+     * show the changes made in the batch yet.
      */
     public ObservableList<Person> asUnmodifiableObservableList() {
         return internalUnmodifiableList;
@@ -106,38 +392,42 @@ public class UniquePersonList implements Iterable<Person> {
 
     @Override
     public Iterator<Person> iterator() {
-        return internalList.iterator();
+        return persons.iterator();
     }
 
     @Override
     public boolean equals(Object other) {
         return other == this // short circuit if same object
                 || (other instanceof UniquePersonList // instanceof handles nulls
-                        && internalList.equals(((UniquePersonList) other).internalList));
+                        && persons.equals(((UniquePersonList) other).persons));
     }
 
     @Override
     public int hashCode() {
-        return internalList.hashCode();
+        return persons.hashCode();
     }
 
     /**
-     * Returns true if {@code persons} contains only unique persons.
+     * Returns the names that identify more than one person in {@code persons}, in the order they are first repeated.
+     * The list is checked in a single pass, during which the position of the first person with each name is recorded
+     * in {@code positionsByName}.
      */
-    private boolean personsAreUnique(List<Person> persons) {
-        for (int i = 0; i < persons.size() - 1; i++) {
-            for (int j = i + 1; j < persons.size(); j++) {
-                if (persons.get(i).isSamePerson(persons.get(j))) {
-                    return false;
-                }
+    private static Set<Name> findDuplicateNames(List<Person> persons, Map<Name, Integer> positionsByName) {
+        Set<Name> duplicateNames = new LinkedHashSet<>();
+        int index = 0;
+        for (Person person : persons) {
+            Name name = person.getName();
+            if (positionsByName.putIfAbsent(name, index) != null) {
+                duplicateNames.add(name);
             }
+            index++;
         }
-        return true;
+        return duplicateNames;
     }
 
     @Override
     public String toString() {
-        return internalList.toString();
+        return persons.toString();
     }
 
 }
@@ -3,6 +3,7 @@ package seedu.address.model.person.user;
 import java.util.Set;
 
 import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.model.module.BusyWeek;
 import seedu.address.model.module.CurrentModule;
 import seedu.address.model.module.Lesson;
 import seedu.address.model.module.PlannedModule;
@@ -111,6 +112,11 @@ public class EmptyUser extends User {
         return null;
     }
 
+    @Override
+    public BusyWeek getBusyWeek() {
+        return BusyWeek.FREE;
+    }
+
     @Override
     public void updatePrevMods() throws CommandException {
         throw new CommandException("No user created!");
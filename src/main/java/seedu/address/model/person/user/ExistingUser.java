@@ -2,15 +2,16 @@ package seedu.address.model.person.user;
 
 import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
-import java.time.LocalTime;
 import java.util.Collections;
 import java.util.HashSet;
 import java.util.Objects;
 import java.util.Set;
 
 import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.model.module.BusyWeek;
 import seedu.address.model.module.CurrentModule;
 import seedu.address.model.module.Lesson;
+import seedu.address.model.module.LessonSchedule;
 import seedu.address.model.module.PlannedModule;
 import seedu.address.model.module.PreviousModule;
 import seedu.address.model.person.Address;
@@ -36,7 +37,9 @@ public class ExistingUser extends User {
     private final Set<CurrentModule> currModules = new HashSet<>();
     private final Set<PreviousModule> prevModules = new HashSet<>();
     private final Set<PlannedModule> planModules = new HashSet<>();
-    private Set<Lesson> lessons = new HashSet<>();
+    private LessonSchedule lessons = new LessonSchedule();
+    // Worked out from the lessons when first needed, and kept until they change
+    private BusyWeek busyWeek;
 
     /**
      * Every field must be present and not null.
@@ -150,48 +153,38 @@ public class ExistingUser extends User {
      * @throws CommandException If lesson to be added overlaps with existing lessons of the User.
      */
     public void addLesson(Lesson lesson) throws CommandException {
-        LocalTime lessonStartTime = lesson.getStartTime();
-        LocalTime lessonEndTime = lesson.getEndTime();
-        for (Lesson existingLesson : lessons) {
-            // base case : same day
-            if (lesson.getDay() == existingLesson.getDay()) {
-                LocalTime existingStartTime = existingLesson.getStartTime();
-                LocalTime existingEndTime = existingLesson.getEndTime();
-                int compareStartTime = lessonStartTime.compareTo(existingStartTime);
-                int compareEndTime = lessonEndTime.compareTo(existingEndTime);
-                int compareStartTimeToEndTime = lessonStartTime.compareTo(existingEndTime);
-                int compareEndTimeToStartTime = lessonEndTime.compareTo(existingStartTime);
-                // case 1 : start time is after or the same as existing end time - valid
-                if (compareStartTimeToEndTime >= 0) {
-                    continue;
-                    // case 2 : end time is before or the same as existing start time - valid
-                } else if (compareEndTimeToStartTime <= 0) {
-                    continue;
-                    // case 3 : start or end time is the same - invalid
-                } else if ((compareStartTime == 0) || (compareEndTime == 0)) {
-                    throw new CommandException(String.format("Lesson has same start/end time as %s", existingLesson));
-                    // case 4 : start time is later, end time is earlier - invalid
-                } else if ((compareStartTime > 0) && (compareEndTime < 0)) {
-                    throw new CommandException(String.format("Lesson timing overlaps with %s", existingLesson));
-                    // case 5 : start time is later, but earlier than existing end time - invalid
-                } else if ((compareStartTime > 0) && (compareStartTimeToEndTime < 0)) {
-                    throw new CommandException(String.format("Lesson timing overlaps with %s", existingLesson));
-                    // case 6 : end time is earlier, but later than existing start time - invalid
-                } else if ((compareEndTime < 0) && (compareEndTimeToStartTime > 0)) {
-                    throw new CommandException(String.format("Lesson timing overlaps with %s", existingLesson));
-                }
-            }
+        try {
+            lessons.add(lesson);
+        } catch (IllegalArgumentException e) {
+            throw new CommandException(e.getMessage(), e);
+        }
+        if (busyWeek != null) {
+            busyWeek = busyWeek.with(lesson);
         }
-        // no overlaps, add lesson to user
-        lessons.add(lesson);
     }
 
+    /**
+     * Returns an immutable lesson set in chronological order, which throws {@code UnsupportedOperationException}
+     * if modification is attempted.
+     */
     public Set<Lesson> getLessons() {
-        return Collections.unmodifiableSet(lessons);
+        return lessons.unmodifiableView();
     }
 
+    /**
+     * Replaces the User's lessons with a copy of {@code lessons}, which must not clash with each other.
+     */
     public void setLessons(Set<Lesson> lessons) {
-        this.lessons = lessons;
+        this.lessons = new LessonSchedule(lessons);
+        busyWeek = null;
+    }
+
+    @Override
+    public BusyWeek getBusyWeek() {
+        if (busyWeek == null) {
+            busyWeek = BusyWeek.of(lessons);
+        }
+        return busyWeek;
     }
 
     /**
@@ -202,6 +195,7 @@ public class ExistingUser extends User {
      */
     public void removeLesson(Lesson lesson) throws CommandException {
         boolean isRemoved = lessons.remove(lesson);
+        busyWeek = null;
 
         if (!isRemoved) {
             throw new CommandException("No such lesson exists!");
@@ -214,7 +208,7 @@ public class ExistingUser extends User {
     @Override
     public void updatePrevMods() {
         Set<PreviousModule> temporary = new HashSet<>();
-        currModules.stream().forEach(currMod -> temporary.add(new PreviousModule(currMod.moduleName)));
+        currModules.stream().forEach(currMod -> temporary.add(currMod.toPrevModule()));
         prevModules.addAll(temporary);
         currModules.clear();
     }
@@ -3,6 +3,7 @@ package seedu.address.model.person.user;
 import java.util.Set;
 
 import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.model.module.BusyWeek;
 import seedu.address.model.module.CurrentModule;
 import seedu.address.model.module.Lesson;
 import seedu.address.model.module.PlannedModule;
@@ -50,6 +51,11 @@ public abstract class User {
 
     public abstract Set<Lesson> getLessons();
 
+    /**
+     * Returns the times of the week taken up by the User's lessons.
+     */
+    public abstract BusyWeek getBusyWeek();
+
     /**
      * Removes lesson from set of lessons.
      *
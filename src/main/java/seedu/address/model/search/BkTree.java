@@ -0,0 +1,87 @@
+package seedu.address.model.search;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import seedu.address.commons.util.StringUtil;
+
+/**
+ * A BK-tree of words, which finds the words within some edit distance of a word without measuring the distance to
+ * every word.
+ * Each child of a node is at a different edit distance from the node's word. By the triangle inequality, only the
+ * children whose distance is within the allowed number of edits of the distance from the node's word to the word
+ * searched can lead to matches, so the other children are skipped.
+ * Words are expected to be case-folded by the index that owns the tree.
+ */
+class BkTree {
+
+    private Node root;
+
+    /**
+     * Adds {@code word} to the tree, if it is not in it already.
+     */
+    void add(String word) {
+        if (root == null) {
+            root = new Node(word);
+            return;
+        }
+        Node node = root;
+        while (true) {
+            int distance = StringUtil.editDistanceIgnoreCase(word, node.word);
+            if (distance == 0) {
+                return;
+            }
+            Node child = node.children.get(distance);
+            if (child == null) {
+                node.children.put(distance, new Node(word));
+                return;
+            }
+            node = child;
+        }
+    }
+
+    void clear() {
+        root = null;
+    }
+
+    /**
+     * Returns the words in the tree that are at most {@code maxDistance} edits away from {@code word}.
+     */
+    List<String> search(String word, int maxDistance) {
+        List<String> matches = new ArrayList<>();
+        if (root == null) {
+            return matches;
+        }
+        Deque<Node> pending = new ArrayDeque<>();
+        pending.push(root);
+        while (!pending.isEmpty()) {
+            Node node = pending.pop();
+            int distance = StringUtil.editDistanceIgnoreCase(word, node.word);
+            if (distance <= maxDistance) {
+                matches.add(node.word);
+            }
+            for (int childDistance = Math.max(1, distance - maxDistance); childDistance <= distance + maxDistance;
+                    childDistance++) {
+                Node child = node.children.get(childDistance);
+                if (child != null) {
+                    pending.push(child);
+                }
+            }
+        }
+        return matches;
+    }
+
+    private static class Node {
+        private final String word;
+        private final Map<Integer, Node> children = new HashMap<>();
+
+        Node(String word) {
+            this.word = word;
+        }
+    }
+
+}
@@ -0,0 +1,99 @@
+package seedu.address.model.search;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.function.Predicate;
+
+import seedu.address.model.module.Module;
+import seedu.address.model.person.Person;
+
+/**
+ * An index from each module code, ignoring case, to the names of the persons that have it in one of their module
+ * sets, such as their current modules.
+ * The index is only built from the indexed list the first time it is searched, so that persons whose details are
+ * loaded on demand are not all loaded when the list is filled. After that it is kept in step with the list.
+ */
+public class ModuleIndex {
+
+    private final List<Person> indexedPersons;
+    private final Function<Person, Set<? extends Module>> modulesOf;
+    private final PostingLists namesByModule = new PostingLists();
+    private boolean isBuilt;
+
+    /**
+     * Creates an index of the modules that {@code modulesOf} gives for each person in {@code indexedPersons}, which
+     * must be told of every change to the list through {@link #add(Person)}, {@link #remove(Person)} and
+     * {@link #reset()} before the list changes.
+     */
+    public ModuleIndex(List<Person> indexedPersons, Function<Person, Set<? extends Module>> modulesOf) {
+        requireAllNonNull(indexedPersons, modulesOf);
+        this.indexedPersons = indexedPersons;
+        this.modulesOf = modulesOf;
+    }
+
+    /**
+     * Adds {@code person} to the index, if it has been built.
+     */
+    public void add(Person person) {
+        requireNonNull(person);
+        if (isBuilt) {
+            modulesOf.apply(person).forEach(module -> namesByModule.add(foldedCode(module), person.getName()));
+        }
+    }
+
+    /**
+     * Removes {@code person} from the index, if it has been built.
+     */
+    public void remove(Person person) {
+        requireNonNull(person);
+        if (isBuilt) {
+            modulesOf.apply(person).forEach(module -> namesByModule.remove(foldedCode(module), person.getName()));
+        }
+    }
+
+    /**
+     * Drops the index, to be built again from the indexed list when it is next searched.
+     */
+    public void reset() {
+        namesByModule.clear();
+        isBuilt = false;
+    }
+
+    /**
+     * Returns a predicate that tests if a person has any module whose code is one of the words in {@code keywords},
+     * ignoring case, by checking if the person is in the index under any of them.
+     * The predicate reads the index as it is when testing, so it stays correct when used as the predicate of a
+     * filtered view of the indexed list.
+     */
+    public Predicate<Person> matcherFor(String keywords) {
+        requireNonNull(keywords);
+        List<String> foldedCodes = new ArrayList<>();
+        for (String keyword : keywords.split("\\s+")) {
+            if (!keyword.isEmpty()) {
+                foldedCodes.add(NameIndex.foldCase(keyword));
+            }
+        }
+        return person -> {
+            build();
+            return namesByModule.containsAny(foldedCodes, person.getName());
+        };
+    }
+
+    private void build() {
+        if (isBuilt) {
+            return;
+        }
+        isBuilt = true;
+        indexedPersons.forEach(this::add);
+    }
+
+    private static String foldedCode(Module module) {
+        return NameIndex.foldCase(module.moduleName);
+    }
+
+}
@@ -0,0 +1,143 @@
+package seedu.address.model.search;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.function.Predicate;
+
+import seedu.address.model.person.Name;
+import seedu.address.model.person.NameContainsKeywordsPredicate;
+import seedu.address.model.person.Person;
+
+/**
+ * An inverted index from each word of a name, ignoring case, to the names that contain it.
+ * It is kept in step with a person list, so that persons with any of a few name keywords can be found by looking up
+ * each keyword once rather than by splitting every name in the list.
+ * Words are compared in the same way as {@link String#equalsIgnoreCase(String)}.
+ * The distinct words are also kept in a {@link BkTree}, so that fuzzy keywords are looked up among the words near
+ * them rather than against every word.
+ */
+public class NameIndex {
+
+    private final PostingLists namesByWord = new PostingLists();
+    private final BkTree words = new BkTree();
+    /** Increases whenever a word starts or stops having names indexed under it. */
+    private long wordsVersion;
+
+    /**
+     * Adds {@code name} to the index.
+     */
+    public void add(Name name) {
+        requireNonNull(name);
+        for (String word : foldedWords(name)) {
+            if (namesByWord.add(word, name)) {
+                words.add(word);
+                wordsVersion++;
+            }
+        }
+    }
+
+    /**
+     * Removes {@code name} from the index.
+     */
+    public void remove(Name name) {
+        requireNonNull(name);
+        for (String word : foldedWords(name)) {
+            // Words with no names left stay in the tree, and are found with no names under them
+            if (namesByWord.remove(word, name)) {
+                wordsVersion++;
+            }
+        }
+    }
+
+    /**
+     * Removes every name from the index.
+     */
+    public void clear() {
+        namesByWord.clear();
+        words.clear();
+        wordsVersion++;
+    }
+
+    /**
+     * Returns the names that contain any of {@code keywords} as a whole word, ignoring case.
+     */
+    public Set<Name> find(Collection<String> keywords) {
+        requireNonNull(keywords);
+        Set<Name> matches = new HashSet<>();
+        for (String keyword : keywords) {
+            matches.addAll(namesByWord.get(foldCase(keyword.trim())));
+        }
+        return matches;
+    }
+
+    /**
+     * Returns a predicate that tests if a person's name contains any of {@code keywords} as a whole word, ignoring
+     * case, by checking if the name is in the index under any of them. Fuzzy keywords, as told by
+     * {@link NameContainsKeywordsPredicate#isFuzzyKeyword(String)}, stand for every indexed word near them.
+     * The predicate reads the index as it is when testing, so it stays correct when used as the predicate of a
+     * filtered view of the indexed list, and each test costs one lookup per keyword however long the list is.
+     */
+    public Predicate<Person> matcherFor(List<String> keywords) {
+        requireNonNull(keywords);
+        if (keywords.stream().noneMatch(NameContainsKeywordsPredicate::isFuzzyKeyword)) {
+            List<String> foldedKeywords = toFoldedWords(keywords);
+            return person -> namesByWord.containsAny(foldedKeywords, person.getName());
+        }
+
+        return new Predicate<>() {
+            private List<String> foldedWords;
+            private long foldedWordsVersion;
+
+            @Override
+            public boolean test(Person person) {
+                // The words near a fuzzy keyword are only looked up again once the indexed words change
+                if (foldedWords == null || foldedWordsVersion != wordsVersion) {
+                    foldedWords = toFoldedWords(keywords);
+                    foldedWordsVersion = wordsVersion;
+                }
+                return namesByWord.containsAny(foldedWords, person.getName());
+            }
+        };
+    }
+
+    private List<String> toFoldedWords(List<String> keywords) {
+        List<String> foldedWords = new ArrayList<>();
+        for (String keyword : keywords) {
+            if (NameContainsKeywordsPredicate.isFuzzyKeyword(keyword)) {
+                String word = NameContainsKeywordsPredicate.toFuzzyWord(keyword);
+                foldedWords.addAll(words.search(foldCase(word), NameContainsKeywordsPredicate.getMaxEdits(word)));
+            } else {
+                foldedWords.add(foldCase(keyword.trim()));
+            }
+        }
+        return foldedWords;
+    }
+
+    private static List<String> foldedWords(Name name) {
+        List<String> words = new ArrayList<>();
+        for (String word : name.fullName.split(" ")) {
+            if (!word.isEmpty()) {
+                words.add(foldCase(word));
+            }
+        }
+        return words;
+    }
+
+    /**
+     * Returns {@code word} with every character mapped to the same case, such that two words are equal after folding
+     * exactly when {@link String#equalsIgnoreCase(String)} holds for them.
+     */
+    static String foldCase(String word) {
+        char[] folded = new char[word.length()];
+        for (int i = 0; i < folded.length; i++) {
+            folded[i] = Character.toLowerCase(Character.toUpperCase(word.charAt(i)));
+        }
+        return new String(folded);
+    }
+
+}
@@ -0,0 +1,65 @@
+package seedu.address.model.search;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import seedu.address.model.person.Name;
+
+/**
+ * The names of the persons indexed under each word of an index.
+ * Words are expected to be case-folded by the index that owns the lists.
+ */
+class PostingLists {
+
+    private final Map<String, Set<Name>> namesByWord = new HashMap<>();
+
+    /**
+     * Indexes {@code name} under {@code word}, and returns true if no names were indexed under the word before.
+     */
+    boolean add(String word, Name name) {
+        Set<Name> names = namesByWord.computeIfAbsent(word, unused -> new HashSet<>());
+        boolean isNewWord = names.isEmpty();
+        names.add(name);
+        return isNewWord;
+    }
+
+    /**
+     * Removes {@code name} from under {@code word}, and returns true if no names are indexed under the word after.
+     */
+    boolean remove(String word, Name name) {
+        Set<Name> names = namesByWord.get(word);
+        if (names != null && names.remove(name) && names.isEmpty()) {
+            namesByWord.remove(word);
+            return true;
+        }
+        return false;
+    }
+
+    void clear() {
+        namesByWord.clear();
+    }
+
+    /**
+     * Returns the names indexed under {@code word}, which must not be changed by the caller.
+     */
+    Set<Name> get(String word) {
+        return namesByWord.getOrDefault(word, Collections.emptySet());
+    }
+
+    /**
+     * Returns true if {@code name} is indexed under any of {@code words}.
+     */
+    boolean containsAny(List<String> words, Name name) {
+        for (String word : words) {
+            if (get(word).contains(name)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+}
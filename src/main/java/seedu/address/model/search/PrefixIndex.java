@@ -0,0 +1,372 @@
+package seedu.address.model.search;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Consumer;
+
+import seedu.address.model.module.Module;
+import seedu.address.model.person.Name;
+import seedu.address.model.person.Person;
+import seedu.address.model.tag.Tag;
+
+/**
+ * A prefix trie over every word of each person's name, tags and module codes, ignoring case, so that the persons
+ * with a word starting with some text can be found without looking at every person.
+ * The indexed persons are also kept by name, so that a set of persons found for some prefixes can be narrowed down
+ * to longer prefixes by looking at those persons only, as happens on each keystroke while a search is typed.
+ * The trie only goes {@value #MAX_DEPTH} characters deep, which keeps it small. Persons are kept at the node of the
+ * first characters of each word, and longer prefixes are answered by checking the words of the persons there.
+ * Like {@link TagIndex}, the index is only built from the indexed list when asked to, and is kept in step with the
+ * list after that. Building only takes a copy of the list: the trie is then built by the first search, on the
+ * search thread and without holding the lock, and swapped in under a short lock. Changes to the list made before
+ * the swap are logged, and applied to the new trie as it is swapped in, so the thread that changes the list never
+ * waits for the build. The index must be told of changes on the thread that changes the list, but it can be searched
+ * from any thread.
+ */
+public class PrefixIndex {
+
+    private static final int MAX_DEPTH = 4;
+
+    private final List<Person> indexedPersons;
+
+    // guarded by this
+    private Trie trie;
+    private List<Person> personsToIndex;
+    private final List<Consumer<Trie>> pendingChanges = new ArrayList<>();
+    private boolean isBuilt;
+    private int generation;
+
+    /**
+     * Creates an index of the words of the persons in {@code indexedPersons}, which must be told of every change to
+     * the list through {@link #add(Person)}, {@link #remove(Person)} and {@link #reset()} before the list changes.
+     */
+    public PrefixIndex(List<Person> indexedPersons) {
+        requireNonNull(indexedPersons);
+        this.indexedPersons = indexedPersons;
+    }
+
+    /**
+     * Builds the index from the indexed list, if it has not been built.
+     * Only a copy of the list is taken here. The persons in it are indexed by the next search, so that the work is
+     * done on the search thread.
+     */
+    public synchronized void build() {
+        if (isBuilt) {
+            return;
+        }
+        isBuilt = true;
+        personsToIndex = new ArrayList<>(indexedPersons);
+    }
+
+    /**
+     * Adds {@code person} to the index, if it has been built.
+     */
+    public synchronized void add(Person person) {
+        requireNonNull(person);
+        if (!isBuilt) {
+            return;
+        }
+        if (trie == null) {
+            pendingChanges.add(pendingTrie -> pendingTrie.index(person));
+            return;
+        }
+        trie.index(person);
+    }
+
+    /**
+     * Removes {@code person} from the index, if it has been built.
+     */
+    public synchronized void remove(Person person) {
+        requireNonNull(person);
+        if (!isBuilt) {
+            return;
+        }
+        if (trie == null) {
+            pendingChanges.add(pendingTrie -> pendingTrie.unindex(person.getName()));
+            return;
+        }
+        trie.unindex(person.getName());
+    }
+
+    /**
+     * Drops the index, to be built again from the indexed list by {@link #build()}.
+     */
+    public synchronized void reset() {
+        trie = null;
+        personsToIndex = null;
+        pendingChanges.clear();
+        isBuilt = false;
+        generation++;
+    }
+
+    /**
+     * Returns the names of the persons that have, for each of {@code prefixes}, a word starting with it, ignoring
+     * case. Only the persons under the prefix with the fewest persons in the trie are looked at.
+     * No names are found if the index has not been built.
+     */
+    public Set<Name> find(List<String> prefixes) {
+        requireNonNull(prefixes);
+        return search(null, prefixes);
+    }
+
+    /**
+     * Returns those of {@code names} whose persons are still in the index and have, for each of {@code prefixes}, a
+     * word starting with it, ignoring case. Only the persons of {@code names}, or the persons under the prefix with
+     * the fewest persons in the trie if there are fewer of them, are looked at.
+     */
+    public Set<Name> narrow(Set<Name> names, List<String> prefixes) {
+        requireAllNonNull(names, prefixes);
+        return search(names, prefixes);
+    }
+
+    private Set<Name> search(Set<Name> names, List<String> prefixes) {
+        buildPendingTrie();
+        synchronized (this) {
+            return trie == null ? new HashSet<>() : trie.search(names, prefixes);
+        }
+    }
+
+    /**
+     * Builds the trie of the copy taken by {@link #build()}, if it has not been built, and swaps it in.
+     * The persons are indexed without holding the lock. If the index is reset meanwhile, the trie is thrown away
+     * and the trie of the new copy, if any, is built instead.
+     */
+    private void buildPendingTrie() {
+        while (true) {
+            List<Person> persons;
+            int buildGeneration;
+            synchronized (this) {
+                if (trie != null || personsToIndex == null) {
+                    return;
+                }
+                persons = personsToIndex;
+                buildGeneration = generation;
+            }
+
+            Trie builtTrie = new Trie();
+            persons.forEach(builtTrie::index);
+
+            synchronized (this) {
+                if (generation != buildGeneration) {
+                    continue;
+                }
+                if (trie == null) {
+                    pendingChanges.forEach(change -> change.accept(builtTrie));
+                    pendingChanges.clear();
+                    personsToIndex = null;
+                    trie = builtTrie;
+                }
+                return;
+            }
+        }
+    }
+
+    private static boolean hasWordsStartingWith(Person person, List<String> prefixes) {
+        for (String prefix : prefixes) {
+            if (!hasWordStartingWith(person, prefix)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static boolean hasWordStartingWith(Person person, String prefix) {
+        String fullName = person.getName().fullName;
+        int start = 0;
+        while (start >= 0) {
+            if (startsWithIgnoreCase(fullName, start, prefix)) {
+                return true;
+            }
+            int space = fullName.indexOf(' ', start);
+            start = space == -1 ? -1 : space + 1;
+        }
+        return person.getTags().stream().anyMatch(tag -> startsWithIgnoreCase(tag.tagName, 0, prefix))
+                || hasModuleStartingWith(person.getCurrModules(), prefix)
+                || hasModuleStartingWith(person.getPrevModules(), prefix)
+                || hasModuleStartingWith(person.getPlanModules(), prefix);
+    }
+
+    private static boolean hasModuleStartingWith(Set<? extends Module> modules, String prefix) {
+        return modules.stream().anyMatch(module -> startsWithIgnoreCase(module.moduleName, 0, prefix));
+    }
+
+    private static boolean startsWithIgnoreCase(String text, int offset, String prefix) {
+        return text.regionMatches(true, offset, prefix, 0, prefix.length());
+    }
+
+    /**
+     * Returns the distinct keys of the words of {@code person} in the trie, which are their first
+     * {@value #MAX_DEPTH} characters, ignoring case.
+     */
+    private static List<String> trieKeys(Person person) {
+        List<String> keys = new ArrayList<>();
+        for (String word : person.getName().fullName.split(" ")) {
+            addTrieKey(keys, word);
+        }
+        for (Tag tag : person.getTags()) {
+            addTrieKey(keys, tag.tagName);
+        }
+        person.getCurrModules().forEach(module -> addTrieKey(keys, module.moduleName));
+        person.getPrevModules().forEach(module -> addTrieKey(keys, module.moduleName));
+        person.getPlanModules().forEach(module -> addTrieKey(keys, module.moduleName));
+        return keys;
+    }
+
+    private static void addTrieKey(List<String> keys, String word) {
+        if (word.isEmpty()) {
+            return;
+        }
+        String key = NameIndex.foldCase(word.length() > MAX_DEPTH ? word.substring(0, MAX_DEPTH) : word);
+        if (!keys.contains(key)) {
+            keys.add(key);
+        }
+    }
+
+    /**
+     * The trie and the persons indexed in it.
+     */
+    private static class Trie {
+        private final Node root = new Node();
+        private final Map<Name, Person> personsByName = new HashMap<>();
+
+        void index(Person person) {
+            personsByName.put(person.getName(), person);
+            for (String key : trieKeys(person)) {
+                Node node = root;
+                node.size++;
+                for (int i = 0; i < key.length(); i++) {
+                    node = node.childOrNew(key.charAt(i));
+                    node.size++;
+                }
+                node.addName(person.getName());
+            }
+        }
+
+        void unindex(Name name) {
+            Person indexedPerson = personsByName.remove(name);
+            if (indexedPerson == null) {
+                return;
+            }
+            for (String key : trieKeys(indexedPerson)) {
+                Node node = root;
+                node.size--;
+                for (int i = 0; i < key.length(); i++) {
+                    node = node.child(key.charAt(i));
+                    node.size--;
+                }
+                node.removeName(name);
+            }
+        }
+
+        Set<Name> search(Set<Name> names, List<String> prefixes) {
+            Node narrowest = root;
+            for (String prefix : prefixes) {
+                Node node = root.descendant(NameIndex.foldCase(prefix));
+                if (node == null) {
+                    return new HashSet<>();
+                }
+                if (node.size < narrowest.size) {
+                    narrowest = node;
+                }
+            }
+
+            Set<Name> candidates = names == null || narrowest.size < names.size() ? narrowest.collectNames() : names;
+            Set<Name> found = new HashSet<>();
+            for (Name candidate : candidates) {
+                Person person = personsByName.get(candidate);
+                if (person != null && (names == null || names.contains(candidate))
+                        && hasWordsStartingWith(person, prefixes)) {
+                    found.add(candidate);
+                }
+            }
+            return found;
+        }
+    }
+
+    /**
+     * A node of the trie, reached by the characters of a prefix. Children are kept in small arrays, as most nodes
+     * have only a few.
+     */
+    private static class Node {
+        private static final char[] NO_KEYS = new char[0];
+        private static final Node[] NO_CHILDREN = new Node[0];
+
+        /** Names of the persons with a key that ends at this node, or null if there are none yet. */
+        private Set<Name> names;
+        private char[] keys = NO_KEYS;
+        private Node[] children = NO_CHILDREN;
+        /** Number of keys, counted once per person, that pass through this node. */
+        private int size;
+
+        Node child(char key) {
+            for (int i = 0; i < keys.length; i++) {
+                if (keys[i] == key) {
+                    return children[i];
+                }
+            }
+            return null;
+        }
+
+        Node childOrNew(char key) {
+            Node child = child(key);
+            if (child == null) {
+                child = new Node();
+                keys = Arrays.copyOf(keys, keys.length + 1);
+                children = Arrays.copyOf(children, children.length + 1);
+                keys[keys.length - 1] = key;
+                children[children.length - 1] = child;
+            }
+            return child;
+        }
+
+        Node descendant(String prefix) {
+            Node node = this;
+            for (int i = 0; i < Math.min(prefix.length(), MAX_DEPTH) && node != null; i++) {
+                node = node.child(prefix.charAt(i));
+            }
+            return node == null || node.size == 0 ? null : node;
+        }
+
+        Set<Name> collectNames() {
+            Set<Name> collected = new HashSet<>();
+            Deque<Node> pending = new ArrayDeque<>();
+            pending.push(this);
+            while (!pending.isEmpty()) {
+                Node node = pending.pop();
+                if (node.names != null) {
+                    collected.addAll(node.names);
+                }
+                for (Node child : node.children) {
+                    if (child.size > 0) {
+                        pending.push(child);
+                    }
+                }
+            }
+            return collected;
+        }
+
+        void addName(Name name) {
+            if (names == null) {
+                names = new HashSet<>(2);
+            }
+            names.add(name);
+        }
+
+        void removeName(Name name) {
+            if (names != null && names.remove(name) && names.isEmpty()) {
+                names = null;
+            }
+        }
+    }
+
+}
@@ -0,0 +1,132 @@
+package seedu.address.model.search;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.BitSet;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Predicate;
+
+import seedu.address.model.person.Name;
+import seedu.address.model.person.Person;
+import seedu.address.model.tag.Tag;
+import seedu.address.model.tag.TagQuery;
+
+/**
+ * An index from each tag name, ignoring case, to a bitmap of the persons with that tag, so that a {@link TagQuery}
+ * is answered with a few bitmap intersections and unions instead of a scan of every person's tags.
+ * Each indexed person is given a number that is its position in the bitmaps. Numbers do not change while the person
+ * stays in the list, and the numbers of removed persons are given to the next persons added, which keeps the bitmaps
+ * as small as the list.
+ * Like {@link ModuleIndex}, the index is only built from the indexed list the first time it is searched, and is kept
+ * in step with the list after that.
+ */
+public class TagIndex {
+
+    private static final BitSet NO_PERSONS = new BitSet();
+
+    private final List<Person> indexedPersons;
+    private final Map<Name, Integer> numbers = new HashMap<>();
+    private final BitSet usedNumbers = new BitSet();
+    private final Map<String, BitSet> personsByTag = new HashMap<>();
+    private boolean isBuilt;
+    private long version;
+
+    /**
+     * Creates an index of the tags of the persons in {@code indexedPersons}, which must be told of every change to
+     * the list through {@link #add(Person)}, {@link #remove(Person)} and {@link #reset()} before the list changes.
+     */
+    public TagIndex(List<Person> indexedPersons) {
+        requireNonNull(indexedPersons);
+        this.indexedPersons = indexedPersons;
+    }
+
+    /**
+     * Adds {@code person} to the index, if it has been built.
+     */
+    public void add(Person person) {
+        requireNonNull(person);
+        if (!isBuilt) {
+            return;
+        }
+        int number = usedNumbers.nextClearBit(0);
+        usedNumbers.set(number);
+        numbers.put(person.getName(), number);
+        for (Tag tag : person.getTags()) {
+            personsByTag.computeIfAbsent(NameIndex.foldCase(tag.tagName), unused -> new BitSet()).set(number);
+        }
+        version++;
+    }
+
+    /**
+     * Removes {@code person} from the index, if it has been built.
+     */
+    public void remove(Person person) {
+        requireNonNull(person);
+        if (!isBuilt) {
+            return;
+        }
+        Integer number = numbers.remove(person.getName());
+        if (number == null) {
+            return;
+        }
+        usedNumbers.clear(number);
+        for (Tag tag : person.getTags()) {
+            String foldedTagName = NameIndex.foldCase(tag.tagName);
+            BitSet persons = personsByTag.get(foldedTagName);
+            if (persons != null) {
+                persons.clear(number);
+                if (persons.isEmpty()) {
+                    personsByTag.remove(foldedTagName);
+                }
+            }
+        }
+        version++;
+    }
+
+    /**
+     * Drops the index, to be built again from the indexed list when it is next searched.
+     */
+    public void reset() {
+        numbers.clear();
+        usedNumbers.clear();
+        personsByTag.clear();
+        isBuilt = false;
+        version++;
+    }
+
+    /**
+     * Returns a predicate that tests if a person's tags match {@code query}.
+     * The query is answered for every person at once, and answered again only after the index changes, so the
+     * predicate stays correct when used as the predicate of a filtered view of the indexed list.
+     */
+    public Predicate<Person> matcherFor(TagQuery query) {
+        requireNonNull(query);
+        return new Predicate<>() {
+            private BitSet matches;
+            private long matchesVersion;
+
+            @Override
+            public boolean test(Person person) {
+                build();
+                if (matches == null || matchesVersion != version) {
+                    matches = query.evaluate(tagName -> personsByTag.getOrDefault(NameIndex.foldCase(tagName),
+                            NO_PERSONS), usedNumbers);
+                    matchesVersion = version;
+                }
+                Integer number = numbers.get(person.getName());
+                return number != null && matches.get(number);
+            }
+        };
+    }
+
+    private void build() {
+        if (isBuilt) {
+            return;
+        }
+        isBuilt = true;
+        indexedPersons.forEach(this::add);
+    }
+
+}
@@ -0,0 +1,203 @@
+package seedu.address.model.tag;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.AppUtil.checkArgument;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.List;
+import java.util.function.Function;
+import java.util.function.Predicate;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * A combination of tag names with {@code AND}, {@code OR} and {@code NOT}, such as
+ * {@code friends AND (colleagues OR family) AND NOT owesMoney}.
+ * {@code NOT} binds tighter than {@code AND}, which binds tighter than {@code OR}. Tag names written next to each
+ * other without an operator are joined with {@code OR}, so a plain list of tag names matches any of them.
+ * Operators must be written in upper case; tag names are matched ignoring case.
+ */
+public abstract class TagQuery {
+
+    public static final String MESSAGE_CONSTRAINTS = "Tag queries should be tag names joined by AND, OR and NOT, "
+            + "with brackets for grouping, such as: friends AND NOT (family OR colleagues)";
+
+    private static final String AND = "AND";
+    private static final String OR = "OR";
+    private static final String NOT = "NOT";
+    private static final String OPEN_BRACKET = "(";
+    private static final String CLOSE_BRACKET = ")";
+    private static final Pattern TOKEN_PATTERN = Pattern.compile("[()]|[^\\s()]+");
+
+    /**
+     * Returns the query written in {@code query}.
+     *
+     * @throws IllegalArgumentException if {@code query} is not a valid tag query.
+     */
+    public static TagQuery parse(String query) {
+        requireNonNull(query);
+        List<String> tokens = new ArrayList<>();
+        Matcher matcher = TOKEN_PATTERN.matcher(query);
+        while (matcher.find()) {
+            tokens.add(matcher.group());
+        }
+        Parser parser = new Parser(tokens);
+        TagQuery tagQuery = parser.parseOr();
+        checkArgument(parser.isAtEnd(), MESSAGE_CONSTRAINTS);
+        return tagQuery;
+    }
+
+    /**
+     * Returns true if a person for whom {@code hasTag} tells whether they have a tag name, ignoring case, is matched
+     * by this query.
+     */
+    public abstract boolean matches(Predicate<String> hasTag);
+
+    /**
+     * Returns the set of persons matched by this query, out of {@code allPersons}, given the set of persons with each
+     * tag name from {@code personsWithTag}. Persons are numbered in the same way in every set, and none of the sets
+     * given are changed.
+     */
+    public abstract BitSet evaluate(Function<String, BitSet> personsWithTag, BitSet allPersons);
+
+    /**
+     * Reads a query from its tokens, one level of precedence per method.
+     */
+    private static class Parser {
+        private final List<String> tokens;
+        private int position;
+
+        Parser(List<String> tokens) {
+            this.tokens = tokens;
+        }
+
+        boolean isAtEnd() {
+            return position == tokens.size();
+        }
+
+        TagQuery parseOr() {
+            TagQuery query = parseAnd();
+            while (!isAtEnd() && !peek().equals(CLOSE_BRACKET)) {
+                if (peek().equals(OR)) {
+                    position++;
+                }
+                query = new Or(query, parseAnd());
+            }
+            return query;
+        }
+
+        TagQuery parseAnd() {
+            TagQuery query = parseNot();
+            while (!isAtEnd() && peek().equals(AND)) {
+                position++;
+                query = new And(query, parseNot());
+            }
+            return query;
+        }
+
+        TagQuery parseNot() {
+            checkArgument(!isAtEnd(), MESSAGE_CONSTRAINTS);
+            String token = tokens.get(position++);
+            switch (token) {
+            case NOT:
+                return new Not(parseNot());
+            case OPEN_BRACKET:
+                TagQuery query = parseOr();
+                checkArgument(!isAtEnd() && tokens.get(position++).equals(CLOSE_BRACKET), MESSAGE_CONSTRAINTS);
+                return query;
+            default:
+                checkArgument(Tag.isValidTagName(token) && !token.equals(AND) && !token.equals(OR),
+                        MESSAGE_CONSTRAINTS);
+                return new HasTag(token);
+            }
+        }
+
+        private String peek() {
+            return tokens.get(position);
+        }
+    }
+
+    private static class HasTag extends TagQuery {
+        private final String tagName;
+
+        HasTag(String tagName) {
+            this.tagName = tagName;
+        }
+
+        @Override
+        public boolean matches(Predicate<String> hasTag) {
+            return hasTag.test(tagName);
+        }
+
+        @Override
+        public BitSet evaluate(Function<String, BitSet> personsWithTag, BitSet allPersons) {
+            return (BitSet) personsWithTag.apply(tagName).clone();
+        }
+    }
+
+    private static class Not extends TagQuery {
+        private final TagQuery query;
+
+        Not(TagQuery query) {
+            this.query = query;
+        }
+
+        @Override
+        public boolean matches(Predicate<String> hasTag) {
+            return !query.matches(hasTag);
+        }
+
+        @Override
+        public BitSet evaluate(Function<String, BitSet> personsWithTag, BitSet allPersons) {
+            BitSet persons = (BitSet) allPersons.clone();
+            persons.andNot(query.evaluate(personsWithTag, allPersons));
+            return persons;
+        }
+    }
+
+    private static class And extends TagQuery {
+        private final TagQuery left;
+        private final TagQuery right;
+
+        And(TagQuery left, TagQuery right) {
+            this.left = left;
+            this.right = right;
+        }
+
+        @Override
+        public boolean matches(Predicate<String> hasTag) {
+            return left.matches(hasTag) && right.matches(hasTag);
+        }
+
+        @Override
+        public BitSet evaluate(Function<String, BitSet> personsWithTag, BitSet allPersons) {
+            BitSet persons = left.evaluate(personsWithTag, allPersons);
+            persons.and(right.evaluate(personsWithTag, allPersons));
+            return persons;
+        }
+    }
+
+    private static class Or extends TagQuery {
+        private final TagQuery left;
+        private final TagQuery right;
+
+        Or(TagQuery left, TagQuery right) {
+            this.left = left;
+            this.right = right;
+        }
+
+        @Override
+        public boolean matches(Predicate<String> hasTag) {
+            return left.matches(hasTag) || right.matches(hasTag);
+        }
+
+        @Override
+        public BitSet evaluate(Function<String, BitSet> personsWithTag, BitSet allPersons) {
+            BitSet persons = left.evaluate(personsWithTag, allPersons);
+            persons.or(right.evaluate(personsWithTag, allPersons));
+            return persons;
+        }
+    }
+
+}
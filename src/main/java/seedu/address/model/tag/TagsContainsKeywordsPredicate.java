@@ -1,29 +1,41 @@
 package seedu.address.model.tag;
 
+import java.util.Optional;
 import java.util.function.Predicate;
 
-import seedu.address.commons.util.StringUtil;
 import seedu.address.model.person.Person;
 
 /**
- * Tests that a {@code Person}'s {@code Tag} matches any of the keywords given.
+ * Tests that a {@code Person}'s {@code Tag}s match the keywords given, which are a {@link TagQuery} such as a list of
+ * tag names, any of which must match.
  */
 public class TagsContainsKeywordsPredicate implements Predicate<Person> {
 
     private final String keywords;
+    private final Optional<TagQuery> query;
 
     /**
      * Constructor for the TagsContainsKeywordsPredicate class.
-     * @param keywords The name of the tag(s) that the user wants to find in their contact list.
+     * @param keywords The name of the tag(s) that the user wants to find in their contact list, optionally combined
+     *     with AND, OR and NOT. Blank keywords match no one.
+     * @throws IllegalArgumentException if {@code keywords} is not blank and not a valid {@link TagQuery}.
      */
     public TagsContainsKeywordsPredicate(String keywords) {
         this.keywords = keywords;
+        this.query = keywords.isBlank() ? Optional.empty() : Optional.of(TagQuery.parse(keywords));
+    }
+
+    /**
+     * Returns the query that the keywords make up, or {@code Optional.empty()} if there are no keywords.
+     */
+    public Optional<TagQuery> getQuery() {
+        return query;
     }
 
     @Override
     public boolean test(Person person) {
-        return person.getTags().stream()
-                .anyMatch(tag -> StringUtil.containsWordIgnoreCase(keywords, tag.tagName));
+        return query.isPresent() && query.get().matches(tagName -> person.getTags().stream()
+                .anyMatch(tag -> tag.tagName.equalsIgnoreCase(tagName)));
     }
 
     @Override
@@ -75,25 +75,25 @@ public class SampleDataUtil {
      */
     public static Set<Tag> getTagSet(String... strings) {
         return Arrays.stream(strings)
-                .map(Tag::new)
+                .map(Tag::of)
                 .collect(Collectors.toSet());
     }
 
     public static Set<CurrentModule> getCurrentModuleSet(String... strings) {
         return Arrays.stream(strings)
-                .map(CurrentModule::new)
+                .map(CurrentModule::of)
                 .collect(Collectors.toSet());
     }
 
     public static Set<PlannedModule> getPlannedModuleSet(String... strings) {
         return Arrays.stream(strings)
-                .map(PlannedModule::new)
+                .map(PlannedModule::of)
                 .collect(Collectors.toSet());
     }
 
     public static Set<PreviousModule> getPreviousModuleSet(String... strings) {
         return Arrays.stream(strings)
-                .map(PreviousModule::new)
+                .map(PreviousModule::of)
                 .collect(Collectors.toSet());
     }
 
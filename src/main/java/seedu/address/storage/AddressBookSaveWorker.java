@@ -0,0 +1,160 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+import java.util.logging.Logger;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.util.StringUtil;
+import seedu.address.model.AddressBook;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.user.User;
+
+/**
+ * Saves the address book to {@code AddressBookStorage} on a background thread.
+ * Each save takes a copy of the person list and the user, so later changes do not affect what is written. The address
+ * book to write is built from the copy on the background thread. Saves requested while an earlier one is being written
+ * are coalesced, so only the latest copy is written once the earlier one is done.
+ */
+public class AddressBookSaveWorker {
+
+    private static final Logger logger = LogsCenter.getLogger(AddressBookSaveWorker.class);
+    private static final long SHUTDOWN_TIMEOUT_SECONDS = 10;
+
+    private final AddressBookStorage addressBookStorage;
+    private final ExecutorService executor = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "address-book-saver");
+        thread.setDaemon(true);
+        return thread;
+    });
+    private volatile Consumer<IOException> failureHandler = unused -> { };
+
+    // guarded by this
+    private Snapshot pendingSnapshot;
+    private ReadOnlyAddressBook failedAddressBook;
+
+    public AddressBookSaveWorker(AddressBookStorage addressBookStorage) {
+        requireNonNull(addressBookStorage);
+        this.addressBookStorage = addressBookStorage;
+    }
+
+    /**
+     * Sets the handler that is given the error when a save fails. It is called on the background thread.
+     */
+    public void setFailureHandler(Consumer<IOException> failureHandler) {
+        requireNonNull(failureHandler);
+        this.failureHandler = failureHandler;
+    }
+
+    /**
+     * Saves a copy of {@code addressBook} in the background.
+     */
+    public void save(ReadOnlyAddressBook addressBook) {
+        requireNonNull(addressBook);
+        // Only the list is copied here, as building the address book and its indexes is left to the background thread
+        Snapshot snapshot = new Snapshot(new ArrayList<>(addressBook.getPersonList()), addressBook.getUser());
+
+        synchronized (this) {
+            boolean isWriteQueued = pendingSnapshot != null;
+            pendingSnapshot = snapshot;
+            if (isWriteQueued) {
+                return;
+            }
+        }
+        executor.execute(this::writePendingAddressBook);
+    }
+
+    /**
+     * Waits for every save requested so far to be written.
+     * If the last save failed, it is tried once more on the calling thread.
+     *
+     * @throws IOException if the last save still cannot be written.
+     */
+    public void flush() throws IOException {
+        try {
+            executor.submit(() -> { }).get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IOException("Interrupted while waiting for the address book to be saved", e);
+        } catch (ExecutionException e) {
+            throw new IOException(e.getCause());
+        }
+
+        ReadOnlyAddressBook addressBookToRetry;
+        synchronized (this) {
+            addressBookToRetry = failedAddressBook;
+        }
+        if (addressBookToRetry != null) {
+            addressBookStorage.saveAddressBook(addressBookToRetry);
+            synchronized (this) {
+                if (failedAddressBook == addressBookToRetry) {
+                    failedAddressBook = null;
+                }
+            }
+        }
+    }
+
+    /**
+     * Writes every pending save and stops the background thread. No more saves can be made afterwards.
+     *
+     * @throws IOException if the last save cannot be written.
+     */
+    public void shutdown() throws IOException {
+        try {
+            flush();
+        } finally {
+            executor.shutdown();
+            try {
+                executor.awaitTermination(SHUTDOWN_TIMEOUT_SECONDS, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+
+    private void writePendingAddressBook() {
+        Snapshot snapshot;
+        synchronized (this) {
+            snapshot = pendingSnapshot;
+            pendingSnapshot = null;
+        }
+
+        AddressBook addressBook = new AddressBook();
+        addressBook.setPersons(snapshot.persons);
+        addressBook.setUser(snapshot.user);
+        try {
+            addressBookStorage.saveAddressBook(addressBook);
+            synchronized (this) {
+                failedAddressBook = null;
+            }
+        } catch (IOException e) {
+            logger.warning("Failed to save address book " + StringUtil.getDetails(e));
+            synchronized (this) {
+                failedAddressBook = addressBook;
+            }
+            failureHandler.accept(e);
+        }
+    }
+
+    /**
+     * The persons and user of an address book at the time a save was requested.
+     */
+    private static class Snapshot {
+        private final List<Person> persons;
+        private final User user;
+
+        Snapshot(List<Person> persons, User user) {
+            this.persons = persons;
+            this.user = user;
+        }
+    }
+}
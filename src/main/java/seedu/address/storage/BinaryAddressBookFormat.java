@@ -0,0 +1,658 @@
+package seedu.address.storage;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Function;
+
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.logic.parser.ParserUtil;
+import seedu.address.model.AddressBook;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.module.CurrentModule;
+import seedu.address.model.module.Lesson;
+import seedu.address.model.module.Module;
+import seedu.address.model.module.PlannedModule;
+import seedu.address.model.module.PreviousModule;
+import seedu.address.model.person.Address;
+import seedu.address.model.person.Email;
+import seedu.address.model.person.Github;
+import seedu.address.model.person.Name;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.PersonDetailsLoader;
+import seedu.address.model.person.Phone;
+import seedu.address.model.person.user.EmptyUser;
+import seedu.address.model.person.user.ExistingUser;
+import seedu.address.model.person.user.User;
+import seedu.address.model.tag.Tag;
+
+/**
+ * Converts an address book to and from a compact binary format.
+ * <p>
+ * The file starts with {@link #MAGIC} and the format version. It is followed by a string table that holds every tag,
+ * module code and lesson type once, then the persons and finally the user. Each person and the user is a record
+ * prefixed with its length, and refers to tags, modules and lesson types by their position in the string table.
+ * Counts, lengths, string table positions, days and lesson times (in seconds of the day) are written as unsigned
+ * varints, so most of them take a single byte. Other strings are written as a varint length followed by UTF-8 bytes.
+ * Readers skip any bytes at the end of a record that they do not know about, so later versions can add fields.
+ * <p>
+ * Since a person's name comes first in its record, an address book can also be read with only the names decoded,
+ * leaving the rest of each record in the file's bytes until the person's details are needed. A person that is
+ * written back before that is copied to the new file as it is, without being decoded. The layout of each record is
+ * still checked when the file is read, so that only the values in it are left to check when the person is loaded.
+ */
+class BinaryAddressBookFormat {
+
+    public static final String MESSAGE_NOT_ADDRESS_BOOK = "File is not a binary address book.";
+    public static final String MESSAGE_UNSUPPORTED_VERSION = "Binary address book version %d is not supported.";
+    public static final String MESSAGE_TRUNCATED_RECORD = "Binary address book record is cut short.";
+    public static final String MESSAGE_INVALID_STRING_ID = "Binary address book refers to a string it does not hold.";
+    public static final String MESSAGE_INVALID_USER = "Binary address book's user field is not valid.";
+    public static final String MESSAGE_INVALID_VARINT = "Binary address book holds a number that is too large.";
+    public static final String MESSAGE_UNLOADABLE_PERSON = "Binary address book holds a person that is not valid: %s";
+
+    static final byte[] MAGIC = {'C', 'N', 'U', 'S'};
+    static final int VERSION = 1;
+
+    private static final int NO_USER = 0;
+    private static final int EXISTING_USER = 1;
+    private static final int MAX_RECORD_LENGTH = 16 * 1024 * 1024;
+
+    /**
+     * Writes {@code addressBook} to {@code out} in the binary format.
+     */
+    public static void write(ReadOnlyAddressBook addressBook, OutputStream out) throws IOException {
+        List<Person> persons = addressBook.getPersonList();
+        RecordLoader[] unloadedRecords = findUnloadedRecords(persons);
+        Map<String, Integer> stringIds = buildStringTable(addressBook, unloadedRecords);
+
+        out.write(MAGIC);
+        writeVarint(out, VERSION);
+        writeVarint(out, stringIds.size());
+        for (String string : stringIds.keySet()) {
+            writeString(out, string);
+        }
+
+        ByteArrayOutputStream record = new ByteArrayOutputStream();
+        writeVarint(out, persons.size());
+        for (int i = 0; i < persons.size(); i++) {
+            if (unloadedRecords[i] != null) {
+                unloadedRecords[i].copyTo(out);
+                continue;
+            }
+            Person person = persons.get(i);
+            record.reset();
+            writeContactDetails(record, person.getName(), person.getPhone(), person.getEmail(), person.getAddress(),
+                    person.getGithub());
+            writeStringIds(record, person.getTags(), tag -> tag.tagName, stringIds);
+            writeModules(record, person.getCurrModules(), person.getPrevModules(), person.getPlanModules(),
+                    stringIds);
+            writeLessons(record, person.getLessons(), stringIds);
+            writeRecord(out, record);
+        }
+
+        User user = addressBook.getUser();
+        if (!(user instanceof ExistingUser)) {
+            writeVarint(out, NO_USER);
+            return;
+        }
+        writeVarint(out, EXISTING_USER);
+        record.reset();
+        writeContactDetails(record, user.getName(), user.getPhone(), user.getEmail(), user.getAddress(),
+                user.getGithub());
+        writeModules(record, user.getCurrModules(), user.getPrevModules(), user.getPlanModules(), stringIds);
+        writeLessons(record, user.getLessons(), stringIds);
+        writeRecord(out, record);
+    }
+
+    /**
+     * Reads an address book in the binary format from {@code in}.
+     *
+     * @throws IOException if {@code in} cannot be read or ends early.
+     * @throws IllegalValueException if the data is not a valid address book.
+     */
+    public static AddressBook read(InputStream in) throws IOException, IllegalValueException, CommandException {
+        return new Reader(in, null).readAddressBook();
+    }
+
+    /**
+     * Reads an address book in the binary format from {@code data}, decoding only the names of the persons in it.
+     * The other details of each person are decoded from {@code data} when they are first needed. The lengths, string
+     * table positions and numbers in each record are checked here, without decoding them, but the values they make
+     * up are checked only when decoded.
+     *
+     * @throws IOException if {@code data} ends early.
+     * @throws IllegalValueException if the data is not a valid address book, or a record is not laid out as one.
+     */
+    public static AddressBook readOnDemand(byte[] data) throws IOException, IllegalValueException, CommandException {
+        return new Reader(new ByteArrayInputStream(data), data).readAddressBook();
+    }
+
+    /**
+     * Returns, for each person in {@code persons}, the record its details can still be copied from, or null if it
+     * has to be written from its details. Records are only copied from the file read last, whose string table is
+     * kept as the start of the new one so that the copies still refer to the right strings.
+     */
+    private static RecordLoader[] findUnloadedRecords(List<Person> persons) {
+        RecordLoader[] unloadedRecords = new RecordLoader[persons.size()];
+        Reader source = null;
+        for (int i = 0; i < persons.size(); i++) {
+            Optional<PersonDetailsLoader> loader = persons.get(i).getPendingDetailsLoader();
+            if (!loader.isPresent() || !(loader.get() instanceof RecordLoader)) {
+                continue;
+            }
+            RecordLoader record = (RecordLoader) loader.get();
+            if (source == null) {
+                source = record.source;
+            }
+            if (record.source == source) {
+                unloadedRecords[i] = record;
+            }
+        }
+        return unloadedRecords;
+    }
+
+    /**
+     * Returns every tag, module code and lesson type in {@code addressBook}, each mapped to its position in the
+     * string table. The string table of the file that {@code unloadedRecords} come from is kept at the start.
+     */
+    private static Map<String, Integer> buildStringTable(ReadOnlyAddressBook addressBook,
+            RecordLoader[] unloadedRecords) {
+        Map<String, Integer> stringIds = new LinkedHashMap<>();
+        for (RecordLoader record : unloadedRecords) {
+            if (record != null) {
+                Arrays.stream(record.source.strings).forEach(string -> intern(stringIds, string));
+                break;
+            }
+        }
+
+        List<Person> persons = addressBook.getPersonList();
+        for (int i = 0; i < persons.size(); i++) {
+            if (unloadedRecords[i] != null) {
+                continue;
+            }
+            Person person = persons.get(i);
+            person.getTags().forEach(tag -> intern(stringIds, tag.tagName));
+            internModulesAndLessons(stringIds, person.getCurrModules(), person.getPrevModules(),
+                    person.getPlanModules(), person.getLessons());
+        }
+        User user = addressBook.getUser();
+        if (user instanceof ExistingUser) {
+            internModulesAndLessons(stringIds, user.getCurrModules(), user.getPrevModules(), user.getPlanModules(),
+                    user.getLessons());
+        }
+        return stringIds;
+    }
+
+    private static void internModulesAndLessons(Map<String, Integer> stringIds, Set<CurrentModule> currModules,
+            Set<PreviousModule> prevModules, Set<PlannedModule> planModules, Set<Lesson> lessons) {
+        currModules.forEach(module -> intern(stringIds, module.moduleName));
+        prevModules.forEach(module -> intern(stringIds, module.moduleName));
+        planModules.forEach(module -> intern(stringIds, module.moduleName));
+        for (Lesson lesson : lessons) {
+            intern(stringIds, lesson.getType());
+            intern(stringIds, lesson.getModule());
+        }
+    }
+
+    private static void intern(Map<String, Integer> stringIds, String string) {
+        stringIds.putIfAbsent(string, stringIds.size());
+    }
+
+    private static void writeContactDetails(OutputStream out, Name name, Phone phone, Email email, Address address,
+            Github github) throws IOException {
+        writeString(out, name.fullName);
+        writeString(out, phone.value);
+        writeString(out, email.value);
+        writeString(out, address.value);
+        writeString(out, github.value);
+    }
+
+    private static void writeModules(OutputStream out, Set<CurrentModule> currModules,
+            Set<PreviousModule> prevModules, Set<PlannedModule> planModules, Map<String, Integer> stringIds)
+            throws IOException {
+        writeStringIds(out, currModules, module -> module.moduleName, stringIds);
+        writeStringIds(out, prevModules, module -> module.moduleName, stringIds);
+        writeStringIds(out, planModules, module -> module.moduleName, stringIds);
+    }
+
+    private static <T> void writeStringIds(OutputStream out, Set<T> items, Function<T, String> toString,
+            Map<String, Integer> stringIds) throws IOException {
+        writeVarint(out, items.size());
+        for (T item : items) {
+            writeVarint(out, stringIds.get(toString.apply(item)));
+        }
+    }
+
+    private static void writeLessons(OutputStream out, Set<Lesson> lessons, Map<String, Integer> stringIds)
+            throws IOException {
+        writeVarint(out, lessons.size());
+        for (Lesson lesson : lessons) {
+            writeVarint(out, stringIds.get(lesson.getType()));
+            writeVarint(out, stringIds.get(lesson.getModule()));
+            writeVarint(out, lesson.getDay());
+            writeVarint(out, lesson.getStartTime().toSecondOfDay());
+            writeVarint(out, lesson.getEndTime().toSecondOfDay());
+        }
+    }
+
+    private static void writeRecord(OutputStream out, ByteArrayOutputStream record) throws IOException {
+        writeVarint(out, record.size());
+        record.writeTo(out);
+    }
+
+    private static void writeString(OutputStream out, String string) throws IOException {
+        byte[] bytes = string.getBytes(UTF_8);
+        writeVarint(out, bytes.length);
+        out.write(bytes);
+    }
+
+    /**
+     * Writes {@code value}, which cannot be negative, seven bits at a time, lowest bits first. Every byte except the
+     * last has its top bit set.
+     */
+    private static void writeVarint(OutputStream out, int value) throws IOException {
+        assert value >= 0;
+        while ((value & ~0x7F) != 0) {
+            out.write((value & 0x7F) | 0x80);
+            value >>>= 7;
+        }
+        out.write(value);
+    }
+
+    /**
+     * The part of the file that holds the details of a person that have not been loaded yet.
+     */
+    private static class RecordLoader implements PersonDetailsLoader {
+        private final Reader source;
+        private final int offset;
+        private final int length;
+
+        RecordLoader(Reader source, int offset, int length) {
+            this.source = source;
+            this.offset = offset;
+            this.length = length;
+        }
+
+        @Override
+        public Person load() {
+            // The reader's tag and module caches are shared by every person read from the same file
+            synchronized (source) {
+                ByteBuffer record = ByteBuffer.wrap(source.data, offset, length);
+                try {
+                    return source.readPerson(record);
+                } catch (IllegalValueException | CommandException e) {
+                    throw new IllegalStateException(String.format(MESSAGE_UNLOADABLE_PERSON, e.getMessage()), e);
+                }
+            }
+        }
+
+        void copyTo(OutputStream out) throws IOException {
+            writeVarint(out, length);
+            out.write(source.data, offset, length);
+        }
+    }
+
+    /**
+     * Reads one address book, keeping the string table that tags and modules are made from. Tags and modules are made
+     * with their {@code of} factories, so persons with the same tag or module share one object.
+     * When reading on demand, the reader stays alive for as long as any person read is not loaded yet.
+     */
+    private static class Reader {
+        private final InputStream in;
+        private final byte[] data;
+        private final ByteBuffer onDemandRecord;
+        private int position;
+        private String[] strings;
+        private byte[] recordBuffer = new byte[256];
+
+        /**
+         * Creates a reader of {@code in}, which holds the bytes of {@code data} if persons are to be read on
+         * demand, or null otherwise.
+         */
+        Reader(InputStream in, byte[] data) {
+            this.in = in;
+            this.data = data;
+            this.onDemandRecord = data == null ? null : ByteBuffer.wrap(data);
+        }
+
+        AddressBook readAddressBook() throws IOException, IllegalValueException, CommandException {
+            byte[] magic = new byte[MAGIC.length];
+            readFully(magic);
+            if (!Arrays.equals(magic, MAGIC)) {
+                throw new IllegalValueException(MESSAGE_NOT_ADDRESS_BOOK);
+            }
+            int version = readVarint();
+            if (version != VERSION) {
+                throw new IllegalValueException(String.format(MESSAGE_UNSUPPORTED_VERSION, version));
+            }
+
+            int stringCount = readVarint();
+            strings = new String[stringCount];
+            for (int i = 0; i < stringCount; i++) {
+                byte[] bytes = new byte[readLength()];
+                readFully(bytes);
+                strings[i] = new String(bytes, UTF_8);
+            }
+
+            int personCount = readVarint();
+            List<Person> persons = new ArrayList<>(personCount);
+            Set<Name> names = new HashSet<>();
+            for (int i = 0; i < personCount; i++) {
+                Person person = data == null ? readPerson(readRecord()) : readPersonOnDemand();
+                if (!names.add(person.getName())) {
+                    throw new IllegalValueException(JsonSerializableAddressBook.MESSAGE_DUPLICATE_PERSON);
+                }
+                persons.add(person);
+            }
+
+            AddressBook addressBook = new AddressBook();
+            addressBook.setPersons(persons);
+            switch (readVarint()) {
+            case NO_USER:
+                addressBook.setUser(new EmptyUser());
+                break;
+            case EXISTING_USER:
+                addressBook.setUser(readUser(readRecord()));
+                break;
+            default:
+                throw new IllegalValueException(MESSAGE_INVALID_USER);
+            }
+            return addressBook;
+        }
+
+        private Person readPerson(ByteBuffer record) throws IllegalValueException, CommandException {
+            try {
+                Name name = readName(record);
+                Phone phone = readPhone(record);
+                Email email = readEmail(record);
+                Address address = readAddress(record);
+                Github github = readGithub(record);
+                Set<Tag> personTags = new HashSet<>();
+                for (int count = readVarint(record); count > 0; count--) {
+                    personTags.add(create(readStringId(record), Tag::of));
+                }
+                Person person = new Person(name, phone, email, address, github, personTags,
+                        readModules(record, CurrentModule::of),
+                        readModules(record, PreviousModule::of),
+                        readModules(record, PlannedModule::of));
+                for (Lesson lesson : readLessons(record)) {
+                    person.addLesson(lesson);
+                }
+                return person;
+            } catch (BufferUnderflowException e) {
+                throw new IllegalValueException(MESSAGE_TRUNCATED_RECORD);
+            }
+        }
+
+        /**
+         * Reads the name of the next person, and checks the layout of the rest of its record to load it later.
+         */
+        private Person readPersonOnDemand() throws IOException, IllegalValueException {
+            int length = readLength();
+            int offset = position;
+            skipFully(length);
+            // One buffer over the whole file is moved along, so checking a record makes no objects
+            onDemandRecord.clear().position(offset).limit(offset + length);
+            try {
+                Name name = readName(onDemandRecord);
+                checkRecordLayout(onDemandRecord);
+                return Person.withDetailsLoadedOnDemand(name, new RecordLoader(this, offset, length));
+            } catch (BufferUnderflowException e) {
+                throw new IllegalValueException(MESSAGE_TRUNCATED_RECORD);
+            }
+        }
+
+        /**
+         * Checks that the rest of a person's record after the name, up to the fields known to this version, is laid
+         * out as {@link #readPerson(ByteBuffer)} expects: that each string fits in the record, each string table
+         * position is in the table and each number is in range.
+         */
+        private void checkRecordLayout(ByteBuffer record) throws IllegalValueException {
+            for (int i = 0; i < 4; i++) {
+                skipString(record);
+            }
+            for (int i = 0; i < 4; i++) {
+                for (int count = readVarint(record); count > 0; count--) {
+                    readStringId(record);
+                }
+            }
+            for (int count = readVarint(record); count > 0; count--) {
+                readStringId(record);
+                readStringId(record);
+                readVarint(record);
+                readSecondOfDay(record);
+                readSecondOfDay(record);
+            }
+        }
+
+        private User readUser(ByteBuffer record) throws IllegalValueException, CommandException {
+            try {
+                Name name = readName(record);
+                Phone phone = readPhone(record);
+                Email email = readEmail(record);
+                Address address = readAddress(record);
+                Github github = readGithub(record);
+                User user = new ExistingUser(name, phone, email, address, github,
+                        readModules(record, CurrentModule::of),
+                        readModules(record, PreviousModule::of),
+                        readModules(record, PlannedModule::of));
+                for (Lesson lesson : readLessons(record)) {
+                    user.addLesson(lesson);
+                }
+                return user;
+            } catch (BufferUnderflowException e) {
+                throw new IllegalValueException(MESSAGE_TRUNCATED_RECORD);
+            }
+        }
+
+        private Name readName(ByteBuffer record) throws IllegalValueException {
+            String name = readString(record);
+            if (!Name.isValidName(name)) {
+                throw new IllegalValueException(Name.MESSAGE_CONSTRAINTS);
+            }
+            return new Name(name);
+        }
+
+        private Phone readPhone(ByteBuffer record) throws IllegalValueException {
+            String phone = readString(record);
+            if (!Phone.isValidPhone(phone)) {
+                throw new IllegalValueException(Phone.MESSAGE_CONSTRAINTS);
+            }
+            return new Phone(phone);
+        }
+
+        private Email readEmail(ByteBuffer record) throws IllegalValueException {
+            String email = readString(record);
+            if (!Email.isValidEmail(email)) {
+                throw new IllegalValueException(Email.MESSAGE_CONSTRAINTS);
+            }
+            return new Email(email);
+        }
+
+        private Address readAddress(ByteBuffer record) throws IllegalValueException {
+            String address = readString(record);
+            if (!Address.isValidAddress(address)) {
+                throw new IllegalValueException(Address.MESSAGE_CONSTRAINTS);
+            }
+            return new Address(address);
+        }
+
+        private Github readGithub(ByteBuffer record) throws IllegalValueException {
+            String github = readString(record);
+            if (!Github.isValidUsername(github)) {
+                throw new IllegalValueException(Github.MESSAGE_CONSTRAINTS);
+            }
+            return new Github(github);
+        }
+
+        private <T extends Module> Set<T> readModules(ByteBuffer record, Function<String, T> factory)
+                throws IllegalValueException {
+            Set<T> modules = new HashSet<>();
+            for (int count = readVarint(record); count > 0; count--) {
+                modules.add(create(readStringId(record), factory));
+            }
+            return modules;
+        }
+
+        private List<Lesson> readLessons(ByteBuffer record) throws IllegalValueException {
+            List<Lesson> lessons = new ArrayList<>();
+            for (int count = readVarint(record); count > 0; count--) {
+                String type = strings[readStringId(record)];
+                String module = strings[readStringId(record)];
+                int day = readVarint(record);
+                LocalTime startTime = readTime(record);
+                LocalTime endTime = readTime(record);
+                lessons.add(ParserUtil.parseLesson(type, module, String.valueOf(day), startTime.toString(),
+                        endTime.toString()));
+            }
+            return lessons;
+        }
+
+        private LocalTime readTime(ByteBuffer record) throws IllegalValueException {
+            return LocalTime.ofSecondOfDay(readSecondOfDay(record));
+        }
+
+        private int readSecondOfDay(ByteBuffer record) throws IllegalValueException {
+            int secondOfDay = readVarint(record);
+            if (secondOfDay > LocalTime.MAX.toSecondOfDay()) {
+                throw new IllegalValueException(MESSAGE_INVALID_VARINT);
+            }
+            return secondOfDay;
+        }
+
+        /**
+         * Returns the object that {@code factory} makes from the string at {@code id}.
+         */
+        private <T> T create(int id, Function<String, T> factory) throws IllegalValueException {
+            try {
+                return factory.apply(strings[id]);
+            } catch (IllegalArgumentException e) {
+                throw new IllegalValueException(e.getMessage());
+            }
+        }
+
+        private int readStringId(ByteBuffer record) throws IllegalValueException {
+            int id = readVarint(record);
+            if (id >= strings.length) {
+                throw new IllegalValueException(MESSAGE_INVALID_STRING_ID);
+            }
+            return id;
+        }
+
+        private String readString(ByteBuffer record) throws IllegalValueException {
+            int length = readStringLength(record);
+            String string = new String(record.array(), record.position(), length, UTF_8);
+            record.position(record.position() + length);
+            return string;
+        }
+
+        private void skipString(ByteBuffer record) throws IllegalValueException {
+            int length = readStringLength(record);
+            record.position(record.position() + length);
+        }
+
+        private int readStringLength(ByteBuffer record) throws IllegalValueException {
+            int length = readVarint(record);
+            if (length > record.remaining()) {
+                throw new IllegalValueException(MESSAGE_TRUNCATED_RECORD);
+            }
+            return length;
+        }
+
+        /**
+         * Reads the next length-prefixed record into a buffer that is reused for every record.
+         */
+        private ByteBuffer readRecord() throws IOException, IllegalValueException {
+            int length = readLength();
+            if (length > recordBuffer.length) {
+                recordBuffer = new byte[Math.max(length, recordBuffer.length * 2)];
+            }
+            readFully(recordBuffer, length);
+            return ByteBuffer.wrap(recordBuffer, 0, length);
+        }
+
+        private int readLength() throws IOException, IllegalValueException {
+            int length = readVarint();
+            if (length > MAX_RECORD_LENGTH) {
+                throw new IllegalValueException(MESSAGE_INVALID_VARINT);
+            }
+            return length;
+        }
+
+        private void readFully(byte[] bytes) throws IOException {
+            readFully(bytes, bytes.length);
+        }
+
+        private void readFully(byte[] bytes, int length) throws IOException {
+            int offset = 0;
+            while (offset < length) {
+                int read = in.read(bytes, offset, length - offset);
+                if (read < 0) {
+                    throw new EOFException("Binary address book ends early");
+                }
+                offset += read;
+            }
+            position += length;
+        }
+
+        private void skipFully(int length) throws IOException {
+            if (in.skip(length) != length) {
+                throw new EOFException("Binary address book ends early");
+            }
+            position += length;
+        }
+
+        private int readVarint() throws IOException, IllegalValueException {
+            int value = 0;
+            for (int shift = 0; shift < Integer.SIZE; shift += 7) {
+                int b = in.read();
+                if (b < 0) {
+                    throw new EOFException("Binary address book ends early");
+                }
+                position++;
+                value |= (b & 0x7F) << shift;
+                if ((b & 0x80) == 0) {
+                    return checkNotNegative(value);
+                }
+            }
+            throw new IllegalValueException(MESSAGE_INVALID_VARINT);
+        }
+
+        private static int readVarint(ByteBuffer record) throws IllegalValueException {
+            int value = 0;
+            for (int shift = 0; shift < Integer.SIZE; shift += 7) {
+                byte b = record.get();
+                value |= (b & 0x7F) << shift;
+                if ((b & 0x80) == 0) {
+                    return checkNotNegative(value);
+                }
+            }
+            throw new IllegalValueException(MESSAGE_INVALID_VARINT);
+        }
+
+        private static int checkNotNegative(int value) throws IllegalValueException {
+            if (value < 0) {
+                throw new IllegalValueException(MESSAGE_INVALID_VARINT);
+            }
+            return value;
+        }
+    }
+}
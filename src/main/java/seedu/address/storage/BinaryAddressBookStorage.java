@@ -0,0 +1,146 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.BufferedInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Optional;
+import java.util.logging.Logger;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.exceptions.DataConversionException;
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.util.FileUtil;
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.person.exceptions.DuplicatePersonException;
+
+/**
+ * A class to access AddressBook data stored in the compact binary format of {@link BinaryAddressBookFormat} on the
+ * hard disk.
+ * It can read persons on demand, in which case the file is read into memory in one go and only the persons' names
+ * are decoded up front.
+ */
+public class BinaryAddressBookStorage implements AddressBookStorage {
+
+    public static final String FILE_EXTENSION = ".bin";
+
+    private static final Logger logger = LogsCenter.getLogger(BinaryAddressBookStorage.class);
+    private static final int READ_BUFFER_SIZE = 64 * 1024;
+
+    private Path filePath;
+    private final boolean isReadingOnDemand;
+
+    // The file last read or written, which saves may overwrite. Null until a file is read or saved.
+    private Path readFilePath;
+
+    public BinaryAddressBookStorage(Path filePath) {
+        this(filePath, false);
+    }
+
+    /**
+     * Creates a storage of the binary file at {@code filePath}, which reads each person's details only when they
+     * are first needed if {@code isReadingOnDemand} is true.
+     */
+    public BinaryAddressBookStorage(Path filePath, boolean isReadingOnDemand) {
+        this.filePath = filePath;
+        this.isReadingOnDemand = isReadingOnDemand;
+    }
+
+    /**
+     * Returns the location of the binary file kept in place of the json file at {@code jsonFilePath}, which is the
+     * same file with its extension replaced by {@link #FILE_EXTENSION}.
+     */
+    public static Path getBinaryFilePath(Path jsonFilePath) {
+        String fileName = jsonFilePath.getFileName().toString();
+        int extensionStart = fileName.lastIndexOf('.');
+        String baseName = extensionStart > 0 ? fileName.substring(0, extensionStart) : fileName;
+        return jsonFilePath.resolveSibling(baseName + FILE_EXTENSION);
+    }
+
+    public Path getAddressBookFilePath() {
+        return filePath;
+    }
+
+    @Override
+    public Optional<ReadOnlyAddressBook> readAddressBook() throws DataConversionException {
+        return readAddressBook(filePath);
+    }
+
+    /**
+     * Similar to {@link #readAddressBook()}.
+     *
+     * @param filePath location of the data. Cannot be null.
+     * @throws DataConversionException if the file is not in the correct format.
+     */
+    public synchronized Optional<ReadOnlyAddressBook> readAddressBook(Path filePath) throws DataConversionException {
+        requireNonNull(filePath);
+
+        if (!Files.exists(filePath)) {
+            logger.info("Binary file " + filePath + " not found");
+            return Optional.empty();
+        }
+
+        Optional<ReadOnlyAddressBook> addressBook = isReadingOnDemand
+                ? readAddressBookOnDemand(filePath)
+                : readAddressBookInFull(filePath);
+        readFilePath = filePath;
+        return addressBook;
+    }
+
+    private Optional<ReadOnlyAddressBook> readAddressBookInFull(Path filePath) throws DataConversionException {
+        try (InputStream in = new BufferedInputStream(Files.newInputStream(filePath), READ_BUFFER_SIZE)) {
+            return Optional.of(BinaryAddressBookFormat.read(in));
+        } catch (IOException e) {
+            logger.warning("Error reading from binary file " + filePath + ": " + e);
+            throw new DataConversionException(e);
+        } catch (IllegalValueException | CommandException | DuplicatePersonException e) {
+            logger.info("Illegal values found in " + filePath + ": " + e.getMessage());
+            throw new DataConversionException(e);
+        }
+    }
+
+    /**
+     * Reads the file into memory rather than mapping it, since a mapped file cannot be replaced on Windows, and
+     * saves replace the file.
+     */
+    private Optional<ReadOnlyAddressBook> readAddressBookOnDemand(Path filePath) throws DataConversionException {
+        try {
+            return Optional.of(BinaryAddressBookFormat.readOnDemand(Files.readAllBytes(filePath)));
+        } catch (IOException e) {
+            logger.warning("Error reading from binary file " + filePath + ": " + e);
+            throw new DataConversionException(e);
+        } catch (IllegalValueException | CommandException | DuplicatePersonException e) {
+            logger.info("Illegal values found in " + filePath + ": " + e.getMessage());
+            throw new DataConversionException(e);
+        }
+    }
+
+    @Override
+    public void saveAddressBook(ReadOnlyAddressBook addressBook) throws IOException {
+        saveAddressBook(addressBook, filePath);
+    }
+
+    /**
+     * Similar to {@link #saveAddressBook(ReadOnlyAddressBook)}.
+     * The file is replaced in one step, so a crash leaves either the old or the new address book. A file that was
+     * never read, such as one that could not be read, is kept as a backup rather than overwritten.
+     *
+     * @param filePath location of the data. Cannot be null.
+     */
+    public synchronized void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
+        requireNonNull(addressBook);
+        requireNonNull(filePath);
+
+        if (!filePath.equals(readFilePath)) {
+            JsonAddressBookStorage.backUp(filePath);
+        }
+        FileUtil.createParentDirsOfFile(filePath);
+        FileUtil.writeToFile(filePath, out -> BinaryAddressBookFormat.write(addressBook, out));
+        readFilePath = filePath;
+    }
+
+}
@@ -0,0 +1,147 @@
+package seedu.address.storage;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.model.AddressBookChange;
+import seedu.address.model.person.Person;
+
+/**
+ * Jackson-friendly version of {@link AddressBookChange}.
+ */
+class JsonAdaptedAddressBookChange {
+
+    public static final String MESSAGE_UNKNOWN_TYPE = "Unknown address book change type: %s";
+    public static final String MISSING_FIELD_MESSAGE_FORMAT = "Address book change's %s field is missing!";
+
+    private static final String TYPE_ADD_PERSON = "addPerson";
+    private static final String TYPE_REMOVE_PERSON = "removePerson";
+    private static final String TYPE_SET_PERSON = "setPerson";
+    private static final String TYPE_SET_USER = "setUser";
+    private static final String TYPE_SET_PERSONS = "setPersons";
+
+    private final String type;
+    private final int index;
+    private final List<JsonAdaptedPerson> previousPersons = new ArrayList<>();
+    private final List<JsonAdaptedPerson> persons = new ArrayList<>();
+    private final JsonAdaptedUser previousUser;
+    private final JsonAdaptedUser user;
+
+    /**
+     * Constructs a {@code JsonAdaptedAddressBookChange} with the given change details.
+     */
+    @JsonCreator
+    public JsonAdaptedAddressBookChange(@JsonProperty("type") String type, @JsonProperty("index") int index,
+            @JsonProperty("previousPersons") List<JsonAdaptedPerson> previousPersons,
+            @JsonProperty("persons") List<JsonAdaptedPerson> persons,
+            @JsonProperty("previousUser") JsonAdaptedUser previousUser,
+            @JsonProperty("user") JsonAdaptedUser user) {
+        this.type = type;
+        this.index = index;
+        if (previousPersons != null) {
+            this.previousPersons.addAll(previousPersons);
+        }
+        if (persons != null) {
+            this.persons.addAll(persons);
+        }
+        this.previousUser = previousUser;
+        this.user = user;
+    }
+
+    /**
+     * Converts a given {@code AddressBookChange} into this class for Jackson use.
+     */
+    public JsonAdaptedAddressBookChange(AddressBookChange source) {
+        JsonAdaptedUser sourcePreviousUser = null;
+        JsonAdaptedUser sourceUser = null;
+        int sourceIndex = 0;
+        if (source instanceof AddressBookChange.AddPerson) {
+            AddressBookChange.AddPerson change = (AddressBookChange.AddPerson) source;
+            type = TYPE_ADD_PERSON;
+            sourceIndex = change.getIndex();
+            persons.add(new JsonAdaptedPerson(change.getPerson()));
+        } else if (source instanceof AddressBookChange.RemovePerson) {
+            AddressBookChange.RemovePerson change = (AddressBookChange.RemovePerson) source;
+            type = TYPE_REMOVE_PERSON;
+            sourceIndex = change.getIndex();
+            previousPersons.add(new JsonAdaptedPerson(change.getPerson()));
+        } else if (source instanceof AddressBookChange.SetPerson) {
+            AddressBookChange.SetPerson change = (AddressBookChange.SetPerson) source;
+            type = TYPE_SET_PERSON;
+            previousPersons.add(new JsonAdaptedPerson(change.getTarget()));
+            persons.add(new JsonAdaptedPerson(change.getEditedPerson()));
+        } else if (source instanceof AddressBookChange.SetUser) {
+            AddressBookChange.SetUser change = (AddressBookChange.SetUser) source;
+            type = TYPE_SET_USER;
+            sourcePreviousUser = new JsonAdaptedUser(change.getPreviousUser());
+            sourceUser = new JsonAdaptedUser(change.getUser());
+        } else {
+            assert source instanceof AddressBookChange.SetPersons : "AddressBookChange cannot be any other type";
+            AddressBookChange.SetPersons change = (AddressBookChange.SetPersons) source;
+            type = TYPE_SET_PERSONS;
+            previousPersons.addAll(change.getPreviousPersons().stream()
+                    .map(JsonAdaptedPerson::new)
+                    .collect(Collectors.toList()));
+            persons.addAll(change.getPersons().stream()
+                    .map(JsonAdaptedPerson::new)
+                    .collect(Collectors.toList()));
+        }
+        index = sourceIndex;
+        previousUser = sourcePreviousUser;
+        user = sourceUser;
+    }
+
+    /**
+     * Converts this Jackson-friendly adapted change object into the model's {@code AddressBookChange} object.
+     *
+     * @throws IllegalValueException if there were any data constraints violated in the adapted change.
+     */
+    public AddressBookChange toModelType() throws IllegalValueException, CommandException {
+        if (type == null) {
+            throw new IllegalValueException(String.format(MISSING_FIELD_MESSAGE_FORMAT, "type"));
+        }
+
+        switch (type) {
+        case TYPE_ADD_PERSON:
+            return new AddressBookChange.AddPerson(index, getOnlyPerson(persons, "persons"));
+        case TYPE_REMOVE_PERSON:
+            return new AddressBookChange.RemovePerson(index, getOnlyPerson(previousPersons, "previousPersons"));
+        case TYPE_SET_PERSON:
+            return new AddressBookChange.SetPerson(getOnlyPerson(previousPersons, "previousPersons"),
+                    getOnlyPerson(persons, "persons"));
+        case TYPE_SET_USER:
+            if (previousUser == null || user == null) {
+                throw new IllegalValueException(String.format(MISSING_FIELD_MESSAGE_FORMAT, "user"));
+            }
+            return new AddressBookChange.SetUser(previousUser.toModelType(), user.toModelType());
+        case TYPE_SET_PERSONS:
+            return new AddressBookChange.SetPersons(toModelPersons(previousPersons), toModelPersons(persons));
+        default:
+            throw new IllegalValueException(String.format(MESSAGE_UNKNOWN_TYPE, type));
+        }
+    }
+
+    private static Person getOnlyPerson(List<JsonAdaptedPerson> adaptedPersons, String fieldName)
+            throws IllegalValueException, CommandException {
+        if (adaptedPersons.size() != 1) {
+            throw new IllegalValueException(String.format(MISSING_FIELD_MESSAGE_FORMAT, fieldName));
+        }
+        return adaptedPersons.get(0).toModelType();
+    }
+
+    private static List<Person> toModelPersons(List<JsonAdaptedPerson> adaptedPersons)
+            throws IllegalValueException, CommandException {
+        List<Person> modelPersons = new ArrayList<>();
+        for (JsonAdaptedPerson adaptedPerson : adaptedPersons) {
+            modelPersons.add(adaptedPerson.toModelType());
+        }
+        return modelPersons;
+    }
+
+}
@@ -43,7 +43,7 @@ class JsonAdaptedCurrentModule {
         if (!Module.isValidModuleName(modCode)) {
             throw new IllegalValueException(Module.MESSAGE_CONSTRAINTS);
         }
-        return new CurrentModule(modCode);
+        return CurrentModule.of(modCode);
     }
 
 }
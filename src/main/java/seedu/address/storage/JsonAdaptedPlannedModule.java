@@ -43,7 +43,7 @@ class JsonAdaptedPlannedModule {
         if (!Module.isValidModuleName(modCode)) {
             throw new IllegalValueException(Module.MESSAGE_CONSTRAINTS);
         }
-        return new PlannedModule(modCode);
+        return PlannedModule.of(modCode);
     }
 
 }
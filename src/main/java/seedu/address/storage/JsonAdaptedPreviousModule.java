@@ -43,7 +43,7 @@ class JsonAdaptedPreviousModule {
         if (!Module.isValidModuleName(modCode)) {
             throw new IllegalValueException(Module.MESSAGE_CONSTRAINTS);
         }
-        return new PreviousModule(modCode);
+        return PreviousModule.of(modCode);
     }
 
 }
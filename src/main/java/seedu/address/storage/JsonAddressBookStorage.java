@@ -1,9 +1,17 @@
 package seedu.address.storage;
 
+import static java.nio.charset.StandardCharsets.UTF_8;
 import static java.util.Objects.requireNonNull;
 
 import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
 import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Optional;
 import java.util.logging.Logger;
 
@@ -13,17 +21,37 @@ import seedu.address.commons.exceptions.IllegalValueException;
 import seedu.address.commons.util.FileUtil;
 import seedu.address.commons.util.JsonUtil;
 import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.model.AddressBook;
 import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.exceptions.DuplicatePersonException;
+import seedu.address.model.person.user.User;
 
 /**
  * A class to access AddressBook data stored as a json file on the hard disk.
+ * The file is read and written as a stream, one person at a time.
+ * Rather than rewriting the whole file on every save, each save appends what changed since the last save to a journal
+ * file next to it, one line per save, and flushes it to disk. Once the journal has grown long, the address book is
+ * compacted by writing the whole file again and starting a new journal. Reading the address book replays the journal
+ * on top of the file.
  */
 public class JsonAddressBookStorage implements AddressBookStorage {
 
+    public static final String JOURNAL_FILE_SUFFIX = ".journal";
+    public static final String BACKUP_FILE_SUFFIX = ".bak";
+
     private static final Logger logger = LogsCenter.getLogger(JsonAddressBookStorage.class);
+    private static final int COMPACTION_THRESHOLD = 100;
 
     private Path filePath;
 
+    // What the address book at journaledFilePath holds on disk, including its journal. Null until it is read or saved.
+    private Path journaledFilePath;
+    private List<Person> savedPersons;
+    private User savedUser;
+    private long journalSequence;
+    private int journalEntryCount;
+
     public JsonAddressBookStorage(Path filePath) {
         this.filePath = filePath;
     }
@@ -43,21 +71,70 @@ public class JsonAddressBookStorage implements AddressBookStorage {
      * @param filePath location of the data. Cannot be null.
      * @throws DataConversionException if the file is not in the correct format.
      */
-    public Optional<ReadOnlyAddressBook> readAddressBook(Path filePath) throws DataConversionException {
+    public synchronized Optional<ReadOnlyAddressBook> readAddressBook(Path filePath) throws DataConversionException {
         requireNonNull(filePath);
 
-        Optional<JsonSerializableAddressBook> jsonAddressBook = JsonUtil.readJsonFile(
-                filePath, JsonSerializableAddressBook.class);
-        if (!jsonAddressBook.isPresent()) {
+        if (!Files.exists(filePath)) {
+            logger.info("Json file " + filePath + " not found");
             return Optional.empty();
         }
 
+        StreamingJsonAddressBook jsonAddressBook;
         try {
-            return Optional.of(jsonAddressBook.get().toModelType());
+            jsonAddressBook = StreamingJsonAddressBook.read(filePath);
+        } catch (IOException e) {
+            logger.warning("Error reading from jsonFile file " + filePath + ": " + e);
+            throw new DataConversionException(e);
         } catch (IllegalValueException | CommandException ive) {
             logger.info("Illegal values found in " + filePath + ": " + ive.getMessage());
             throw new DataConversionException(ive);
         }
+
+        long sequence = jsonAddressBook.getJournalSequence();
+        List<Person> persons = jsonAddressBook.getPersons();
+        User user = jsonAddressBook.getUser();
+        List<String> lines = readJournal(filePath);
+        int entryCount = lines.size();
+        for (int i = 0; i < lines.size(); i++) {
+            JsonSerializableJournalEntry entry;
+            try {
+                entry = JsonUtil.fromJsonString(lines.get(i), JsonSerializableJournalEntry.class);
+            } catch (IOException e) {
+                if (i < lines.size() - 1) {
+                    throw new DataConversionException(e);
+                }
+                // Only the last entry can be cut short by a crash while it was being written, so it is skipped and
+                // the next save compacts the journal to get rid of it
+                logger.warning("Ignoring incomplete last entry in journal of " + filePath);
+                entryCount = COMPACTION_THRESHOLD;
+                break;
+            }
+            if (entry.getSequence() <= sequence) {
+                continue; // already in the file, which was compacted after this entry was written
+            }
+            try {
+                user = entry.applyTo(persons, user);
+            } catch (IllegalValueException | CommandException ive) {
+                logger.info("Illegal values found in journal of " + filePath + ": " + ive.getMessage());
+                throw new DataConversionException(ive);
+            }
+            sequence = entry.getSequence();
+        }
+
+        AddressBook addressBook = new AddressBook();
+        try {
+            addressBook.setPersons(persons);
+        } catch (DuplicatePersonException dpe) {
+            throw new DataConversionException(dpe);
+        }
+        addressBook.setUser(user);
+
+        journaledFilePath = filePath;
+        savedPersons = persons;
+        savedUser = user;
+        journalSequence = sequence;
+        journalEntryCount = entryCount;
+        return Optional.of(addressBook);
     }
 
     @Override
@@ -70,12 +147,117 @@ public class JsonAddressBookStorage implements AddressBookStorage {
      *
      * @param filePath location of the data. Cannot be null.
      */
-    public void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
+    public synchronized void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
         requireNonNull(addressBook);
         requireNonNull(filePath);
 
-        FileUtil.createIfMissing(filePath);
-        JsonUtil.saveJsonFile(new JsonSerializableAddressBook(addressBook), filePath);
+        if (!filePath.equals(journaledFilePath) || journalEntryCount >= COMPACTION_THRESHOLD
+                || !FileUtil.isFileExists(filePath)) {
+            compact(addressBook, filePath);
+            return;
+        }
+
+        Optional<JsonSerializableJournalEntry> entry = JsonSerializableJournalEntry.fromChanges(
+                journalSequence + 1, savedPersons, savedUser, addressBook);
+        if (!entry.isPresent()) {
+            compact(addressBook, filePath);
+            return;
+        }
+        if (entry.get().isEmpty()) {
+            return;
+        }
+
+        try {
+            appendToJournal(getJournalFilePath(filePath), JsonUtil.toCompactJsonString(entry.get()));
+        } catch (IOException e) {
+            // Part of the entry may have been written before the failure, and an entry after it would make the
+            // journal unreadable, so the next save compacts the journal instead
+            journalEntryCount = COMPACTION_THRESHOLD;
+            throw e;
+        }
+        setSavedAddressBook(addressBook);
+        journalSequence++;
+        journalEntryCount++;
+    }
+
+    /**
+     * Writes the whole of {@code addressBook} to {@code filePath} and then deletes its journal, which the file now
+     * includes. The file is replaced in one step, so a crash leaves either the old file and journal or the new file.
+     */
+    private void compact(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
+        Path journalFilePath = getJournalFilePath(filePath);
+        if (!filePath.equals(journaledFilePath)) {
+            // The file was never read, or could not be read, so it is kept as a backup rather than overwritten. Its
+            // journal is moved away first so none of its entries can be replayed on top of the new file.
+            backUp(journalFilePath);
+            backUp(filePath);
+            journalSequence = 0;
+        }
+
+        FileUtil.createParentDirsOfFile(filePath);
+        StreamingJsonAddressBook.write(addressBook, journalSequence, filePath);
+        Files.deleteIfExists(journalFilePath);
+
+        journaledFilePath = filePath;
+        setSavedAddressBook(addressBook);
+        journalEntryCount = 0;
+    }
+
+    /**
+     * Moves {@code file}, if there is one, to the same location with {@link #BACKUP_FILE_SUFFIX} added to its name,
+     * replacing any earlier backup.
+     */
+    static void backUp(Path file) throws IOException {
+        if (Files.exists(file)) {
+            Path backupFile = file.resolveSibling(file.getFileName() + BACKUP_FILE_SUFFIX);
+            logger.info("Moving " + file + " to " + backupFile + " before it is overwritten");
+            Files.move(file, backupFile, StandardCopyOption.REPLACE_EXISTING);
+        }
+    }
+
+    private void setSavedAddressBook(ReadOnlyAddressBook addressBook) {
+        savedPersons = new ArrayList<>(addressBook.getPersonList());
+        savedUser = addressBook.getUser();
+    }
+
+    /**
+     * Appends {@code line} to the journal at {@code journalFilePath}, and waits until it is written to the disk.
+     * If this fails, part of the line may have been written.
+     */
+    void appendToJournal(Path journalFilePath, String line) throws IOException {
+        ByteBuffer buffer = ByteBuffer.wrap((line + "\n").getBytes(UTF_8));
+        try (FileChannel channel = FileChannel.open(journalFilePath, StandardOpenOption.CREATE,
+                StandardOpenOption.WRITE, StandardOpenOption.APPEND)) {
+            while (buffer.hasRemaining()) {
+                channel.write(buffer);
+            }
+            channel.force(false);
+        }
+    }
+
+    /**
+     * Returns the entries in the journal of {@code filePath}, one per line, or none if there is no journal.
+     */
+    private static List<String> readJournal(Path filePath) throws DataConversionException {
+        Path journalFilePath = getJournalFilePath(filePath);
+        if (!Files.exists(journalFilePath)) {
+            return new ArrayList<>();
+        }
+        try {
+            List<String> lines = new ArrayList<>(Files.readAllLines(journalFilePath, UTF_8));
+            lines.removeIf(String::isBlank);
+            return lines;
+        } catch (IOException e) {
+            logger.warning("Error reading from journal file " + journalFilePath + ": " + e);
+            throw new DataConversionException(e);
+        }
+    }
+
+    /**
+     * Returns the location of the journal kept for the address book at {@code filePath}.
+     */
+    public static Path getJournalFilePath(Path filePath) {
+        return filePath.resolveSibling(filePath.getFileName() + JOURNAL_FILE_SUFFIX);
     }
 
 }
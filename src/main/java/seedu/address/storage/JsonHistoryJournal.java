@@ -0,0 +1,170 @@
+package seedu.address.storage;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static java.util.Objects.requireNonNull;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.List;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
+import seedu.address.commons.exceptions.DataConversionException;
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.util.FileUtil;
+import seedu.address.commons.util.JsonUtil;
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.model.AddressBookChange;
+import seedu.address.model.HistoryJournal;
+
+/**
+ * A {@code HistoryJournal} that keeps undo history states in a file on the hard disk.
+ * Each state is written as a gzip-compressed JSON record appended to the end of the file, so pushing and popping a
+ * state only touches that state's record.
+ */
+public class JsonHistoryJournal implements HistoryJournal {
+
+    private static final int COPY_BUFFER_SIZE = 64 * 1024;
+
+    private final Path filePath;
+    private final Deque<Long> recordOffsets = new ArrayDeque<>();
+    private long fileSize;
+
+    public JsonHistoryJournal(Path filePath) {
+        requireNonNull(filePath);
+        this.filePath = filePath;
+    }
+
+    public Path getHistoryJournalFilePath() {
+        return filePath;
+    }
+
+    @Override
+    public void push(List<AddressBookChange> changes) throws IOException {
+        requireNonNull(changes);
+        byte[] record = compress(JsonUtil.toJsonString(JsonSerializableHistoryState.fromModelType(changes)));
+
+        FileUtil.createParentDirsOfFile(filePath);
+        try (FileChannel channel = FileChannel.open(filePath, StandardOpenOption.CREATE, StandardOpenOption.WRITE)) {
+            writeFully(channel, ByteBuffer.wrap(record), fileSize);
+        }
+        recordOffsets.addLast(fileSize);
+        fileSize += record.length;
+    }
+
+    @Override
+    public List<AddressBookChange> pop() throws DataConversionException, IOException {
+        long recordOffset = recordOffsets.removeLast();
+        ByteBuffer record = ByteBuffer.allocate(Math.toIntExact(fileSize - recordOffset));
+        try (FileChannel channel = FileChannel.open(filePath, StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+            readFully(channel, record, recordOffset);
+            channel.truncate(recordOffset);
+        }
+        fileSize = recordOffset;
+        if (recordOffsets.isEmpty()) {
+            clear();
+        }
+
+        try {
+            String json = decompress(record.array());
+            return JsonUtil.fromJsonString(json, JsonSerializableHistoryState.class).toModelType();
+        } catch (IOException | IllegalValueException | CommandException e) {
+            throw new DataConversionException(e);
+        }
+    }
+
+    @Override
+    public void removeOldest() throws IOException {
+        recordOffsets.removeFirst();
+        if (recordOffsets.isEmpty()) {
+            clear();
+        } else if (recordOffsets.getFirst() > fileSize / 2) {
+            compact();
+        }
+    }
+
+    @Override
+    public void clear() throws IOException {
+        recordOffsets.clear();
+        fileSize = 0;
+        Files.deleteIfExists(filePath);
+    }
+
+    @Override
+    public int size() {
+        return recordOffsets.size();
+    }
+
+    @Override
+    public long getFileSize() {
+        return fileSize;
+    }
+
+    /**
+     * Moves the records still in the journal to the start of the file, once more than half of the file is taken up
+     * by records that were removed.
+     */
+    private void compact() throws IOException {
+        long start = recordOffsets.getFirst();
+        ByteBuffer buffer = ByteBuffer.allocate(COPY_BUFFER_SIZE);
+        try (FileChannel channel = FileChannel.open(filePath, StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+            for (long position = start; position < fileSize; position += COPY_BUFFER_SIZE) {
+                buffer.clear();
+                buffer.limit((int) Math.min(COPY_BUFFER_SIZE, fileSize - position));
+                readFully(channel, buffer, position);
+                buffer.flip();
+                writeFully(channel, buffer, position - start);
+            }
+            channel.truncate(fileSize - start);
+        }
+
+        int count = recordOffsets.size();
+        for (int i = 0; i < count; i++) {
+            recordOffsets.addLast(recordOffsets.removeFirst() - start);
+        }
+        fileSize -= start;
+    }
+
+    private static void readFully(FileChannel channel, ByteBuffer buffer, long position) throws IOException {
+        while (buffer.hasRemaining()) {
+            int read = channel.read(buffer, position);
+            if (read < 0) {
+                throw new IOException("Unexpected end of history journal");
+            }
+            position += read;
+        }
+    }
+
+    private static void writeFully(FileChannel channel, ByteBuffer buffer, long position) throws IOException {
+        while (buffer.hasRemaining()) {
+            position += channel.write(buffer, position);
+        }
+    }
+
+    private static byte[] compress(String json) throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (OutputStream out = new GZIPOutputStream(bytes)) {
+            out.write(json.getBytes(UTF_8));
+        }
+        return bytes.toByteArray();
+    }
+
+    private static String decompress(byte[] record) throws IOException {
+        try (InputStream in = new GZIPInputStream(new ByteArrayInputStream(record))) {
+            ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+            in.transferTo(bytes);
+            return bytes.toString(UTF_8);
+        }
+    }
+
+}
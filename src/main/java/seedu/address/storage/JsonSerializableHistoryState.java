@@ -0,0 +1,52 @@
+package seedu.address.storage;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.model.AddressBookChange;
+
+/**
+ * The changes of one undo history state, in a form that is serializable to JSON format.
+ */
+class JsonSerializableHistoryState {
+
+    private final List<JsonAdaptedAddressBookChange> changes = new ArrayList<>();
+
+    /**
+     * Constructs a {@code JsonSerializableHistoryState} with the given changes.
+     */
+    @JsonCreator
+    public JsonSerializableHistoryState(@JsonProperty("changes") List<JsonAdaptedAddressBookChange> changes) {
+        if (changes != null) {
+            this.changes.addAll(changes);
+        }
+    }
+
+    /**
+     * Converts the given changes into this class for Jackson use.
+     */
+    public static JsonSerializableHistoryState fromModelType(List<AddressBookChange> source) {
+        return new JsonSerializableHistoryState(
+                source.stream().map(JsonAdaptedAddressBookChange::new).collect(Collectors.toList()));
+    }
+
+    /**
+     * Converts this state into the model's list of {@code AddressBookChange}s.
+     *
+     * @throws IllegalValueException if there were any data constraints violated.
+     */
+    public List<AddressBookChange> toModelType() throws IllegalValueException, CommandException {
+        List<AddressBookChange> modelChanges = new ArrayList<>();
+        for (JsonAdaptedAddressBookChange change : changes) {
+            modelChanges.add(change.toModelType());
+        }
+        return modelChanges;
+    }
+
+}
@@ -0,0 +1,149 @@
+package seedu.address.storage;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.person.Name;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.user.ExistingUser;
+import seedu.address.model.person.user.User;
+
+/**
+ * One entry of the address book journal, holding what changed in the address book between two saves.
+ * Persons are identified by name: an entry lists the names of the persons removed, and the persons added or edited
+ * together with their position in the saved person list.
+ */
+class JsonSerializableJournalEntry {
+
+    public static final String MESSAGE_INVALID_INDEX = "Journal entry places a person outside of the person list.";
+    public static final String MESSAGE_MISMATCHED_PERSONS = "Journal entry has %d indexes for %d persons.";
+
+    private final long sequence;
+    private final List<String> removedNames = new ArrayList<>();
+    private final List<Integer> indexes = new ArrayList<>();
+    private final List<JsonAdaptedPerson> persons = new ArrayList<>();
+    private final JsonAdaptedUser user;
+
+    /**
+     * Constructs a {@code JsonSerializableJournalEntry} with the given changes.
+     */
+    @JsonCreator
+    public JsonSerializableJournalEntry(@JsonProperty("sequence") long sequence,
+            @JsonProperty("removedNames") List<String> removedNames,
+            @JsonProperty("indexes") List<Integer> indexes,
+            @JsonProperty("persons") List<JsonAdaptedPerson> persons,
+            @JsonProperty("user") JsonAdaptedUser user) {
+        this.sequence = sequence;
+        if (removedNames != null) {
+            this.removedNames.addAll(removedNames);
+        }
+        if (indexes != null) {
+            this.indexes.addAll(indexes);
+        }
+        if (persons != null) {
+            this.persons.addAll(persons);
+        }
+        this.user = user;
+    }
+
+    private JsonSerializableJournalEntry(long sequence, JsonAdaptedUser user) {
+        this.sequence = sequence;
+        this.user = user;
+    }
+
+    /**
+     * Returns the entry that turns {@code savedPersons} and {@code savedUser} into the contents of
+     * {@code addressBook}, or {@code Optional.empty()} if the persons that are in both were reordered, which an
+     * entry cannot describe.
+     * Persons and the user are compared by reference, since the model replaces them rather than changing them.
+     */
+    public static Optional<JsonSerializableJournalEntry> fromChanges(long sequence, List<Person> savedPersons,
+            User savedUser, ReadOnlyAddressBook addressBook) {
+        User currentUser = addressBook.getUser();
+        boolean isSameUser = currentUser == savedUser
+                || !(currentUser instanceof ExistingUser) && !(savedUser instanceof ExistingUser);
+        JsonSerializableJournalEntry entry =
+                new JsonSerializableJournalEntry(sequence, isSameUser ? null : new JsonAdaptedUser(currentUser));
+
+        Map<Name, Integer> savedPositions = new HashMap<>();
+        for (int i = 0; i < savedPersons.size(); i++) {
+            savedPositions.put(savedPersons.get(i).getName(), i);
+        }
+
+        List<Person> currentPersons = addressBook.getPersonList();
+        int lastUnchangedPosition = -1;
+        for (int i = 0; i < currentPersons.size(); i++) {
+            Person person = currentPersons.get(i);
+            Integer savedPosition = savedPositions.remove(person.getName());
+            if (savedPosition != null && savedPersons.get(savedPosition) == person) {
+                if (savedPosition < lastUnchangedPosition) {
+                    return Optional.empty();
+                }
+                lastUnchangedPosition = savedPosition;
+            } else {
+                entry.indexes.add(i);
+                entry.persons.add(new JsonAdaptedPerson(person));
+            }
+        }
+        for (Name removedName : savedPositions.keySet()) {
+            entry.removedNames.add(removedName.fullName);
+        }
+        return Optional.of(entry);
+    }
+
+    public long getSequence() {
+        return sequence;
+    }
+
+    /**
+     * Returns true if this entry does not change anything.
+     */
+    public boolean isEmpty() {
+        return removedNames.isEmpty() && persons.isEmpty() && user == null;
+    }
+
+    /**
+     * Makes the changes in this entry to {@code personList}, and returns the user after the changes, which is
+     * {@code currentUser} if this entry does not change it.
+     *
+     * @throws IllegalValueException if there were any data constraints violated.
+     */
+    public User applyTo(List<Person> personList, User currentUser) throws IllegalValueException, CommandException {
+        if (indexes.size() != persons.size()) {
+            throw new IllegalValueException(String.format(MESSAGE_MISMATCHED_PERSONS, indexes.size(),
+                    persons.size()));
+        }
+
+        List<Person> changedPersons = new ArrayList<>();
+        Set<String> namesToRemove = new HashSet<>(removedNames);
+        for (JsonAdaptedPerson jsonAdaptedPerson : persons) {
+            Person person = jsonAdaptedPerson.toModelType();
+            changedPersons.add(person);
+            namesToRemove.add(person.getName().fullName);
+        }
+        personList.removeIf(person -> namesToRemove.contains(person.getName().fullName));
+
+        // Persons are added in the order of their final positions, so everything before each position is in place
+        for (int i = 0; i < changedPersons.size(); i++) {
+            int index = indexes.get(i);
+            if (index < 0 || index > personList.size()) {
+                throw new IllegalValueException(MESSAGE_INVALID_INDEX);
+            }
+            personList.add(index, changedPersons.get(i));
+        }
+
+        return user == null ? currentUser : user.toModelType();
+    }
+
+}
@@ -0,0 +1,151 @@
+package seedu.address.storage;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.util.FileUtil;
+import seedu.address.commons.util.JsonUtil;
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.person.Name;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.user.User;
+
+/**
+ * The contents of an address book file, which is read and written one JSON token at a time.
+ * Each person is converted to or from its model object as it is reached, so the file is never held in memory as a
+ * whole, either as text or as Jackson-friendly objects. The file has the same layout as
+ * {@link JsonSerializableAddressBook}.
+ */
+class StreamingJsonAddressBook {
+
+    public static final String MESSAGE_NOT_OBJECT = "Address book file does not hold a JSON object.";
+    public static final String MESSAGE_PERSONS_NOT_ARRAY = "Address book file's persons field is not a list.";
+    public static final String MISSING_USER_MESSAGE = "Address book file's user field is missing!";
+
+    private static final String PERSONS_FIELD = "persons";
+    private static final String USER_FIELD = "jsonAdaptedUser";
+    private static final String USER_FIELD_ALIAS = "user";
+    private static final String JOURNAL_SEQUENCE_FIELD = "journalSequence";
+
+    private final List<Person> persons;
+    private final User user;
+    private final long journalSequence;
+
+    private StreamingJsonAddressBook(List<Person> persons, User user, long journalSequence) {
+        this.persons = persons;
+        this.user = user;
+        this.journalSequence = journalSequence;
+    }
+
+    /**
+     * Reads the address book file at {@code filePath}, which must exist.
+     *
+     * @throws IOException if the file cannot be read or is not valid JSON.
+     * @throws IllegalValueException if there were any data constraints violated.
+     */
+    public static StreamingJsonAddressBook read(Path filePath)
+            throws IOException, IllegalValueException, CommandException {
+        List<Person> persons = new ArrayList<>();
+        Set<Name> names = new HashSet<>();
+        JsonAdaptedUser jsonAdaptedUser = null;
+        long journalSequence = 0;
+
+        try (InputStream in = Files.newInputStream(filePath); JsonParser parser = JsonUtil.createParser(in)) {
+            if (parser.nextToken() != JsonToken.START_OBJECT) {
+                throw new IllegalValueException(MESSAGE_NOT_OBJECT);
+            }
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                String field = parser.getCurrentName();
+                parser.nextToken();
+                switch (field) {
+                case PERSONS_FIELD:
+                    readPersons(parser, persons, names);
+                    break;
+                case USER_FIELD:
+                case USER_FIELD_ALIAS:
+                    jsonAdaptedUser = parser.readValueAs(JsonAdaptedUser.class);
+                    break;
+                case JOURNAL_SEQUENCE_FIELD:
+                    journalSequence = parser.getLongValue();
+                    break;
+                default:
+                    parser.skipChildren();
+                }
+            }
+        }
+
+        if (jsonAdaptedUser == null) {
+            throw new IllegalValueException(MISSING_USER_MESSAGE);
+        }
+        return new StreamingJsonAddressBook(persons, jsonAdaptedUser.toModelType(), journalSequence);
+    }
+
+    private static void readPersons(JsonParser parser, List<Person> persons, Set<Name> names)
+            throws IOException, IllegalValueException, CommandException {
+        if (parser.getCurrentToken() != JsonToken.START_ARRAY) {
+            throw new IllegalValueException(MESSAGE_PERSONS_NOT_ARRAY);
+        }
+        while (parser.nextToken() != JsonToken.END_ARRAY) {
+            Person person = parser.readValueAs(JsonAdaptedPerson.class).toModelType();
+            if (!names.add(person.getName())) {
+                throw new IllegalValueException(JsonSerializableAddressBook.MESSAGE_DUPLICATE_PERSON);
+            }
+            persons.add(person);
+        }
+    }
+
+    /**
+     * Writes {@code addressBook} to the address book file at {@code filePath}, replacing it in one step.
+     *
+     * @param journalSequence sequence number of the last journal entry that {@code addressBook} already includes.
+     */
+    public static void write(ReadOnlyAddressBook addressBook, long journalSequence, Path filePath)
+            throws IOException {
+        FileUtil.writeToFile(filePath, out -> {
+            try (JsonGenerator generator = JsonUtil.createGenerator(out)) {
+                generator.writeStartObject();
+                generator.writeArrayFieldStart(PERSONS_FIELD);
+                for (Person person : addressBook.getPersonList()) {
+                    generator.writeObject(new JsonAdaptedPerson(person));
+                }
+                generator.writeEndArray();
+                generator.writeFieldName(USER_FIELD);
+                generator.writeObject(new JsonAdaptedUser(addressBook.getUser()));
+                generator.writeNumberField(JOURNAL_SEQUENCE_FIELD, journalSequence);
+                generator.writeEndObject();
+            }
+        });
+    }
+
+    /**
+     * Returns the persons in the file, in order. The list can be changed by the caller.
+     */
+    public List<Person> getPersons() {
+        return persons;
+    }
+
+    public User getUser() {
+        return user;
+    }
+
+    /**
+     * Returns the sequence number of the last journal entry already included in this file.
+     * Journal entries up to and including it must not be replayed on top of it.
+     */
+    public long getJournalSequence() {
+        return journalSequence;
+    }
+
+}
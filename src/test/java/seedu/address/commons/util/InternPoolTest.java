@@ -0,0 +1,58 @@
+package seedu.address.commons.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import org.junit.jupiter.api.Test;
+
+public class InternPoolTest {
+
+    private final InternPool<String> pool = new InternPool<>();
+
+    @Test
+    public void intern_null_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> pool.intern(null));
+    }
+
+    @Test
+    public void intern_equalValues_firstInstanceReturned() {
+        String first = new String("CS2103T");
+        String second = new String("CS2103T");
+        assertNotSame(first, second);
+
+        assertSame(first, pool.intern(first));
+        assertSame(first, pool.intern(second));
+        assertSame(first, pool.intern(first));
+        assertEquals(1, pool.size());
+
+        // different values -> different instances
+        String other = new String("CS2101");
+        assertSame(other, pool.intern(other));
+        assertEquals(2, pool.size());
+    }
+
+    @Test
+    public void intern_manyThreads_oneInstancePerValue() {
+        List<String> values = IntStream.range(0, 10000)
+                .mapToObj(i -> new String("CS" + (1000 + i % 100)))
+                .collect(Collectors.toList());
+        List<String> interned = values.parallelStream().map(pool::intern).collect(Collectors.toList());
+
+        List<String> distinctInstances = new ArrayList<>();
+        for (String value : interned) {
+            if (distinctInstances.stream().noneMatch(instance -> instance == value)) {
+                distinctInstances.add(value);
+            }
+        }
+        assertEquals(100, distinctInstances.size());
+        assertEquals(100, pool.size());
+    }
+
+}
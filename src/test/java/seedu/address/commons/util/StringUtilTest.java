@@ -1,10 +1,12 @@
 package seedu.address.commons.util;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.testutil.Assert.assertThrows;
 
 import java.io.FileNotFoundException;
+import java.util.function.Predicate;
 
 import org.junit.jupiter.api.Test;
 
@@ -121,6 +123,69 @@ public class StringUtilTest {
 
         // Matches multiple words in sentence
         assertTrue(StringUtil.containsWordIgnoreCase("AAA bBb ccc  bbb", "bbB"));
+
+        // Words separated by whitespace other than spaces
+        assertTrue(StringUtil.containsWordIgnoreCase("aaa\tbbb\nccc", "BBB"));
+        assertFalse(StringUtil.containsWordIgnoreCase("aaa_bbb", "bbb"));
+    }
+
+    //---------------- Tests for wordMatcherIgnoreCase --------------------------------------
+
+    @Test
+    public void wordMatcherIgnoreCase_invalidWord_throwsException() {
+        assertThrows(NullPointerException.class, () -> StringUtil.wordMatcherIgnoreCase(null));
+        assertThrows(IllegalArgumentException.class, "Word parameter cannot be empty", ()
+            -> StringUtil.wordMatcherIgnoreCase("  "));
+        assertThrows(IllegalArgumentException.class, "Word parameter should be a single word", ()
+            -> StringUtil.wordMatcherIgnoreCase("aaa\tBBB"));
+    }
+
+    @Test
+    public void wordMatcherIgnoreCase_validWord_sameAsContainsWordIgnoreCase() {
+        Predicate<String> matcher = StringUtil.wordMatcherIgnoreCase("  bbB ");
+        assertThrows(NullPointerException.class, () -> matcher.test(null));
+        for (String sentence : new String[] {"", "    ", "aaa bbb ccc", "aaa bb ccc", "  AAA   bBb   ccc  ", "bbbb"}) {
+            assertEquals(StringUtil.containsWordIgnoreCase(sentence, "bbB"), matcher.test(sentence));
+        }
+    }
+
+    //---------------- Tests for fuzzyWordMatcherIgnoreCase --------------------------------------
+
+    @Test
+    public void fuzzyWordMatcherIgnoreCase_invalidInputs_throwsException() {
+        assertThrows(NullPointerException.class, () -> StringUtil.fuzzyWordMatcherIgnoreCase(null, 1));
+        assertThrows(IllegalArgumentException.class, () -> StringUtil.fuzzyWordMatcherIgnoreCase("  ", 1));
+        assertThrows(IllegalArgumentException.class, () -> StringUtil.fuzzyWordMatcherIgnoreCase("aaa bbb", 1));
+        assertThrows(IllegalArgumentException.class, () -> StringUtil.fuzzyWordMatcherIgnoreCase("aaa", -1));
+        assertThrows(NullPointerException.class, () -> StringUtil.fuzzyWordMatcherIgnoreCase("aaa", 1).test(null));
+    }
+
+    @Test
+    public void fuzzyWordMatcherIgnoreCase_validInputs_correctResult() {
+        Predicate<String> matcher = StringUtil.fuzzyWordMatcherIgnoreCase("alise", 1);
+        assertTrue(matcher.test("Alice Pauline")); // substitution
+        assertTrue(matcher.test("bob  alis")); // deletion, last word
+        assertTrue(matcher.test("ALISSE")); // insertion
+        assertFalse(matcher.test("Alicia Keys")); // two edits
+        assertFalse(matcher.test(""));
+
+        // no edits -> whole word match only
+        assertFalse(StringUtil.fuzzyWordMatcherIgnoreCase("alise", 0).test("Alice"));
+        assertTrue(StringUtil.fuzzyWordMatcherIgnoreCase("alice", 0).test("ALICE"));
+    }
+
+    //---------------- Tests for editDistanceIgnoreCase --------------------------------------
+
+    @Test
+    public void editDistanceIgnoreCase() {
+        assertThrows(NullPointerException.class, () -> StringUtil.editDistanceIgnoreCase(null, "abc"));
+        assertThrows(NullPointerException.class, () -> StringUtil.editDistanceIgnoreCase("abc", null));
+
+        assertEquals(0, StringUtil.editDistanceIgnoreCase("", ""));
+        assertEquals(3, StringUtil.editDistanceIgnoreCase("", "abc"));
+        assertEquals(0, StringUtil.editDistanceIgnoreCase("AbC", "aBc"));
+        assertEquals(3, StringUtil.editDistanceIgnoreCase("kitten", "sitting"));
+        assertEquals(2, StringUtil.editDistanceIgnoreCase("ab", "ba"));
     }
 
     //---------------- Tests for getDetails --------------------------------------
@@ -0,0 +1,106 @@
+package seedu.address.logic;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.DANIEL;
+import static seedu.address.testutil.TypicalPersons.ELLE;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+
+import java.util.List;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.UserPrefs;
+
+public class FindPreviewWorkerTest {
+
+    private static final long TIMEOUT_SECONDS = 5;
+
+    private final Model model = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+    private final BlockingQueue<Runnable> resultsToShow = new LinkedBlockingQueue<>();
+    private final FindPreviewWorker worker = new FindPreviewWorker(model, resultsToShow::add, 0);
+
+    @AfterEach
+    public void tearDown() {
+        worker.shutdown();
+    }
+
+    @Test
+    public void preview_findKeywords_showsPersonsWithWordsStartingWithEach() throws Exception {
+        worker.preview("find me");
+        showNextResults();
+        assertEquals(List.of(BENSON, DANIEL, ELLE), model.getFilteredPersonList());
+
+        // narrowed from the persons shown
+        worker.preview("find  ME fr");
+        showNextResults();
+        assertEquals(List.of(BENSON, DANIEL), model.getFilteredPersonList());
+
+        worker.preview("find me cs2101");
+        showNextResults();
+        assertEquals(List.of(DANIEL, ELLE), model.getFilteredPersonList());
+    }
+
+    @Test
+    public void preview_notFindKeywords_showsAllPersonsIfPreviewShown() throws Exception {
+        int allPersonsCount = model.getFilteredPersonList().size();
+        worker.preview("find meier");
+        showNextResults();
+        assertEquals(List.of(BENSON, DANIEL), model.getFilteredPersonList());
+
+        worker.preview("find ");
+        assertEquals(allPersonsCount, model.getFilteredPersonList().size());
+        assertNull(resultsToShow.poll(100, TimeUnit.MILLISECONDS));
+    }
+
+    @Test
+    public void preview_notFindKeywords_restoresFilterBeforePreview() throws Exception {
+        model.updateFilteredPersonList(person -> person.equals(ELLE));
+        worker.preview("find me");
+        showNextResults();
+        assertEquals(List.of(BENSON, DANIEL, ELLE), model.getFilteredPersonList());
+        worker.preview("find me fr");
+        showNextResults();
+        assertEquals(List.of(BENSON, DANIEL), model.getFilteredPersonList());
+
+        worker.preview("filtertag");
+        assertEquals(List.of(ELLE), model.getFilteredPersonList());
+    }
+
+    @Test
+    public void cancel_previewPending_resultsNotShown() throws Exception {
+        int allPersonsCount = model.getFilteredPersonList().size();
+        worker.preview("find me");
+        worker.cancel();
+
+        // the search may already have run, but its results are dropped
+        Runnable show = resultsToShow.poll(100, TimeUnit.MILLISECONDS);
+        if (show != null) {
+            show.run();
+        }
+        assertEquals(allPersonsCount, model.getFilteredPersonList().size());
+    }
+
+    @Test
+    public void preview_addressBookChanged_resultsNotShown() throws Exception {
+        int allPersonsCount = model.getFilteredPersonList().size();
+        worker.preview("find me");
+        Runnable show = resultsToShow.poll(TIMEOUT_SECONDS, TimeUnit.SECONDS);
+        model.deletePerson(BENSON);
+
+        show.run();
+        assertEquals(allPersonsCount - 1, model.getFilteredPersonList().size());
+    }
+
+    private void showNextResults() throws InterruptedException {
+        resultsToShow.poll(TIMEOUT_SECONDS, TimeUnit.SECONDS).run();
+    }
+
+}
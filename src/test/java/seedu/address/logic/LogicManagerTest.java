@@ -16,6 +16,9 @@ import static seedu.address.testutil.TypicalPersons.ZEPHYR;
 
 import java.io.IOException;
 import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -24,15 +27,23 @@ import org.junit.jupiter.api.io.TempDir;
 import seedu.address.commons.core.GuiSettings;
 import seedu.address.logic.commands.AddCommand;
 import seedu.address.logic.commands.CommandResult;
+import seedu.address.logic.commands.FilterCurrModCommand;
+import seedu.address.logic.commands.FilterTagCommand;
+import seedu.address.logic.commands.FindCommand;
+import seedu.address.logic.commands.HistoryCommand;
 import seedu.address.logic.commands.ListCommand;
+import seedu.address.logic.commands.ModulesLeftCommand;
+import seedu.address.logic.commands.UndoCommand;
 import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.model.AddressBook;
 import seedu.address.model.Model;
 import seedu.address.model.ModelManager;
 import seedu.address.model.ReadOnlyAddressBook;
 import seedu.address.model.UserPrefs;
 import seedu.address.model.person.Person;
 import seedu.address.model.person.user.EmptyUser;
+import seedu.address.storage.AddressBookSaveWorker;
 import seedu.address.storage.JsonAddressBookStorage;
 import seedu.address.storage.JsonUserPrefsStorage;
 import seedu.address.storage.StorageManager;
@@ -95,6 +106,81 @@ public class LogicManagerTest {
         assertCommandFailure(addCommand, CommandException.class, expectedMessage, expectedModel);
     }
 
+    @Test
+    public void execute_readOnlyCommands_doNotCommitOrSave() throws Exception {
+        model.addUser(ZEPHYR);
+        JsonAddressBookSaveCountingStub addressBookStorage =
+                new JsonAddressBookSaveCountingStub(temporaryFolder.resolve("addressBook.json"));
+        StorageManager storage = new StorageManager(addressBookStorage,
+                new JsonUserPrefsStorage(temporaryFolder.resolve("userPrefs.json")));
+        logic = new LogicManager(model, storage);
+
+        logic.execute(ListCommand.COMMAND_WORD);
+        logic.execute(FindCommand.COMMAND_WORD + " alice");
+        logic.execute(FilterTagCommand.COMMAND_WORD + " friends");
+        logic.execute(FilterCurrModCommand.COMMAND_WORD + " CS2103T");
+        logic.execute(ModulesLeftCommand.COMMAND_WORD + " 1");
+        logic.execute(HistoryCommand.COMMAND_WORD);
+
+        assertEquals(0, addressBookStorage.saveCount);
+        assertEquals(0, model.getHistoryStatistics().getStatesInMemory());
+        assertFalse(model.canUndoAddressBook());
+    }
+
+    @Test
+    public void execute_modifyingCommand_commitsAndSavesOnce() throws Exception {
+        JsonAddressBookSaveCountingStub addressBookStorage =
+                new JsonAddressBookSaveCountingStub(temporaryFolder.resolve("addressBook.json"));
+        StorageManager storage = new StorageManager(addressBookStorage,
+                new JsonUserPrefsStorage(temporaryFolder.resolve("userPrefs.json")));
+        logic = new LogicManager(model, storage);
+
+        logic.execute(AddCommand.COMMAND_WORD + NAME_DESC_AMY + PHONE_DESC_AMY + EMAIL_DESC_AMY
+                + ADDRESS_DESC_AMY + GITHUB_DESC_AMY);
+        logic.execute(ListCommand.COMMAND_WORD);
+
+        assertEquals(1, addressBookStorage.saveCount);
+        assertEquals(1, model.getHistoryStatistics().getStatesInMemory());
+
+        // undo changes the address book, so it is saved too
+        logic.execute(UndoCommand.COMMAND_WORD);
+        assertEquals(2, addressBookStorage.saveCount);
+    }
+
+    @Test
+    public void execute_saveInBackground_savesAfterShutdown() throws Exception {
+        JsonAddressBookSaveCountingStub addressBookStorage =
+                new JsonAddressBookSaveCountingStub(temporaryFolder.resolve("addressBook.json"));
+        StorageManager storage = new StorageManager(addressBookStorage,
+                new JsonUserPrefsStorage(temporaryFolder.resolve("userPrefs.json")));
+        logic = new LogicManager(model, storage, new AddressBookSaveWorker(storage));
+
+        logic.execute(AddCommand.COMMAND_WORD + NAME_DESC_AMY + PHONE_DESC_AMY + EMAIL_DESC_AMY
+                + ADDRESS_DESC_AMY + GITHUB_DESC_AMY);
+        logic.shutdown();
+
+        assertEquals(1, addressBookStorage.saveCount);
+        assertEquals(new AddressBook(model.getAddressBook()), new AddressBook(storage.readAddressBook().get()));
+    }
+
+    @Test
+    public void execute_saveInBackgroundThrowsIoException_reportsFailure() throws Exception {
+        JsonAddressBookStorage addressBookStorage =
+                new JsonAddressBookIoExceptionThrowingStub(temporaryFolder.resolve("ioExceptionAddressBook.json"));
+        StorageManager storage = new StorageManager(addressBookStorage,
+                new JsonUserPrefsStorage(temporaryFolder.resolve("ioExceptionUserPrefs.json")));
+        logic = new LogicManager(model, storage, new AddressBookSaveWorker(storage));
+        List<String> failureMessages = Collections.synchronizedList(new ArrayList<>());
+        logic.setSaveFailureHandler(failureMessages::add);
+
+        logic.execute(AddCommand.COMMAND_WORD + NAME_DESC_AMY + PHONE_DESC_AMY + EMAIL_DESC_AMY
+                + ADDRESS_DESC_AMY + GITHUB_DESC_AMY);
+        assertThrows(IOException.class, () -> logic.shutdown());
+
+        assertEquals(Collections.singletonList(LogicManager.FILE_OPS_ERROR_MESSAGE + DUMMY_IO_EXCEPTION),
+                failureMessages);
+    }
+
     @Test
     public void getFilteredPersonList_modifyList_throwsUnsupportedOperationException() {
         assertThrows(UnsupportedOperationException.class, () -> logic.getFilteredPersonList().remove(0));
@@ -225,4 +311,21 @@ public class LogicManagerTest {
             throw DUMMY_IO_EXCEPTION;
         }
     }
+
+    /**
+     * A stub class that counts the number of times the address book is saved.
+     */
+    private static class JsonAddressBookSaveCountingStub extends JsonAddressBookStorage {
+        private int saveCount;
+
+        private JsonAddressBookSaveCountingStub(Path filePath) {
+            super(filePath);
+        }
+
+        @Override
+        public void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
+            saveCount++;
+            super.saveAddressBook(addressBook, filePath);
+        }
+    }
 }
@@ -10,6 +10,7 @@ import java.nio.file.Path;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Set;
+import java.util.function.Consumer;
 import java.util.function.Predicate;
 
 import org.junit.jupiter.api.Test;
@@ -18,12 +19,14 @@ import javafx.collections.ObservableList;
 import seedu.address.commons.core.GuiSettings;
 import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.model.AddressBook;
+import seedu.address.model.HistoryStatistics;
 import seedu.address.model.Model;
 import seedu.address.model.ReadOnlyAddressBook;
 import seedu.address.model.ReadOnlyUserPrefs;
 import seedu.address.model.module.Lesson;
 import seedu.address.model.person.Person;
 import seedu.address.model.person.user.User;
+import seedu.address.model.search.PrefixIndex;
 import seedu.address.testutil.PersonBuilder;
 
 public class AddCommandTest {
@@ -126,6 +129,11 @@ public class AddCommandTest {
             throw new AssertionError("This method should not be called.");
         }
 
+        @Override
+        public void batch(Consumer<Model> changes) {
+            throw new AssertionError("This method should not be called.");
+        }
+
         @Override
         public boolean hasUser() {
             throw new AssertionError("This method should not be called.");
@@ -176,6 +184,16 @@ public class AddCommandTest {
             throw new AssertionError("This method should not be called.");
         }
 
+        @Override
+        public Predicate<Person> getFilteredPersonListPredicate() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public PrefixIndex getPrefixIndex() {
+            throw new AssertionError("This method should not be called.");
+        }
+
         @Override
         public void addLessonToUser(Lesson lesson) {
             throw new AssertionError("This method should not be called.");
@@ -206,6 +224,11 @@ public class AddCommandTest {
         public void commitAddressBook() {
         }
 
+        @Override
+        public long getAddressBookVersion() {
+            throw new AssertionError("This method should not be called.");
+        }
+
         @Override
         public boolean canUndoAddressBook() {
             return false;
@@ -225,6 +248,11 @@ public class AddCommandTest {
         public void redoAddressBook() {
             throw new AssertionError("This method should not be called.");
         }
+
+        @Override
+        public HistoryStatistics getHistoryStatistics() {
+            throw new AssertionError("This method should not be called.");
+        }
     }
 
     /**
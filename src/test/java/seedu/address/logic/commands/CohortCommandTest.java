@@ -0,0 +1,71 @@
+package seedu.address.logic.commands;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.logic.commands.CommandTestUtil.assertCommandFailure;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.UserPrefs;
+
+/**
+ * Contains integration tests (interaction with the Model) and unit tests for
+ * {@code CohortCommand}.
+ */
+public class CohortCommandTest {
+
+    private Model model = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+
+    @Test
+    public void execute_typicalPersons_success() throws CommandException {
+        Model expectedModel = new ModelManager(model.getAddressBook(), new UserPrefs());
+        String[] lines = new CohortCommand().execute(model).getFeedbackToUser().split("\n");
+
+        // a header, then one line for each of the core requirements and 10 focus areas
+        assertEquals(12, lines.length);
+        assertEquals(String.format(CohortCommand.MESSAGE_SUCCESS, 7), lines[0]);
+        assertEquals("Core Modules: 0 of 7 cleared. Most often left: CS1101S (7), CS1231S (7), CS2100 (7)",
+                lines[1]);
+        assertEquals("Software Engineering: 0 of 7 cleared. Most often left: CS3213 (7), CS3219 (7), CS4211 (7)",
+                lines[11]);
+        assertEquals(expectedModel, model);
+    }
+
+    @Test
+    public void execute_someShown_onlyShownCounted() throws CommandException {
+        model.updateFilteredPersonList(person -> person.getName().fullName.equals("Alice Pauline"));
+        String[] lines = new CohortCommand().execute(model).getFeedbackToUser().split("\n");
+        assertEquals(String.format(CohortCommand.MESSAGE_SUCCESS, 1), lines[0]);
+        assertEquals("Core Modules: 0 of 1 cleared. Most often left: CS1101S (1), CS1231S (1), CS2030S (1)",
+                lines[1]);
+    }
+
+    @Test
+    public void execute_noShownPersons_throwsCommandException() {
+        model.updateFilteredPersonList(person -> false);
+        assertCommandFailure(new CohortCommand(), model, CohortCommand.MESSAGE_NO_CONTACTS);
+    }
+
+    @Test
+    public void equals() {
+        CohortCommand cohortCommand = new CohortCommand();
+
+        // same object -> returns true
+        assertTrue(cohortCommand.equals(cohortCommand));
+
+        // same type -> returns true
+        assertTrue(cohortCommand.equals(new CohortCommand()));
+
+        // different types -> returns false
+        assertFalse(cohortCommand.equals(1));
+
+        // null -> returns false
+        assertFalse(cohortCommand.equals(null));
+    }
+
+}
@@ -0,0 +1,113 @@
+package seedu.address.logic.commands;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.logic.commands.CommandTestUtil.assertCommandFailure;
+import static seedu.address.logic.commands.CommandTestUtil.assertCommandSuccess;
+import static seedu.address.testutil.TypicalIndexes.INDEX_FIRST_PERSON;
+import static seedu.address.testutil.TypicalIndexes.INDEX_SECOND_PERSON;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+
+import java.util.List;
+import java.util.Optional;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.commons.core.Messages;
+import seedu.address.commons.core.index.Index;
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.UserPrefs;
+import seedu.address.model.tag.Tag;
+
+/**
+ * Contains integration tests (interaction with the Model) and unit tests for {@code FreeSlotsCommand}.
+ */
+public class FreeSlotsCommandTest {
+
+    private static final String FREE_WEEK_EXCEPT_THURSDAY = "Monday 08:00 to 22:00\n"
+            + "Tuesday 08:00 to 22:00\n"
+            + "Wednesday 08:00 to 22:00\n"
+            + "Thursday %s\n"
+            + "Friday 08:00 to 22:00\n"
+            + "Saturday 08:00 to 22:00\n"
+            + "Sunday 08:00 to 22:00";
+
+    private Model model = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+    private Model expectedModel = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+
+    @Test
+    public void execute_indexesWithoutLessons_wholeDaysFree() {
+        FreeSlotsCommand command = new FreeSlotsCommand(List.of(INDEX_FIRST_PERSON, INDEX_SECOND_PERSON),
+                Optional.empty(), 60);
+        String expectedMessage = String.format(FreeSlotsCommand.MESSAGE_SUCCESS, 60, 2,
+                String.format(FREE_WEEK_EXCEPT_THURSDAY, "08:00 to 22:00"));
+        assertCommandSuccess(command, model, expectedMessage, expectedModel);
+    }
+
+    @Test
+    public void execute_indexWithLesson_lessonLeftOut() {
+        // the third person has a lesson on Thursday from 14:00 to 15:00; the same index given twice counts once
+        Index third = Index.fromOneBased(3);
+        FreeSlotsCommand command = new FreeSlotsCommand(List.of(third, INDEX_FIRST_PERSON, third),
+                Optional.empty(), 60);
+        String expectedMessage = String.format(FreeSlotsCommand.MESSAGE_SUCCESS, 60, 2,
+                String.format(FREE_WEEK_EXCEPT_THURSDAY, "08:00 to 14:00\nThursday 15:00 to 22:00"));
+        assertCommandSuccess(command, model, expectedMessage, expectedModel);
+
+        // free times shorter than the minimum length are left out
+        command = new FreeSlotsCommand(List.of(third), Optional.empty(), 7 * 60 + 5);
+        expectedMessage = String.format(FreeSlotsCommand.MESSAGE_SUCCESS, 7 * 60 + 5, 1,
+                String.format(FREE_WEEK_EXCEPT_THURSDAY, "08:00 to 14:00").replace("\nThursday 08:00 to 14:00", ""));
+        assertCommandSuccess(command, model, expectedMessage, expectedModel);
+
+        command = new FreeSlotsCommand(List.of(third), Optional.empty(), 14 * 60 + 5);
+        assertCommandSuccess(command, model, String.format(FreeSlotsCommand.MESSAGE_NO_FREE_SLOTS, 14 * 60 + 5, 1),
+                expectedModel);
+    }
+
+    @Test
+    public void execute_tag_taggedContactsInGroup() {
+        // two contacts are tagged friends, ignoring case; the second person is one of them
+        FreeSlotsCommand command = new FreeSlotsCommand(List.of(INDEX_SECOND_PERSON), Optional.of(new Tag("FRIENDS")),
+                60);
+        String expectedMessage = String.format(FreeSlotsCommand.MESSAGE_SUCCESS, 60, 2,
+                String.format(FREE_WEEK_EXCEPT_THURSDAY, "08:00 to 22:00"));
+        assertCommandSuccess(command, model, expectedMessage, expectedModel);
+    }
+
+    @Test
+    public void execute_invalidIndex_throwsCommandException() {
+        Index outOfBoundIndex = Index.fromOneBased(model.getFilteredPersonList().size() + 1);
+        FreeSlotsCommand command = new FreeSlotsCommand(List.of(INDEX_FIRST_PERSON, outOfBoundIndex),
+                Optional.empty(), 60);
+        assertCommandFailure(command, model, Messages.MESSAGE_INVALID_PERSON_DISPLAYED_INDEX);
+    }
+
+    @Test
+    public void execute_tagWithoutContacts_throwsCommandException() {
+        FreeSlotsCommand command = new FreeSlotsCommand(List.of(), Optional.of(new Tag("nobody")), 60);
+        assertCommandFailure(command, model, String.format(FreeSlotsCommand.MESSAGE_NO_TAGGED_CONTACTS, "nobody"));
+    }
+
+    @Test
+    public void equals() {
+        FreeSlotsCommand command = new FreeSlotsCommand(List.of(INDEX_FIRST_PERSON), Optional.empty(), 60);
+
+        // same values -> returns true
+        assertTrue(command.equals(new FreeSlotsCommand(List.of(INDEX_FIRST_PERSON), Optional.empty(), 60)));
+
+        // same object -> returns true
+        assertTrue(command.equals(command));
+
+        // null -> returns false
+        assertFalse(command.equals(null));
+
+        // different indexes, tag or minimum length -> returns false
+        assertFalse(command.equals(new FreeSlotsCommand(List.of(INDEX_SECOND_PERSON), Optional.empty(), 60)));
+        assertFalse(command.equals(new FreeSlotsCommand(List.of(INDEX_FIRST_PERSON),
+                Optional.of(new Tag("friends")), 60)));
+        assertFalse(command.equals(new FreeSlotsCommand(List.of(INDEX_FIRST_PERSON), Optional.empty(), 30)));
+    }
+
+}
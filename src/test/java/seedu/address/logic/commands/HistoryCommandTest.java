@@ -0,0 +1,33 @@
+package seedu.address.logic.commands;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.UserPrefs;
+import seedu.address.testutil.PersonBuilder;
+
+/**
+ * Contains integration tests (interaction with the Model) for {@code HistoryCommand}.
+ */
+public class HistoryCommandTest {
+
+    @Test
+    public void execute_newModel_showsEmptyHistory() {
+        Model model = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+        CommandResult result = new HistoryCommand().execute(model);
+        assertEquals(String.format(HistoryCommand.MESSAGE_SUCCESS, 0, "0 KB", 0, "0 KB"), result.getFeedbackToUser());
+    }
+
+    @Test
+    public void execute_afterCommand_showsCommittedState() throws Exception {
+        Model model = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+        new AddCommand(new PersonBuilder().build()).execute(model);
+
+        CommandResult result = new HistoryCommand().execute(model);
+        assertEquals(String.format(HistoryCommand.MESSAGE_SUCCESS, 1, "1 KB", 0, "0 KB"), result.getFeedbackToUser());
+    }
+}
@@ -15,7 +15,9 @@ import seedu.address.commons.core.index.Index;
 import seedu.address.model.Model;
 import seedu.address.model.ModelManager;
 import seedu.address.model.UserPrefs;
-import seedu.address.model.module.Module;
+import seedu.address.model.module.GraduationRequirements;
+import seedu.address.model.module.Requirement;
+import seedu.address.testutil.UserBuilder;
 
 /**
  * Contains integration tests (interaction with the Model) and unit tests for
@@ -27,17 +29,12 @@ public class ModulesLeftCommandTest {
 
     @Test
     public void execute_coreModules_success() {
-        Set<Module> expectedSet = new HashSet<>();
-        String[] modStringArray = {"CS1101S", "CS1231S", "IS1103", "MA1521", "MA2001", "GEA1000", "ES2660", "ST2334",
-                                   "CS2030S", "CS2100", "CS2101", "CS2106", "CS2109S", "CS3230"};
-        for (String modString : modStringArray) {
-            expectedSet.add(new Module(modString));
-        }
+        String expectedModules = "CS1101S, CS1231S, CS2030S, CS2100, CS2101, CS2106, CS2109S, "
+                + "CS3230, ES2660, GEA1000, IS1103, MA1521, MA2001, ST2334";
         Index index = Index.fromOneBased(1);
         ModulesLeftCommand modulesLeftCommand = new ModulesLeftCommand(index);
 
-        String expectedMessage = String.format(ModulesLeftCommand.MESSAGE_SUCCESS,
-                ModulesLeftCommand.moduleSetToString(expectedSet));
+        String expectedMessage = String.format(ModulesLeftCommand.MESSAGE_SUCCESS, expectedModules);
 
         ModelManager expectedModel = new ModelManager(model.getAddressBook(), new UserPrefs());
 
@@ -46,16 +43,11 @@ public class ModulesLeftCommandTest {
 
     @Test
     public void execute_algoModules_success() {
-        Set<Module> expectedSet = new HashSet<>();
-        String[] modStringArray = {"CS3230", "CS3231", "CS3236", "CS4231", "CS4234"};
-        for (String modString : modStringArray) {
-            expectedSet.add(new Module(modString));
-        }
         Index index = Index.fromOneBased(2);
         ModulesLeftCommand modulesLeftCommand = new ModulesLeftCommand(index);
 
         String expectedMessage = String.format(ModulesLeftCommand.MESSAGE_SUCCESS,
-                ModulesLeftCommand.moduleSetToString(expectedSet));
+                "CS3230, CS3231, CS3236, CS4231, CS4234");
 
         ModelManager expectedModel = new ModelManager(model.getAddressBook(), new UserPrefs());
 
@@ -64,17 +56,11 @@ public class ModulesLeftCommandTest {
 
     @Test
     public void execute_aiModules_success() {
-        Set<Module> expectedSet = new HashSet<>();
-        String[] modStringArray = {"CS2109S", "CS3243", "CS3244", "CS3263", "CS3264", "CS4243", "CS4244", "CS4246",
-                                   "CS4248"};
-        for (String modString : modStringArray) {
-            expectedSet.add(new Module(modString));
-        }
         Index index = Index.fromOneBased(3);
         ModulesLeftCommand modulesLeftCommand = new ModulesLeftCommand(index);
 
         String expectedMessage = String.format(ModulesLeftCommand.MESSAGE_SUCCESS,
-                ModulesLeftCommand.moduleSetToString(expectedSet));
+                "CS2109S, CS3243, CS3244, CS3263, CS3264, CS4243, CS4244, CS4246, CS4248");
 
         ModelManager expectedModel = new ModelManager(model.getAddressBook(), new UserPrefs());
 
@@ -83,16 +69,11 @@ public class ModulesLeftCommandTest {
 
     @Test
     public void execute_gamesModules_success() {
-        Set<Module> expectedSet = new HashSet<>();
-        String[] modStringArray = {"CS3241", "CS3242", "CS3247", "CS4247", "CS4350"};
-        for (String modString : modStringArray) {
-            expectedSet.add(new Module(modString));
-        }
         Index index = Index.fromOneBased(4);
         ModulesLeftCommand modulesLeftCommand = new ModulesLeftCommand(index);
 
         String expectedMessage = String.format(ModulesLeftCommand.MESSAGE_SUCCESS,
-                ModulesLeftCommand.moduleSetToString(expectedSet));
+                "CS3241, CS3242, CS3247, CS4247, CS4350");
 
         ModelManager expectedModel = new ModelManager(model.getAddressBook(), new UserPrefs());
 
@@ -101,16 +82,11 @@ public class ModulesLeftCommandTest {
 
     @Test
     public void execute_securityModules_success() {
-        Set<Module> expectedSet = new HashSet<>();
-        String[] modStringArray = {"CS2107", "CS3235", "CS4230", "CS4236", "CS4238", "CS4239"};
-        for (String modString : modStringArray) {
-            expectedSet.add(new Module(modString));
-        }
         Index index = Index.fromOneBased(5);
         ModulesLeftCommand modulesLeftCommand = new ModulesLeftCommand(index);
 
         String expectedMessage = String.format(ModulesLeftCommand.MESSAGE_SUCCESS,
-                ModulesLeftCommand.moduleSetToString(expectedSet));
+                "CS2107, CS3235, CS4230, CS4236, CS4238, CS4239");
 
         ModelManager expectedModel = new ModelManager(model.getAddressBook(), new UserPrefs());
 
@@ -119,16 +95,11 @@ public class ModulesLeftCommandTest {
 
     @Test
     public void execute_dataModules_success() {
-        Set<Module> expectedSet = new HashSet<>();
-        String[] modStringArray = {"CS2102", "CS3223", "CS4221", "CS4224", "CS4225"};
-        for (String modString : modStringArray) {
-            expectedSet.add(new Module(modString));
-        }
         Index index = Index.fromOneBased(6);
         ModulesLeftCommand modulesLeftCommand = new ModulesLeftCommand(index);
 
         String expectedMessage = String.format(ModulesLeftCommand.MESSAGE_SUCCESS,
-                ModulesLeftCommand.moduleSetToString(expectedSet));
+                "CS2102, CS3223, CS4221, CS4224, CS4225");
 
         ModelManager expectedModel = new ModelManager(model.getAddressBook(), new UserPrefs());
 
@@ -137,16 +108,11 @@ public class ModulesLeftCommandTest {
 
     @Test
     public void execute_infoModules_success() {
-        Set<Module> expectedSet = new HashSet<>();
-        String[] modStringArray = {"CS2108", "CS3245", "CS4242", "CS4248", "CS4347"};
-        for (String modString : modStringArray) {
-            expectedSet.add(new Module(modString));
-        }
         Index index = Index.fromOneBased(7);
         ModulesLeftCommand modulesLeftCommand = new ModulesLeftCommand(index);
 
         String expectedMessage = String.format(ModulesLeftCommand.MESSAGE_SUCCESS,
-                ModulesLeftCommand.moduleSetToString(expectedSet));
+                "CS2108, CS3245, CS4242, CS4248, CS4347");
 
         ModelManager expectedModel = new ModelManager(model.getAddressBook(), new UserPrefs());
 
@@ -155,16 +121,11 @@ public class ModulesLeftCommandTest {
 
     @Test
     public void execute_networkModules_success() {
-        Set<Module> expectedSet = new HashSet<>();
-        String[] modStringArray = {"CS2105", "CS3103", "CS4222", "CS4226", "CS4231"};
-        for (String modString : modStringArray) {
-            expectedSet.add(new Module(modString));
-        }
         Index index = Index.fromOneBased(8);
         ModulesLeftCommand modulesLeftCommand = new ModulesLeftCommand(index);
 
         String expectedMessage = String.format(ModulesLeftCommand.MESSAGE_SUCCESS,
-                ModulesLeftCommand.moduleSetToString(expectedSet));
+                "CS2105, CS3103, CS4222, CS4226, CS4231");
 
         ModelManager expectedModel = new ModelManager(model.getAddressBook(), new UserPrefs());
 
@@ -173,16 +134,11 @@ public class ModulesLeftCommandTest {
 
     @Test
     public void execute_parallelModules_success() {
-        Set<Module> expectedSet = new HashSet<>();
-        String[] modStringArray = {"CS3210", "CS3211", "CS4223", "CS4231"};
-        for (String modString : modStringArray) {
-            expectedSet.add(new Module(modString));
-        }
         Index index = Index.fromOneBased(9);
         ModulesLeftCommand modulesLeftCommand = new ModulesLeftCommand(index);
 
         String expectedMessage = String.format(ModulesLeftCommand.MESSAGE_SUCCESS,
-                ModulesLeftCommand.moduleSetToString(expectedSet));
+                "CS3210, CS3211, CS4223, CS4231");
 
         ModelManager expectedModel = new ModelManager(model.getAddressBook(), new UserPrefs());
 
@@ -191,16 +147,11 @@ public class ModulesLeftCommandTest {
 
     @Test
     public void execute_languagesModules_success() {
-        Set<Module> expectedSet = new HashSet<>();
-        String[] modStringArray = {"CS2104", "CS3211", "CS4212", "CS4215"};
-        for (String modString : modStringArray) {
-            expectedSet.add(new Module(modString));
-        }
         Index index = Index.fromOneBased(10);
         ModulesLeftCommand modulesLeftCommand = new ModulesLeftCommand(index);
 
         String expectedMessage = String.format(ModulesLeftCommand.MESSAGE_SUCCESS,
-                ModulesLeftCommand.moduleSetToString(expectedSet));
+                "CS2104, CS3211, CS4212, CS4215");
 
         ModelManager expectedModel = new ModelManager(model.getAddressBook(), new UserPrefs());
 
@@ -209,22 +160,56 @@ public class ModulesLeftCommandTest {
 
     @Test
     public void execute_sweModules_success() {
-        Set<Module> expectedSet = new HashSet<>();
-        String[] modStringArray = {"CS3213", "CS3219", "CS4211", "CS4218", "CS4239"};
-        for (String modString : modStringArray) {
-            expectedSet.add(new Module(modString));
-        }
         Index index = Index.fromOneBased(11);
         ModulesLeftCommand modulesLeftCommand = new ModulesLeftCommand(index);
 
         String expectedMessage = String.format(ModulesLeftCommand.MESSAGE_SUCCESS,
-                ModulesLeftCommand.moduleSetToString(expectedSet));
+                "CS3213, CS3219, CS4211, CS4218, CS4239");
+
+        ModelManager expectedModel = new ModelManager(model.getAddressBook(), new UserPrefs());
+
+        assertCommandSuccess(modulesLeftCommand, model, expectedMessage, expectedModel);
+    }
+
+    @Test
+    public void execute_closest_success() {
+        ModulesLeftCommand modulesLeftCommand = new ModulesLeftCommand();
+
+        // Parallel Computing and Programming Languages both have 4 modules left, and Parallel Computing comes first
+        String expectedMessage = String.format(ModulesLeftCommand.MESSAGE_CLOSEST, "Parallel Computing", "4 modules",
+                "CS3210, CS3211, CS4223, CS4231");
 
         ModelManager expectedModel = new ModelManager(model.getAddressBook(), new UserPrefs());
 
         assertCommandSuccess(modulesLeftCommand, model, expectedMessage, expectedModel);
     }
 
+    @Test
+    public void execute_closestOneModuleLeft_success() {
+        model.setUser(new UserBuilder(model.getUser()).withPreviousModules("CS2040S", "CS3210", "CS3211", "CS4223")
+                .build());
+        String expectedMessage = String.format(ModulesLeftCommand.MESSAGE_CLOSEST, "Parallel Computing", "1 module",
+                "CS4231");
+
+        ModelManager expectedModel = new ModelManager(model.getAddressBook(), new UserPrefs());
+
+        assertCommandSuccess(new ModulesLeftCommand(), model, expectedMessage, expectedModel);
+    }
+
+    @Test
+    public void execute_closestAllCleared_success() {
+        Set<String> allModules = new HashSet<>();
+        for (Requirement requirement : GraduationRequirements.getDefault().getRequirements()) {
+            allModules.addAll(GraduationRequirements.getDefault().toModuleCodes(requirement.getModules()));
+        }
+        model.setUser(new UserBuilder(model.getUser()).withCurrentModules()
+                .withPreviousModules(allModules.toArray(new String[0])).build());
+
+        ModelManager expectedModel = new ModelManager(model.getAddressBook(), new UserPrefs());
+
+        assertCommandSuccess(new ModulesLeftCommand(), model, ModulesLeftCommand.MESSAGE_ALL_CLEARED, expectedModel);
+    }
+
     @Test
     public void execute_invalidIndex_failure() {
         Index outOfBoundIndex = Index.fromOneBased(12);
@@ -270,5 +255,9 @@ public class ModulesLeftCommandTest {
 
         // different index -> returns false
         assertFalse(coreModsLeftCommand.equals(algoModsLeftCommand));
+
+        // closest -> only equal to closest
+        assertTrue(new ModulesLeftCommand().equals(new ModulesLeftCommand()));
+        assertFalse(coreModsLeftCommand.equals(new ModulesLeftCommand()));
     }
 }
@@ -8,6 +8,7 @@ import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
 
 import java.nio.file.Path;
 import java.util.Set;
+import java.util.function.Consumer;
 import java.util.function.Predicate;
 
 import org.junit.jupiter.api.Test;
@@ -15,6 +16,7 @@ import org.junit.jupiter.api.Test;
 import javafx.collections.ObservableList;
 import seedu.address.commons.core.GuiSettings;
 import seedu.address.model.AddressBook;
+import seedu.address.model.HistoryStatistics;
 import seedu.address.model.Model;
 import seedu.address.model.ModelManager;
 import seedu.address.model.ReadOnlyAddressBook;
@@ -24,6 +26,7 @@ import seedu.address.model.module.Lesson;
 import seedu.address.model.person.Person;
 import seedu.address.model.person.user.EmptyUser;
 import seedu.address.model.person.user.User;
+import seedu.address.model.search.PrefixIndex;
 import seedu.address.testutil.PersonBuilder;
 
 public class UndoCommandTest {
@@ -108,6 +111,11 @@ public class UndoCommandTest {
             throw new AssertionError("This method should not be called.");
         }
 
+        @Override
+        public void batch(Consumer<Model> changes) {
+            throw new AssertionError("This method should not be called.");
+        }
+
         @Override
         public boolean hasUser() {
             throw new AssertionError("This method should not be called.");
@@ -167,6 +175,16 @@ public class UndoCommandTest {
         public void updateFilteredPersonList(Predicate<Person> predicate) {
             throw new AssertionError("This method should not be called.");
         }
+
+        @Override
+        public Predicate<Person> getFilteredPersonListPredicate() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public PrefixIndex getPrefixIndex() {
+            throw new AssertionError("This method should not be called.");
+        }
         @Override
         public boolean setTimetable(Set<Lesson> lessons) {
             throw new AssertionError("This method should not be called.");
@@ -186,6 +204,11 @@ public class UndoCommandTest {
         public void commitAddressBook() {
         }
 
+        @Override
+        public long getAddressBookVersion() {
+            throw new AssertionError("This method should not be called.");
+        }
+
         @Override
         public boolean canUndoAddressBook() {
             return false;
@@ -205,6 +228,11 @@ public class UndoCommandTest {
         public void redoAddressBook() {
             throw new AssertionError("This method should not be called.");
         }
+
+        @Override
+        public HistoryStatistics getHistoryStatistics() {
+            throw new AssertionError("This method should not be called.");
+        }
     }
 
     /**
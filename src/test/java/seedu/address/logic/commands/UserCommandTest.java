@@ -8,6 +8,7 @@ import static seedu.address.testutil.Assert.assertThrows;
 
 import java.nio.file.Path;
 import java.util.Set;
+import java.util.function.Consumer;
 import java.util.function.Predicate;
 
 import org.junit.jupiter.api.Test;
@@ -16,6 +17,7 @@ import javafx.collections.ObservableList;
 import seedu.address.commons.core.GuiSettings;
 import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.model.AddressBook;
+import seedu.address.model.HistoryStatistics;
 import seedu.address.model.Model;
 import seedu.address.model.ReadOnlyAddressBook;
 import seedu.address.model.ReadOnlyUserPrefs;
@@ -23,6 +25,7 @@ import seedu.address.model.module.Lesson;
 import seedu.address.model.person.Person;
 import seedu.address.model.person.user.EmptyUser;
 import seedu.address.model.person.user.User;
+import seedu.address.model.search.PrefixIndex;
 import seedu.address.testutil.UserBuilder;
 
 public class UserCommandTest {
@@ -125,6 +128,11 @@ public class UserCommandTest {
             throw new AssertionError("This method should not be called.");
         }
 
+        @Override
+        public void batch(Consumer<Model> changes) {
+            throw new AssertionError("This method should not be called.");
+        }
+
         @Override
         public boolean hasUser() {
             throw new AssertionError("This method should not be called.");
@@ -184,6 +192,16 @@ public class UserCommandTest {
         public void updateFilteredPersonList(Predicate<Person> predicate) {
             throw new AssertionError("This method should not be called.");
         }
+
+        @Override
+        public Predicate<Person> getFilteredPersonListPredicate() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public PrefixIndex getPrefixIndex() {
+            throw new AssertionError("This method should not be called.");
+        }
         @Override
         public boolean setTimetable(Set<Lesson> lessons) {
             throw new AssertionError("This method should not be called.");
@@ -203,6 +221,11 @@ public class UserCommandTest {
         public void commitAddressBook() {
         }
 
+        @Override
+        public long getAddressBookVersion() {
+            throw new AssertionError("This method should not be called.");
+        }
+
         @Override
         public boolean canUndoAddressBook() {
             return false;
@@ -222,6 +245,11 @@ public class UserCommandTest {
         public void redoAddressBook() {
             throw new AssertionError("This method should not be called.");
         }
+
+        @Override
+        public HistoryStatistics getHistoryStatistics() {
+            throw new AssertionError("This method should not be called.");
+        }
     }
 
     /**
@@ -13,12 +13,14 @@ import static seedu.address.testutil.TypicalIndexes.INDEX_FIRST_PERSON;
 
 import java.util.Arrays;
 import java.util.List;
+import java.util.Optional;
 import java.util.stream.Collectors;
 
 import org.junit.jupiter.api.Test;
 
 import seedu.address.logic.commands.AddCommand;
 import seedu.address.logic.commands.ClearCommand;
+import seedu.address.logic.commands.CohortCommand;
 import seedu.address.logic.commands.DeleteCommand;
 import seedu.address.logic.commands.DeleteIndexCommand;
 import seedu.address.logic.commands.EditCommand;
@@ -30,7 +32,9 @@ import seedu.address.logic.commands.FilterPlanModCommand;
 import seedu.address.logic.commands.FilterPrevModCommand;
 import seedu.address.logic.commands.FilterTagCommand;
 import seedu.address.logic.commands.FindCommand;
+import seedu.address.logic.commands.FreeSlotsCommand;
 import seedu.address.logic.commands.HelpCommand;
+import seedu.address.logic.commands.HistoryCommand;
 import seedu.address.logic.commands.ListCommand;
 import seedu.address.logic.commands.ModuleCommand;
 import seedu.address.logic.commands.ModuleCommand.EditModuleDescriptor;
@@ -47,6 +51,7 @@ import seedu.address.model.module.PrevModContainsKeywordsPredicate;
 import seedu.address.model.person.NameContainsKeywordsPredicate;
 import seedu.address.model.person.Person;
 import seedu.address.model.person.user.User;
+import seedu.address.model.tag.Tag;
 import seedu.address.model.tag.TagsContainsKeywordsPredicate;
 import seedu.address.testutil.EditModuleDescriptorBuilder;
 import seedu.address.testutil.EditPersonDescriptorBuilder;
@@ -94,6 +99,12 @@ public class AddressBookParserTest {
         assertEquals(new EditIndexCommand(INDEX_FIRST_PERSON, descriptor), command);
     }
 
+    @Test
+    public void parseCommand_cohort() throws Exception {
+        assertTrue(parser.parseCommand(CohortCommand.COMMAND_WORD) instanceof CohortCommand);
+        assertTrue(parser.parseCommand(CohortCommand.COMMAND_WORD + " 3") instanceof CohortCommand);
+    }
+
     @Test
     public void parseCommand_exit() throws Exception {
         assertTrue(parser.parseCommand(ExitCommand.COMMAND_WORD) instanceof ExitCommand);
@@ -156,6 +167,13 @@ public class AddressBookParserTest {
         assertEquals(new FilterTagCommand(new TagsContainsKeywordsPredicate(keywords)), command);
     }
 
+    @Test
+    public void parseCommand_freeSlots() throws Exception {
+        FreeSlotsCommand command = (FreeSlotsCommand) parser.parseCommand(
+                FreeSlotsCommand.COMMAND_WORD + " " + INDEX_FIRST_PERSON.getOneBased() + " t/friends min/30");
+        assertEquals(new FreeSlotsCommand(List.of(INDEX_FIRST_PERSON), Optional.of(new Tag("friends")), 30), command);
+    }
+
     @Test
     public void parseCommand_filterCurrMod() throws Exception {
         String keywords = "CS2100 CS2103T";
@@ -192,6 +210,12 @@ public class AddressBookParserTest {
         assertTrue(parser.parseCommand(UndoCommand.COMMAND_WORD + " 3") instanceof UndoCommand);
     }
 
+    @Test
+    public void parseCommand_history() throws Exception {
+        assertTrue(parser.parseCommand(HistoryCommand.COMMAND_WORD) instanceof HistoryCommand);
+        assertTrue(parser.parseCommand(HistoryCommand.COMMAND_WORD + " 3") instanceof HistoryCommand);
+    }
+
     @Test
     public void parseCommand_redo() throws Exception {
         assertTrue(parser.parseCommand(RedoCommand.COMMAND_WORD) instanceof RedoCommand);
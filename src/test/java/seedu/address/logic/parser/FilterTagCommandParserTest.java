@@ -7,6 +7,7 @@ import static seedu.address.logic.parser.CommandParserTestUtil.assertParseSucces
 import org.junit.jupiter.api.Test;
 
 import seedu.address.logic.commands.FilterTagCommand;
+import seedu.address.model.tag.TagQuery;
 import seedu.address.model.tag.TagsContainsKeywordsPredicate;
 
 public class FilterTagCommandParserTest {
@@ -28,6 +29,16 @@ public class FilterTagCommandParserTest {
 
         // multiple whitespaces between keywords
         assertParseSuccess(parser, " \n Alice \n \t", expectedFilterTagCommand);
+
+        // tag query
+        assertParseSuccess(parser, "friends AND NOT (family OR colleagues)", new FilterTagCommand(
+                new TagsContainsKeywordsPredicate("friends AND NOT (family OR colleagues)")));
+    }
+
+    @Test
+    public void parse_invalidQuery_throwsParseException() {
+        assertParseFailure(parser, "friends AND", TagQuery.MESSAGE_CONSTRAINTS);
+        assertParseFailure(parser, "(friends OR family", TagQuery.MESSAGE_CONSTRAINTS);
     }
 
 }
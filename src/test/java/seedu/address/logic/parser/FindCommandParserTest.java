@@ -29,6 +29,15 @@ public class FindCommandParserTest {
 
         // multiple whitespaces between keywords
         assertParseSuccess(parser, " \n Alice \n \t Bob  \t", expectedFindCommand);
+
+        // fuzzy keyword
+        assertParseSuccess(parser, "~alise Bob",
+                new FindCommand(new NameContainsKeywordsPredicate(Arrays.asList("~alise", "Bob"))));
+    }
+
+    @Test
+    public void parse_fuzzyKeywordWithoutWord_throwsParseException() {
+        assertParseFailure(parser, "Alice ~", String.format(MESSAGE_INVALID_COMMAND_FORMAT, FindCommand.MESSAGE_USAGE));
     }
 
 }
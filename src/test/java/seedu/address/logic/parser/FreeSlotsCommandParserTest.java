@@ -0,0 +1,51 @@
+package seedu.address.logic.parser;
+
+import static seedu.address.commons.core.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseFailure;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseSuccess;
+import static seedu.address.testutil.TypicalIndexes.INDEX_FIRST_PERSON;
+import static seedu.address.testutil.TypicalIndexes.INDEX_SECOND_PERSON;
+
+import java.util.List;
+import java.util.Optional;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.logic.commands.FreeSlotsCommand;
+import seedu.address.model.tag.Tag;
+
+public class FreeSlotsCommandParserTest {
+
+    private static final String MESSAGE_INVALID_FORMAT =
+            String.format(MESSAGE_INVALID_COMMAND_FORMAT, FreeSlotsCommand.MESSAGE_USAGE);
+
+    private FreeSlotsCommandParser parser = new FreeSlotsCommandParser();
+
+    @Test
+    public void parse_noIndexesOrTag_throwsParseException() {
+        assertParseFailure(parser, "     ", MESSAGE_INVALID_FORMAT);
+        assertParseFailure(parser, " min/30", MESSAGE_INVALID_FORMAT);
+    }
+
+    @Test
+    public void parse_invalidValues_throwsParseException() {
+        assertParseFailure(parser, "1 a 3", MESSAGE_INVALID_FORMAT);
+        assertParseFailure(parser, "0", MESSAGE_INVALID_FORMAT);
+        assertParseFailure(parser, " t/friends*", Tag.MESSAGE_CONSTRAINTS);
+        assertParseFailure(parser, "1 min/0", FreeSlotsCommandParser.MESSAGE_INVALID_MIN_LENGTH);
+        assertParseFailure(parser, "1 min/1441", FreeSlotsCommandParser.MESSAGE_INVALID_MIN_LENGTH);
+        assertParseFailure(parser, "1 min/an hour", FreeSlotsCommandParser.MESSAGE_INVALID_MIN_LENGTH);
+    }
+
+    @Test
+    public void parse_validArgs_returnsFreeSlotsCommand() {
+        assertParseSuccess(parser, " 1  2 ", new FreeSlotsCommand(List.of(INDEX_FIRST_PERSON, INDEX_SECOND_PERSON),
+                Optional.empty(), FreeSlotsCommand.DEFAULT_MIN_MINUTES));
+        assertParseSuccess(parser, " t/friends min/90",
+                new FreeSlotsCommand(List.of(), Optional.of(new Tag("friends")), 90));
+        assertParseSuccess(parser, "2 t/friends",
+                new FreeSlotsCommand(List.of(INDEX_SECOND_PERSON), Optional.of(new Tag("friends")),
+                        FreeSlotsCommand.DEFAULT_MIN_MINUTES));
+    }
+
+}
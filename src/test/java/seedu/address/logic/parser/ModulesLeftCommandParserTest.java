@@ -21,6 +21,11 @@ public class ModulesLeftCommandParserTest {
         assertParseSuccess(parser, "1", new ModulesLeftCommand(INDEX_FIRST_PERSON));
     }
 
+    @Test
+    public void parse_closest_returnsModulesLeftCommand() {
+        assertParseSuccess(parser, " closest ", new ModulesLeftCommand());
+    }
+
     @Test
     public void parse_invalidArgs_throwsParseException() {
         assertParseFailure(parser, "bob", MESSAGE_INVALID_FORMAT);
@@ -0,0 +1,44 @@
+package seedu.address.model;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.person.Person;
+import seedu.address.testutil.PersonBuilder;
+
+public class AddressBookChangeTest {
+
+    @Test
+    public void estimateSize_detailsNotLoaded_detailsStayUnloaded() {
+        Person lazyAlice = Person.withDetailsLoadedOnDemand(ALICE.getName(), () -> new PersonBuilder(ALICE).build());
+        AddressBookChange change = new AddressBookChange.SetPersons(List.of(lazyAlice, BENSON), List.of());
+
+        assertTrue(change.estimateSize() < new AddressBookChange.SetPersons(List.of(ALICE, BENSON), List.of())
+                .estimateSize());
+        assertTrue(lazyAlice.getPendingDetailsLoader().isPresent());
+    }
+
+    @Test
+    public void estimateSize_setPersonsSharingPersons_onlyChangedPersonsCharged() {
+        List<Person> persons = new ArrayList<>();
+        for (int i = 0; i < 1000; i++) {
+            persons.add(new PersonBuilder().withName("Person " + i).build());
+        }
+        List<Person> editedPersons = new ArrayList<>(persons);
+        editedPersons.set(0, new PersonBuilder(persons.get(0)).withAddress("Elsewhere").build());
+
+        long oneEditSize = new AddressBookChange.SetPersons(persons, editedPersons).estimateSize();
+        long removeOneSize = new AddressBookChange.RemovePerson(0, persons.get(0)).estimateSize();
+
+        // one person charged in full, and a reference for each place in the lists
+        assertEquals(removeOneSize + 8 * 2000, oneEditSize);
+    }
+
+}
@@ -19,14 +19,20 @@ import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.List;
+import java.util.function.Predicate;
 
 import org.junit.jupiter.api.Test;
 
 import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
+import seedu.address.model.module.CurrModContainsKeywordsPredicate;
+import seedu.address.model.module.PlanModContainsKeywordsPredicate;
+import seedu.address.model.module.PrevModContainsKeywordsPredicate;
+import seedu.address.model.person.NameContainsKeywordsPredicate;
 import seedu.address.model.person.Person;
 import seedu.address.model.person.exceptions.DuplicatePersonException;
 import seedu.address.model.person.user.User;
+import seedu.address.model.tag.TagsContainsKeywordsPredicate;
 import seedu.address.testutil.AddressBookBuilder;
 import seedu.address.testutil.PersonBuilder;
 
@@ -152,6 +158,26 @@ public class AddressBookTest {
         assertNotEquals(ab.hashCode(), differentAb.hashCode());
     }
 
+    @Test
+    public void toIndexedPredicate_keywordPredicates_sameResults() {
+        AddressBook typicalAddressBook = getTypicalAddressBook();
+        typicalAddressBook.setPerson(CARL, new PersonBuilder(CARL).withPreviousModules("CS2103T").build());
+        List<Predicate<Person>> predicates = Arrays.asList(
+                new NameContainsKeywordsPredicate(Arrays.asList("meier", "Kurz")),
+                new NameContainsKeywordsPredicate(Arrays.asList("~meyer", "~Alise", "~Cral")),
+                new CurrModContainsKeywordsPredicate("cs2103t"),
+                new PrevModContainsKeywordsPredicate("CS2103T CS2030S"),
+                new PlanModContainsKeywordsPredicate("CS2105 CS1101S"),
+                new TagsContainsKeywordsPredicate("friends"));
+
+        for (Predicate<Person> predicate : predicates) {
+            Predicate<Person> indexedPredicate = typicalAddressBook.toIndexedPredicate(predicate);
+            for (Person person : typicalAddressBook.getPersonList()) {
+                assertEquals(predicate.test(person), indexedPredicate.test(person));
+            }
+        }
+    }
+
     /**
      * A stub ReadOnlyAddressBook whose persons list can violate interface constraints.
      */
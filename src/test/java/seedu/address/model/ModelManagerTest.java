@@ -15,9 +15,14 @@ import java.util.Arrays;
 
 import org.junit.jupiter.api.Test;
 
+import javafx.collections.ListChangeListener;
 import seedu.address.commons.core.GuiSettings;
 import seedu.address.model.person.NameContainsKeywordsPredicate;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.user.User;
 import seedu.address.testutil.AddressBookBuilder;
+import seedu.address.testutil.PersonBuilder;
+import seedu.address.testutil.UserBuilder;
 
 public class ModelManagerTest {
 
@@ -73,6 +78,29 @@ public class ModelManagerTest {
         assertEquals(path, modelManager.getAddressBookFilePath());
     }
 
+    @Test
+    public void commitAddressBook_noChanges_addsNoHistory() {
+        long version = modelManager.getAddressBookVersion();
+        modelManager.updateFilteredPersonList(PREDICATE_SHOW_ALL_PERSONS);
+        modelManager.commitAddressBook();
+        assertEquals(version, modelManager.getAddressBookVersion());
+        assertFalse(modelManager.canUndoAddressBook());
+    }
+
+    @Test
+    public void commitAddressBook_withChanges_addsHistory() {
+        long version = modelManager.getAddressBookVersion();
+        modelManager.addPerson(ALICE);
+        modelManager.commitAddressBook();
+        assertTrue(modelManager.getAddressBookVersion() > version);
+        assertTrue(modelManager.canUndoAddressBook());
+
+        // undo changes the address book too
+        version = modelManager.getAddressBookVersion();
+        modelManager.undoAddressBook();
+        assertTrue(modelManager.getAddressBookVersion() > version);
+    }
+
     @Test
     public void hasUser_emptyUser_returnsFalse() {
         assertFalse(modelManager.hasUser());
@@ -100,11 +128,94 @@ public class ModelManagerTest {
         assertTrue(modelManager.hasPerson(ALICE));
     }
 
+    @Test
+    public void batch_manyChanges_changesListOnceAndRecordsEveryChange() {
+        modelManager.addPerson(ALICE);
+        modelManager.commitAddressBook();
+        int[] listChanges = new int[1];
+        modelManager.getAddressBook().getPersonList()
+                .addListener((ListChangeListener<Person>) change -> listChanges[0]++);
+
+        modelManager.batch(model -> {
+            model.addPerson(BENSON);
+            model.deletePerson(ALICE);
+            model.addUser(ZEPHYR);
+        });
+        assertEquals(Arrays.asList(BENSON), modelManager.getFilteredPersonList());
+        assertTrue(modelManager.hasUser());
+        assertEquals(1, listChanges[0]);
+
+        // the changes of the batch are undone together
+        modelManager.commitAddressBook();
+        modelManager.undoAddressBook();
+        assertEquals(Arrays.asList(ALICE), modelManager.getFilteredPersonList());
+        assertFalse(modelManager.hasUser());
+    }
+
+    @Test
+    public void nextSem_shownPersons_rolledOverInOneChange() throws Exception {
+        Person alice = new PersonBuilder(ALICE).withCurrentModules("CS2103T").withPreviousModules().build();
+        Person benson = new PersonBuilder(BENSON).withCurrentModules("CS2101").build();
+        modelManager.addUser(new UserBuilder(ZEPHYR).withCurrentModules("CS2100").withPreviousModules().build());
+        modelManager.addPerson(alice);
+        modelManager.addPerson(benson);
+        modelManager.commitAddressBook();
+        modelManager.updateFilteredPersonList(new NameContainsKeywordsPredicate(Arrays.asList("alice")));
+
+        int[] listChanges = new int[1];
+        modelManager.getAddressBook().getPersonList()
+                .addListener((ListChangeListener<Person>) change -> listChanges[0]++);
+        modelManager.nextSem();
+        modelManager.commitAddressBook();
+
+        // only the shown person is rolled over, in one change to the list, and every person is shown afterwards
+        Person rolledOverAlice = new PersonBuilder(ALICE).withCurrentModules().withPreviousModules("CS2103T").build();
+        assertEquals(Arrays.asList(rolledOverAlice, benson), modelManager.getFilteredPersonList());
+        User rolledOverUser = new UserBuilder(ZEPHYR).withCurrentModules().withPreviousModules("CS2100").build();
+        assertEquals(rolledOverUser, modelManager.getUser());
+        assertEquals(1, listChanges[0]);
+
+        // one undo reverts the whole rollover
+        modelManager.undoAddressBook();
+        assertEquals(Arrays.asList(alice, benson), modelManager.getFilteredPersonList());
+        assertEquals(1, modelManager.getUser().getCurrModules().size());
+        assertTrue(modelManager.canUndoAddressBook());
+        modelManager.undoAddressBook();
+        assertFalse(modelManager.canUndoAddressBook());
+    }
+
+    @Test
+    public void nextSem_noUser_rollsOverPersonsOnly() throws Exception {
+        modelManager.addPerson(new PersonBuilder(ALICE).withCurrentModules("CS2103T").withPreviousModules().build());
+        modelManager.nextSem();
+        assertFalse(modelManager.hasUser());
+        Person rolledOverAlice = new PersonBuilder(ALICE).withCurrentModules().withPreviousModules("CS2103T").build();
+        assertEquals(Arrays.asList(rolledOverAlice), modelManager.getFilteredPersonList());
+    }
+
     @Test
     public void getFilteredPersonList_modifyList_throwsUnsupportedOperationException() {
         assertThrows(UnsupportedOperationException.class, () -> modelManager.getFilteredPersonList().remove(0));
     }
 
+    @Test
+    public void updateFilteredPersonList_findThenEditPerson_listFollowsNames() {
+        modelManager.addPerson(ALICE);
+        modelManager.addPerson(BENSON);
+        modelManager.updateFilteredPersonList(new NameContainsKeywordsPredicate(Arrays.asList("alice", "PAULINE")));
+        assertEquals(Arrays.asList(ALICE), modelManager.getFilteredPersonList());
+
+        // renamed to match -> shown
+        Person editedBenson = new PersonBuilder(BENSON).withName("Benson Pauline").build();
+        modelManager.setPerson(BENSON, editedBenson);
+        assertEquals(Arrays.asList(ALICE, editedBenson), modelManager.getFilteredPersonList());
+
+        // renamed to no longer match -> hidden
+        Person editedAlice = new PersonBuilder(ALICE).withName("Alison Kurz").build();
+        modelManager.setPerson(ALICE, editedAlice);
+        assertEquals(Arrays.asList(editedBenson), modelManager.getFilteredPersonList());
+    }
+
     @Test
     public void equals() {
         AddressBook addressBook = new AddressBookBuilder().withUser(ZEPHYR)
@@ -0,0 +1,70 @@
+package seedu.address.model;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalLessons.CS2109S_TUTORIAL;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.person.Person;
+import seedu.address.model.person.user.User;
+import seedu.address.testutil.PersonBuilder;
+import seedu.address.testutil.UserBuilder;
+
+public class SemesterRolloverTest {
+
+    @Test
+    public void rollOver_person_currentModulesBecomePrevious() {
+        Person person = new PersonBuilder().withTags("friends").withCurrentModules("CS2103T", "CS2101")
+                .withPreviousModules("CS1101S").withPlannedModules("CS3230").withLessons(CS2109S_TUTORIAL).build();
+        Person expectedPerson = new PersonBuilder().withTags("friends")
+                .withPreviousModules("CS1101S", "CS2103T", "CS2101").withPlannedModules("CS3230").build();
+
+        Person rolledOverPerson = SemesterRollover.rollOver(person);
+        assertEquals(expectedPerson, rolledOverPerson);
+        assertTrue(rolledOverPerson.getLessons().isEmpty());
+
+        // the original person is unchanged
+        assertEquals(2, person.getCurrModules().size());
+        assertEquals(1, person.getLessons().size());
+    }
+
+    @Test
+    public void rollOver_user_currentModulesBecomePrevious() {
+        User user = new UserBuilder().withCurrentModules("CS2103T").withPreviousModules("CS1101S")
+                .withPlannedModules("CS3230").build();
+        User expectedUser = new UserBuilder().withPreviousModules("CS1101S", "CS2103T")
+                .withPlannedModules("CS3230").build();
+        assertEquals(expectedUser, SemesterRollover.rollOver(user));
+    }
+
+    @Test
+    public void rollOver_nullPersons_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> SemesterRollover.rollOver(null, person -> true));
+    }
+
+    @Test
+    public void rollOver_largeList_sameAsOneByOneInOrder() {
+        List<Person> persons = new ArrayList<>();
+        for (int i = 0; i < SemesterRollover.SEQUENTIAL_THRESHOLD * 4; i++) {
+            persons.add(new PersonBuilder().withName("Person " + i).withCurrentModules("CS" + (2000 + i)).build());
+        }
+
+        List<Person> rolledOverPersons = SemesterRollover.rollOver(persons,
+                person -> Integer.parseInt(person.getName().fullName.substring("Person ".length())) % 2 == 0);
+        assertEquals(persons.size(), rolledOverPersons.size());
+        for (int i = 0; i < persons.size(); i++) {
+            if (i % 2 == 0) {
+                assertEquals(SemesterRollover.rollOver(persons.get(i)), rolledOverPersons.get(i));
+            } else {
+                assertSame(persons.get(i), rolledOverPersons.get(i));
+            }
+        }
+    }
+
+}
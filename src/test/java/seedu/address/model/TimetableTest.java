@@ -4,11 +4,13 @@ import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Set;
 
 import org.junit.jupiter.api.Test;
 
 import seedu.address.model.module.Lesson;
+import seedu.address.model.module.LessonSchedule;
 import seedu.address.testutil.TypicalTimetable;
 
 public class TimetableTest {
@@ -54,6 +56,15 @@ public class TimetableTest {
         assertEquals(expectedSunday, timetableToWeek[6]);
     }
 
+    @Test
+    public void toWeekFunctionWithLessonSchedule_sameAsUnsortedLessons() {
+        TypicalTimetable typicalTimetable = new TypicalTimetable();
+        Set<Lesson> unsortedLessons = typicalTimetable.getUnsortedLessonSet();
+        Timetable timetable = new Timetable(new LessonSchedule(unsortedLessons));
+        assertEquals(Arrays.asList(new Timetable(unsortedLessons).toWeek()), Arrays.asList(timetable.toWeek()));
+        assertEquals(typicalTimetable.getSortedLessonList(), timetable.sort());
+    }
+
     @Test
     public void toWeekFunctionWithNoLessons_throwsNullPointerException() {
         Timetable timetable = new Timetable(null);
@@ -0,0 +1,350 @@
+package seedu.address.model;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.logic.commands.CommandTestUtil.VALID_ADDRESS_BOB;
+import static seedu.address.testutil.TypicalLessons.CS2103T_LECTURE;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.BOB;
+import static seedu.address.testutil.TypicalPersons.CARL;
+import static seedu.address.testutil.TypicalPersons.XAVIER;
+import static seedu.address.testutil.TypicalPersons.ZEPHYR;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+
+import javafx.collections.ListChangeListener;
+import seedu.address.commons.core.HistorySettings;
+import seedu.address.model.module.Lesson;
+import seedu.address.model.person.Person;
+import seedu.address.testutil.AddressBookBuilder;
+import seedu.address.testutil.PersonBuilder;
+
+public class VersionedAddressBookTest {
+
+    @Test
+    public void constructor_newAddressBook_cannotUndoOrRedo() {
+        VersionedAddressBook versionedAddressBook = new VersionedAddressBook(getTypicalAddressBook());
+        assertFalse(versionedAddressBook.canUndo());
+        assertFalse(versionedAddressBook.canRedo());
+        assertEquals(getTypicalAddressBook().getPersonList(), versionedAddressBook.getPersonList());
+    }
+
+    @Test
+    public void undoRedo_personChanges_restoresListOrder() {
+        VersionedAddressBook versionedAddressBook = new VersionedAddressBook(
+                new AddressBookBuilder().withPerson(ALICE).withPerson(BENSON).withPerson(CARL).build());
+        List<Person> original = new ArrayList<>(versionedAddressBook.getPersonList());
+
+        versionedAddressBook.removePerson(BENSON);
+        versionedAddressBook.commit();
+        Person editedCarl = new PersonBuilder(CARL).withAddress(VALID_ADDRESS_BOB).build();
+        versionedAddressBook.setPerson(CARL, editedCarl);
+        versionedAddressBook.addPerson(BOB);
+        versionedAddressBook.commit();
+        List<Person> edited = Arrays.asList(ALICE, editedCarl, BOB);
+        assertEquals(edited, versionedAddressBook.getPersonList());
+
+        versionedAddressBook.undo();
+        assertEquals(Arrays.asList(ALICE, CARL), versionedAddressBook.getPersonList());
+        versionedAddressBook.undo();
+        assertEquals(original, versionedAddressBook.getPersonList());
+        assertFalse(versionedAddressBook.canUndo());
+
+        versionedAddressBook.redo();
+        versionedAddressBook.redo();
+        assertEquals(edited, versionedAddressBook.getPersonList());
+        assertFalse(versionedAddressBook.canRedo());
+    }
+
+    @Test
+    public void undoRedo_manyPersonChanges_changesListOnce() {
+        VersionedAddressBook versionedAddressBook = new VersionedAddressBook(
+                new AddressBookBuilder().withPerson(ALICE).withPerson(BENSON).build());
+        versionedAddressBook.addPerson(CARL);
+        versionedAddressBook.setPerson(ALICE, new PersonBuilder(ALICE).withAddress(VALID_ADDRESS_BOB).build());
+        versionedAddressBook.removePerson(BENSON);
+        versionedAddressBook.commit();
+
+        int[] listChanges = new int[1];
+        versionedAddressBook.getPersonList().addListener((ListChangeListener<Person>) change -> listChanges[0]++);
+        versionedAddressBook.undo();
+        assertEquals(Arrays.asList(ALICE, BENSON), versionedAddressBook.getPersonList());
+        assertEquals(1, listChanges[0]);
+
+        versionedAddressBook.redo();
+        assertEquals(2, listChanges[0]);
+    }
+
+    @Test
+    public void undoRedo_oneEdit_replacesOnlyEditedPerson() {
+        VersionedAddressBook versionedAddressBook = new VersionedAddressBook(getTypicalAddressBook());
+        Person editedBenson = new PersonBuilder(BENSON).withAddress(VALID_ADDRESS_BOB).build();
+        versionedAddressBook.setPerson(BENSON, editedBenson);
+        versionedAddressBook.commit();
+
+        List<List<Integer>> listChanges = new ArrayList<>();
+        versionedAddressBook.getPersonList().addListener((ListChangeListener<Person>) change -> {
+            while (change.next()) {
+                listChanges.add(Arrays.asList(change.getFrom(), change.getTo(), change.getRemovedSize()));
+            }
+        });
+        versionedAddressBook.undo();
+        assertEquals(List.of(Arrays.asList(1, 2, 1)), listChanges);
+        assertEquals(BENSON, versionedAddressBook.getPersonList().get(1));
+
+        listChanges.clear();
+        versionedAddressBook.redo();
+        assertEquals(List.of(Arrays.asList(1, 2, 1)), listChanges);
+        assertEquals(editedBenson, versionedAddressBook.getPersonList().get(1));
+    }
+
+    @Test
+    public void undoRedo_addPersonsInBatch_restoresOrder() {
+        VersionedAddressBook versionedAddressBook = new VersionedAddressBook(
+                new AddressBookBuilder().withPerson(ALICE).build());
+        versionedAddressBook.batch(() -> {
+            versionedAddressBook.addPerson(BENSON);
+            versionedAddressBook.addPerson(CARL);
+        });
+        versionedAddressBook.commit();
+        assertEquals(Arrays.asList(ALICE, BENSON, CARL), versionedAddressBook.getPersonList());
+
+        versionedAddressBook.undo();
+        assertEquals(Arrays.asList(ALICE), versionedAddressBook.getPersonList());
+        versionedAddressBook.redo();
+        assertEquals(Arrays.asList(ALICE, BENSON, CARL), versionedAddressBook.getPersonList());
+    }
+
+    @Test
+    public void undoRedo_addThenSetPersonsInBatch_restoresAddedPerson() {
+        VersionedAddressBook versionedAddressBook = new VersionedAddressBook(
+                new AddressBookBuilder().withPerson(ALICE).build());
+        versionedAddressBook.batch(() -> {
+            versionedAddressBook.addPerson(BENSON);
+            versionedAddressBook.setPersons(Arrays.asList(CARL));
+        });
+        versionedAddressBook.commit();
+        assertEquals(Arrays.asList(CARL), versionedAddressBook.getPersonList());
+
+        versionedAddressBook.undo();
+        assertEquals(Arrays.asList(ALICE), versionedAddressBook.getPersonList());
+        versionedAddressBook.redo();
+        assertEquals(Arrays.asList(CARL), versionedAddressBook.getPersonList());
+    }
+
+    @Test
+    public void commit_afterUndo_discardsRedoStatesAndKeepsTrackingChanges() {
+        VersionedAddressBook versionedAddressBook = new VersionedAddressBook(new AddressBook());
+        versionedAddressBook.addPerson(ALICE);
+        versionedAddressBook.commit();
+        versionedAddressBook.undo();
+
+        versionedAddressBook.addPerson(BENSON);
+        versionedAddressBook.commit();
+        assertFalse(versionedAddressBook.canRedo());
+
+        Person editedBenson = new PersonBuilder(BENSON).withAddress(VALID_ADDRESS_BOB).build();
+        versionedAddressBook.setPerson(BENSON, editedBenson);
+        versionedAddressBook.commit();
+        versionedAddressBook.undo();
+        assertEquals(Arrays.asList(BENSON), versionedAddressBook.getPersonList());
+        versionedAddressBook.redo();
+        assertEquals(Arrays.asList(editedBenson), versionedAddressBook.getPersonList());
+    }
+
+    @Test
+    public void undo_uncommittedChanges_discardsThemToo() {
+        VersionedAddressBook versionedAddressBook = new VersionedAddressBook(
+                new AddressBookBuilder().withPerson(ALICE).build());
+        versionedAddressBook.addPerson(BENSON);
+        versionedAddressBook.commit();
+        versionedAddressBook.removePerson(ALICE);
+
+        versionedAddressBook.undo();
+        assertEquals(Arrays.asList(ALICE), versionedAddressBook.getPersonList());
+        versionedAddressBook.redo();
+        assertEquals(Arrays.asList(ALICE, BENSON), versionedAddressBook.getPersonList());
+    }
+
+    @Test
+    public void undoRedo_userLessonChanges_restoresLessons() throws Exception {
+        VersionedAddressBook versionedAddressBook = new VersionedAddressBook(
+                new AddressBookBuilder().withUser(ZEPHYR).build());
+        Set<Lesson> originalLessons = new HashSet<>(versionedAddressBook.getUser().getLessons());
+        versionedAddressBook.addLessonToUser(CS2103T_LECTURE);
+        versionedAddressBook.commit();
+
+        versionedAddressBook.undo();
+        assertEquals(originalLessons, versionedAddressBook.getUser().getLessons());
+        versionedAddressBook.redo();
+        assertTrue(versionedAddressBook.getUser().getLessons().contains(CS2103T_LECTURE));
+    }
+
+    @Test
+    public void undo_userChanges_restoresUser() {
+        VersionedAddressBook versionedAddressBook = new VersionedAddressBook(new AddressBook());
+        versionedAddressBook.addUser(ZEPHYR);
+        versionedAddressBook.commit();
+        versionedAddressBook.setUser(XAVIER);
+        versionedAddressBook.commit();
+
+        versionedAddressBook.undo();
+        assertEquals(ZEPHYR, versionedAddressBook.getUser());
+        versionedAddressBook.undo();
+        assertFalse(versionedAddressBook.hasUser());
+        versionedAddressBook.redo();
+        versionedAddressBook.redo();
+        assertEquals(XAVIER, versionedAddressBook.getUser());
+    }
+
+    @Test
+    public void undo_afterManyRemovals_restoresRemovedPersonsInPlace() {
+        VersionedAddressBook versionedAddressBook = new VersionedAddressBook(new AddressBook());
+        List<Person> persons = new ArrayList<>();
+        for (int i = 0; i < 100; i++) {
+            Person person = new PersonBuilder().withName("Person " + i).build();
+            persons.add(person);
+            versionedAddressBook.addPerson(person);
+        }
+        versionedAddressBook.commit();
+
+        for (int i = 0; i < 90; i++) {
+            versionedAddressBook.removePerson(persons.get(i));
+            versionedAddressBook.commit();
+        }
+        versionedAddressBook.addPerson(ALICE);
+        versionedAddressBook.commit();
+
+        List<Person> expected = new ArrayList<>(persons.subList(90, 100));
+        expected.add(ALICE);
+        assertEquals(expected, versionedAddressBook.getPersonList());
+
+        versionedAddressBook.undo();
+        versionedAddressBook.undo();
+        assertEquals(persons.subList(89, 100), versionedAddressBook.getPersonList());
+        assertTrue(versionedAddressBook.canUndo());
+    }
+
+    @Test
+    public void commit_beyondMaxDepth_dropsOldestStates() {
+        VersionedAddressBook versionedAddressBook = new VersionedAddressBook(new AddressBook(),
+                new HistorySettings(3, Long.MAX_VALUE, null));
+        List<Person> persons = addPersonsOneCommitEach(versionedAddressBook, 5);
+        assertEquals(3, versionedAddressBook.getHistoryStatistics().getStatesInMemory());
+
+        for (int i = 0; i < 3; i++) {
+            versionedAddressBook.undo();
+        }
+        assertFalse(versionedAddressBook.canUndo());
+        assertEquals(persons.subList(0, 2), versionedAddressBook.getPersonList());
+    }
+
+    @Test
+    public void commit_overMemoryBudget_keepsOnlyNewestState() {
+        VersionedAddressBook versionedAddressBook = new VersionedAddressBook(new AddressBook(),
+                new HistorySettings(100, 0, null));
+        List<Person> persons = addPersonsOneCommitEach(versionedAddressBook, 3);
+        HistoryStatistics statistics = versionedAddressBook.getHistoryStatistics();
+        assertEquals(1, statistics.getStatesInMemory());
+        assertTrue(statistics.getEstimatedMemory() > 0);
+
+        versionedAddressBook.undo();
+        assertFalse(versionedAddressBook.canUndo());
+        assertEquals(persons.subList(0, 2), versionedAddressBook.getPersonList());
+    }
+
+    @Test
+    public void undo_statesSpilledToJournal_undoesIntoJournal() throws Exception {
+        VersionedAddressBook versionedAddressBook = new VersionedAddressBook(new AddressBook(),
+                new HistorySettings(100, 0, null));
+        HistoryJournalStub journal = new HistoryJournalStub();
+        versionedAddressBook.setHistoryJournal(journal);
+        List<Person> persons = addPersonsOneCommitEach(versionedAddressBook, 4);
+        assertEquals(new HistoryStatistics(1, versionedAddressBook.getHistoryStatistics().getEstimatedMemory(), 3, 0),
+                versionedAddressBook.getHistoryStatistics());
+
+        while (versionedAddressBook.canUndo()) {
+            versionedAddressBook.undo();
+        }
+        assertTrue(versionedAddressBook.getPersonList().isEmpty());
+        assertEquals(0, journal.size());
+
+        while (versionedAddressBook.canRedo()) {
+            versionedAddressBook.redo();
+        }
+        assertEquals(persons, versionedAddressBook.getPersonList());
+    }
+
+    @Test
+    public void commit_beyondMaxDepthWithJournal_dropsOldestSpilledStates() throws Exception {
+        VersionedAddressBook versionedAddressBook = new VersionedAddressBook(new AddressBook(),
+                new HistorySettings(3, 0, null));
+        HistoryJournalStub journal = new HistoryJournalStub();
+        versionedAddressBook.setHistoryJournal(journal);
+        List<Person> persons = addPersonsOneCommitEach(versionedAddressBook, 5);
+        assertEquals(2, journal.size());
+
+        for (int i = 0; i < 3; i++) {
+            versionedAddressBook.undo();
+        }
+        assertFalse(versionedAddressBook.canUndo());
+        assertEquals(persons.subList(0, 2), versionedAddressBook.getPersonList());
+    }
+
+    private static List<Person> addPersonsOneCommitEach(VersionedAddressBook versionedAddressBook, int count) {
+        List<Person> persons = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            Person person = new PersonBuilder().withName("Person " + i).build();
+            persons.add(person);
+            versionedAddressBook.addPerson(person);
+            versionedAddressBook.commit();
+        }
+        return persons;
+    }
+
+    /**
+     * A {@code HistoryJournal} that keeps its states in memory.
+     */
+    private static class HistoryJournalStub implements HistoryJournal {
+        private final List<List<AddressBookChange>> states = new ArrayList<>();
+
+        @Override
+        public void push(List<AddressBookChange> changes) {
+            states.add(changes);
+        }
+
+        @Override
+        public List<AddressBookChange> pop() {
+            return states.remove(states.size() - 1);
+        }
+
+        @Override
+        public void removeOldest() {
+            states.remove(0);
+        }
+
+        @Override
+        public void clear() {
+            states.clear();
+        }
+
+        @Override
+        public int size() {
+            return states.size();
+        }
+
+        @Override
+        public long getFileSize() {
+            return 0;
+        }
+    }
+}
@@ -0,0 +1,125 @@
+package seedu.address.model.module;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.testutil.LessonBuilder;
+
+public class BusyWeekTest {
+
+    private final Lesson mondayNoon = lesson("1", "12:00", "13:00");
+    private final Lesson sundayEvening = lesson("7", "22:00", "23:55");
+
+    @Test
+    public void of_lessons_slotsTakenUp() {
+        BusyWeek week = BusyWeek.of(List.of(mondayNoon, sundayEvening));
+        assertEquals(12 + 23, week.countBusySlots());
+        assertEquals(12 * BusyWeek.SLOTS_PER_DAY / 24, week.nextBusySlot(0));
+        assertEquals(13 * BusyWeek.SLOTS_PER_DAY / 24, week.nextFreeSlot(week.nextBusySlot(0)));
+        assertEquals(BusyWeek.SLOTS_PER_WEEK - 1, week.nextFreeSlot(BusyWeek.SLOTS_PER_WEEK - 2));
+        assertEquals(BusyWeek.SLOTS_PER_WEEK, week.nextBusySlot(BusyWeek.SLOTS_PER_WEEK - 1));
+
+        // lessons off slot boundaries take up the slots they start and end in
+        assertEquals(3, BusyWeek.of(List.of(lesson("1", "12:04", "12:11"))).countBusySlots());
+        assertEquals(BusyWeek.FREE, BusyWeek.of(List.of()));
+    }
+
+    @Test
+    public void withAndUnion_sameAsOf() {
+        BusyWeek expected = BusyWeek.of(List.of(mondayNoon, sundayEvening));
+        assertEquals(expected, BusyWeek.FREE.with(mondayNoon).with(sundayEvening));
+        assertEquals(expected, BusyWeek.of(List.of(mondayNoon)).union(BusyWeek.of(List.of(sundayEvening))));
+
+        // the weeks combined are left unchanged
+        BusyWeek monday = BusyWeek.of(List.of(mondayNoon));
+        monday.with(sundayEvening);
+        monday.union(expected);
+        assertEquals(BusyWeek.of(List.of(mondayNoon)), monday);
+    }
+
+    @Test
+    public void overlaps() {
+        BusyWeek week = BusyWeek.of(List.of(mondayNoon));
+        assertTrue(week.overlaps(BusyWeek.of(List.of(lesson("1", "12:55", "14:00")))));
+        assertFalse(week.overlaps(BusyWeek.of(List.of(lesson("1", "13:00", "14:00")))));
+        assertFalse(week.overlaps(BusyWeek.of(List.of(lesson("2", "12:00", "13:00")))));
+        assertFalse(week.overlaps(BusyWeek.FREE));
+    }
+
+    @Test
+    public void isFreeDuringAndBetween() {
+        BusyWeek week = BusyWeek.of(List.of(mondayNoon));
+        assertTrue(week.isFreeDuring(lesson("1", "11:00", "12:00")));
+        assertFalse(week.isFreeDuring(lesson("1", "11:00", "12:01")));
+        assertTrue(week.isFreeBetween(2, LocalTime.of(12, 0), LocalTime.of(13, 0)));
+        assertFalse(week.isFreeBetween(1, LocalTime.of(12, 30), LocalTime.of(12, 35)));
+        assertThrows(IllegalArgumentException.class, () -> week.isFreeBetween(8, LocalTime.NOON, LocalTime.NOON));
+    }
+
+    @Test
+    public void findFreeSlots() {
+        BusyWeek week = BusyWeek.of(List.of(mondayNoon, lesson("1", "15:02", "16:00"), sundayEvening));
+        LocalTime from = LocalTime.of(8, 0);
+        LocalTime to = LocalTime.of(23, 0);
+
+        List<FreeSlot> freeSlots = week.findFreeSlots(from, to, 125);
+        assertEquals(new FreeSlot(1, from, LocalTime.NOON), freeSlots.get(0));
+        // the slot a lesson starts in is busy
+        assertEquals(new FreeSlot(1, LocalTime.of(16, 0), to), freeSlots.get(1));
+        assertEquals(new FreeSlot(2, from, to), freeSlots.get(2));
+        assertEquals(new FreeSlot(7, from, LocalTime.of(22, 0)), freeSlots.get(7));
+        assertEquals(8, freeSlots.size());
+
+        // shorter free times are listed when allowed
+        assertEquals(new FreeSlot(1, LocalTime.of(13, 0), LocalTime.of(15, 0)),
+                week.findFreeSlots(from, to, 120).get(1));
+
+        // window rounded inwards to slot boundaries
+        assertEquals(List.of(new FreeSlot(2, LocalTime.of(8, 5), LocalTime.of(8, 10))),
+                week.findFreeSlots(LocalTime.of(8, 1), LocalTime.of(8, 14), 1).subList(1, 2));
+        assertThrows(IllegalArgumentException.class, () -> week.findFreeSlots(from, to, 0));
+    }
+
+    @Test
+    public void unionOf_largeGroup_sameAsUnionOneByOne() {
+        List<Lesson> lessons = new ArrayList<>();
+        for (int i = 0; i < 10 * BusyWeek.SEQUENTIAL_UNION_THRESHOLD; i++) {
+            String startTime = String.format("%02d:%02d", 8 + i % 12, i % 60);
+            String endTime = String.format("%02d:%02d", 9 + i % 12, i % 60);
+            lessons.add(lesson(String.valueOf(1 + i % 7), startTime, endTime));
+        }
+
+        BusyWeek expected = BusyWeek.FREE;
+        for (Lesson lesson : lessons) {
+            expected = expected.union(BusyWeek.of(List.of(lesson)));
+        }
+        assertEquals(expected, BusyWeek.unionOf(lessons, lesson -> BusyWeek.of(List.of(lesson))));
+        assertEquals(BusyWeek.of(lessons.subList(0, 3)),
+                BusyWeek.unionOf(lessons.subList(0, 3), lesson -> BusyWeek.of(List.of(lesson))));
+        assertEquals(BusyWeek.FREE, BusyWeek.unionOf(List.of(), lesson -> BusyWeek.FREE));
+    }
+
+    @Test
+    public void equals() {
+        BusyWeek week = BusyWeek.of(List.of(mondayNoon));
+        assertEquals(week, BusyWeek.of(List.of(lesson("1", "12:00", "13:00"))));
+        assertEquals(week.hashCode(), BusyWeek.of(List.of(lesson("1", "12:00", "13:00"))).hashCode());
+        assertNotEquals(week, BusyWeek.FREE);
+        assertNotEquals(week, null);
+        assertNotEquals(week, mondayNoon);
+    }
+
+    private static Lesson lesson(String day, String startTime, String endTime) {
+        return new LessonBuilder().withDay(day).withStartTime(startTime).withEndTime(endTime).build();
+    }
+
+}
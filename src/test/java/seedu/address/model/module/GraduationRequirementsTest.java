@@ -0,0 +1,94 @@
+package seedu.address.model.module;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.List;
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+
+public class GraduationRequirementsTest {
+
+    private final GraduationRequirements requirements = GraduationRequirements.parse(Arrays.asList(
+            "# comment",
+            "Core: CS2103T cs1101s CS2040S",
+            "",
+            "Theory: CS3230 CS2040S",
+            "Games: CS3241"));
+
+    @Test
+    public void parse_invalidLines_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () -> GraduationRequirements.parse(List.of("Core CS2103T")));
+        assertThrows(IllegalArgumentException.class, () -> GraduationRequirements.parse(List.of(": CS2103T")));
+        assertThrows(IllegalArgumentException.class, () -> GraduationRequirements.parse(List.of("Core:")));
+        assertThrows(IllegalArgumentException.class, () -> GraduationRequirements.parse(List.of("Core: CS21")));
+    }
+
+    @Test
+    public void parse_validLines_requirementsInOrder() {
+        List<Requirement> parsed = requirements.getRequirements();
+        assertEquals(3, parsed.size());
+        assertEquals("Core", parsed.get(0).getName());
+        assertEquals(Arrays.asList("CS1101S", "CS2040S", "CS2103T"),
+                requirements.toModuleCodes(parsed.get(0).getModules()));
+        assertEquals("Games", parsed.get(2).getName());
+    }
+
+    @Test
+    public void toModuleIds_modulesOfNoRequirement_leftOut() {
+        BitSet ids = requirements.toModuleIds(Set.of(new CurrentModule("CS2040S"), new PreviousModule("CS3230"),
+                new PreviousModule("MA1521")));
+        assertEquals(Arrays.asList("CS2040S", "CS3230"), requirements.toModuleCodes(ids));
+    }
+
+    @Test
+    public void findModulesLeft() {
+        Requirement core = requirements.getRequirements().get(0);
+        BitSet cleared = requirements.toModuleIds(Set.of(new PreviousModule("CS1101S"), new PreviousModule("CS3241")));
+        assertEquals(Arrays.asList("CS2040S", "CS2103T"), requirements.toModuleCodes(core.findModulesLeft(cleared)));
+        assertEquals(2, core.countModulesLeft(cleared));
+
+        // the requirement itself is unchanged
+        assertEquals(3, core.getModules().cardinality());
+    }
+
+    @Test
+    public void findClosestToClearing() {
+        List<Requirement> parsed = requirements.getRequirements();
+
+        // ties go to the first requirement
+        assertEquals(parsed.get(2), requirements.findClosestToClearing(new BitSet()).get());
+        BitSet cleared = requirements.toModuleIds(Set.of(new PreviousModule("CS2040S")));
+        assertEquals(parsed.get(1), requirements.findClosestToClearing(cleared).get());
+
+        // cleared requirements are skipped
+        cleared = requirements.toModuleIds(Set.of(new PreviousModule("CS2040S"), new PreviousModule("CS3241")));
+        assertEquals(parsed.get(1), requirements.findClosestToClearing(cleared).get());
+
+        // every requirement cleared
+        cleared = requirements.toModuleIds(Set.of(new PreviousModule("CS1101S"), new PreviousModule("CS2040S"),
+                new PreviousModule("CS2103T"), new PreviousModule("CS3230"), new PreviousModule("CS3241")));
+        assertTrue(requirements.findClosestToClearing(cleared).isEmpty());
+    }
+
+    @Test
+    public void getDefault_readOnce_hasCoreModulesAndTenFocusAreas() {
+        GraduationRequirements defaultRequirements = GraduationRequirements.getDefault();
+        assertSame(defaultRequirements, GraduationRequirements.getDefault());
+        assertEquals(11, defaultRequirements.getRequirements().size());
+        assertEquals("Core Modules", defaultRequirements.getRequirements().get(0).getName());
+        assertEquals("Software Engineering", defaultRequirements.getRequirements().get(10).getName());
+    }
+
+    @Test
+    public void readResource_missingResource_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () ->
+                GraduationRequirements.readResource("/requirements/missing.txt"));
+    }
+
+}
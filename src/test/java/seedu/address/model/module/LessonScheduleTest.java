@@ -0,0 +1,107 @@
+package seedu.address.model.module;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.testutil.LessonBuilder;
+
+public class LessonScheduleTest {
+
+    private final Lesson mondayNoon = new LessonBuilder().withDay("1").withStartTime("12:00").withEndTime("13:00")
+            .build();
+    private final Lesson mondayMorning = new LessonBuilder().withType("lec").withDay("1").withStartTime("09:00")
+            .withEndTime("11:00").build();
+    private final Lesson fridayNoon = new LessonBuilder().withDay("5").withStartTime("12:00").withEndTime("13:00")
+            .build();
+
+    @Test
+    public void findClash() {
+        LessonSchedule schedule = new LessonSchedule(List.of(mondayNoon, mondayMorning));
+
+        // touching lessons do not clash
+        assertEquals(Optional.empty(), schedule.findClash(lesson("1", "11:00", "12:00")));
+        assertEquals(Optional.empty(), schedule.findClash(lesson("1", "13:00", "14:00")));
+        assertEquals(Optional.empty(), schedule.findClash(lesson("2", "12:00", "13:00")));
+
+        // starting during, ending during, inside or around an existing lesson
+        assertEquals(Optional.of(mondayNoon), schedule.findClash(lesson("1", "12:30", "14:00")));
+        assertEquals(Optional.of(mondayNoon), schedule.findClash(lesson("1", "11:30", "12:30")));
+        assertEquals(Optional.of(mondayNoon), schedule.findClash(lesson("1", "12:15", "12:45")));
+        assertEquals(Optional.of(mondayMorning), schedule.findClash(lesson("1", "08:00", "11:30")));
+        assertEquals(Optional.of(mondayNoon), schedule.findClash(mondayNoon));
+    }
+
+    @Test
+    public void add_clashingLesson_throwsIllegalArgumentException() {
+        LessonSchedule schedule = new LessonSchedule(List.of(mondayNoon));
+        assertThrows(IllegalArgumentException.class, String.format(LessonSchedule.MESSAGE_SAME_TIME, mondayNoon), () ->
+                schedule.add(lesson("1", "12:00", "12:30")));
+        assertThrows(IllegalArgumentException.class, String.format(LessonSchedule.MESSAGE_OVERLAP, mondayNoon), () ->
+                schedule.add(lesson("1", "11:30", "12:30")));
+        assertEquals(1, schedule.size());
+    }
+
+    @Test
+    public void iterator_lessonsInChronologicalOrder() {
+        LessonSchedule schedule = new LessonSchedule(Set.of(fridayNoon, mondayNoon, mondayMorning));
+        assertEquals(List.of(mondayMorning, mondayNoon, fridayNoon), new ArrayList<>(schedule));
+        assertEquals(List.of(mondayMorning, mondayNoon), new ArrayList<>(schedule.getLessonsOn(1)));
+        assertTrue(schedule.getLessonsOn(7).isEmpty());
+
+        Iterator<Lesson> iterator = schedule.iterator();
+        iterator.next();
+        iterator.next();
+        iterator.remove();
+        assertEquals(List.of(mondayMorning, fridayNoon), new ArrayList<>(schedule));
+    }
+
+    @Test
+    public void containsAndRemove_matchWholeLesson() {
+        LessonSchedule schedule = new LessonSchedule(List.of(mondayNoon));
+        Lesson sameTimeOtherType = new LessonBuilder().withType("lab").withDay("1").withStartTime("12:00")
+                .withEndTime("13:00").build();
+
+        assertTrue(schedule.contains(lesson("1", "12:00", "13:00")));
+        assertFalse(schedule.contains(sameTimeOtherType));
+        assertFalse(schedule.remove(sameTimeOtherType));
+        assertTrue(schedule.remove(mondayNoon));
+        assertTrue(schedule.isEmpty());
+    }
+
+    @Test
+    public void equals_sameLessonsAsOtherSets() {
+        LessonSchedule schedule = new LessonSchedule(List.of(mondayNoon, fridayNoon));
+        assertEquals(new HashSet<>(List.of(fridayNoon, mondayNoon)), schedule);
+        assertEquals(schedule, new HashSet<>(List.of(fridayNoon, mondayNoon)));
+        assertEquals(new HashSet<>(List.of(fridayNoon, mondayNoon)).hashCode(), schedule.hashCode());
+    }
+
+    @Test
+    public void unmodifiableView_modify_throwsUnsupportedOperationException() {
+        LessonSchedule schedule = new LessonSchedule(List.of(mondayNoon));
+        LessonSchedule view = schedule.unmodifiableView();
+        assertThrows(UnsupportedOperationException.class, () -> view.add(fridayNoon));
+        assertThrows(UnsupportedOperationException.class, () -> view.remove(mondayNoon));
+        assertThrows(UnsupportedOperationException.class, view::clear);
+
+        // changes to the schedule show through the view
+        schedule.add(fridayNoon);
+        assertEquals(List.of(mondayNoon, fridayNoon), new ArrayList<>(view));
+    }
+
+    private static Lesson lesson(String day, String startTime, String endTime) {
+        return new LessonBuilder().withDay(day).withStartTime(startTime).withEndTime(endTime).build();
+    }
+
+}
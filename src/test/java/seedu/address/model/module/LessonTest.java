@@ -2,6 +2,7 @@ package seedu.address.model.module;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.testutil.Assert.assertThrows;
 
@@ -92,6 +93,29 @@ public class LessonTest {
 
         // different types -> returns false
         assertFalse(standardLesson.equals(new Tag("friends")));
+
+        // different lesson type, module, day or times -> returns false
+        assertFalse(standardLesson.equals(new LessonBuilder().withType("lab").build()));
+        assertFalse(standardLesson.equals(new LessonBuilder().withModule("CS2101").build()));
+        assertFalse(standardLesson.equals(new LessonBuilder().withDay("5").build()));
+        assertFalse(standardLesson.equals(new LessonBuilder().withStartTime("14:30").build()));
+        assertFalse(standardLesson.equals(new LessonBuilder().withEndTime("16:00").build()));
+    }
+
+    @Test
+    public void hashCode_equalLessons_sameHashCode() {
+        assertEquals(new LessonBuilder().build().hashCode(), new LessonBuilder().build().hashCode());
+
+        // lessons of the same module at different times
+        assertNotEquals(new LessonBuilder().withDay("1").build().hashCode(),
+                new LessonBuilder().withDay("2").build().hashCode());
+    }
+
+    @Test
+    public void getStartMinuteAndEndMinute() {
+        Lesson lesson = new LessonBuilder().withStartTime("09:05").withEndTime("23:59").build();
+        assertEquals(545, lesson.getStartMinute());
+        assertEquals(1439, lesson.getEndMinute());
     }
 
     @Test
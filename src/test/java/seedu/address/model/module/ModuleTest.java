@@ -1,6 +1,9 @@
 package seedu.address.model.module;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.testutil.Assert.assertThrows;
 
@@ -21,6 +24,27 @@ public class ModuleTest {
         assertThrows(IllegalArgumentException.class, () -> new Module(invalidModule));
     }
 
+    @Test
+    public void of_invalidModule_throwsIllegalArgumentException() {
+        assertThrows(NullPointerException.class, () -> Module.of(null));
+        assertThrows(IllegalArgumentException.class, () -> Module.of("_"));
+    }
+
+    @Test
+    public void of_sameModule_sameInstance() {
+        Module module = Module.of("CS2103T");
+        assertSame(module, Module.of("CS2103T"));
+        assertSame(module, Module.of("cs2103t"));
+        assertEquals(new Module("CS2103T"), module);
+        assertNotSame(module, Module.of("CS2101"));
+
+        // each kind of module has instances of its own
+        assertSame(CurrentModule.class, CurrentModule.of("CS2103T").getClass());
+        assertSame(PreviousModule.class, PreviousModule.of("CS2103T").getClass());
+        assertSame(PlannedModule.class, PlannedModule.of("CS2103T").getClass());
+        assertSame(PreviousModule.of("CS2103T"), CurrentModule.of("cs2103T").toPrevModule());
+    }
+
     @Test
     public void isValidModule() {
         // null module
@@ -0,0 +1,100 @@
+package seedu.address.model.module;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.Test;
+
+public class RequirementProgressTest {
+
+    private final GraduationRequirements requirements = GraduationRequirements.parse(Arrays.asList(
+            "Core: CS1101S CS2040S CS2103T",
+            "Theory: CS2040S CS3230",
+            "Games: CS3241"));
+
+    @Test
+    public void of_nullArguments_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> RequirementProgress.of(null, List.of(), this::toModuleIds));
+        assertThrows(NullPointerException.class, () -> RequirementProgress.of(requirements, null, this::toModuleIds));
+        assertThrows(NullPointerException.class, () -> RequirementProgress.of(requirements, List.of(), null));
+    }
+
+    @Test
+    public void of_fewMembers_countsClearedAndOutstanding() {
+        RequirementProgress progress = RequirementProgress.of(requirements, Arrays.asList(
+                Set.of("CS1101S", "CS2040S", "CS2103T"),
+                Set.of("CS2040S", "CS3241"),
+                Set.of("CS2040S", "CS3230", "CS3241")), this::toModuleIds);
+
+        assertEquals(3, progress.getMemberCount());
+        assertEquals(1, progress.countCleared(0));
+        assertEquals(1, progress.countCleared(1));
+        assertEquals(2, progress.countCleared(2));
+
+        // only members who have not cleared a requirement are counted
+        assertEquals(2, progress.countOutstanding(0, "CS1101S"));
+        assertEquals(0, progress.countOutstanding(0, "CS2040S"));
+        assertEquals(2, progress.countOutstanding(1, "cs3230"));
+        assertEquals(0, progress.countOutstanding(1, "CS2040S"));
+
+        // modules not needed by the requirement
+        assertEquals(0, progress.countOutstanding(2, "CS3230"));
+        assertEquals(0, progress.countOutstanding(2, "MA1521"));
+    }
+
+    @Test
+    public void findMostOutstanding_mostFirstThenAlphabetical() {
+        RequirementProgress progress = RequirementProgress.of(requirements, Arrays.asList(
+                Set.of("CS1101S"),
+                Set.of("CS2103T"),
+                Set.of("CS2040S", "CS2103T"),
+                Set.of("CS1101S", "CS2040S", "CS2103T", "CS3230", "CS3241")), this::toModuleIds);
+
+        assertEquals(Arrays.asList("CS1101S", "CS2040S", "CS2103T"), progress.findMostOutstanding(0, 3));
+        assertEquals(List.of("CS1101S"), progress.findMostOutstanding(0, 1));
+        assertEquals(Arrays.asList("CS3230", "CS2040S"), progress.findMostOutstanding(1, 3));
+
+        // modules every member has cleared are left out
+        assertEquals(List.of("CS3241"), progress.findMostOutstanding(2, 3));
+        assertTrue(RequirementProgress.of(requirements, List.of(Set.of("CS3241")), this::toModuleIds)
+                .findMostOutstanding(2, 3).isEmpty());
+    }
+
+    @Test
+    public void of_largeGroup_sameAsSmallGroupsAddedUp() {
+        List<String> codes = Arrays.asList("CS1101S", "CS2040S", "CS2103T", "CS3230", "CS3241");
+        List<Set<String>> members = new ArrayList<>();
+        for (int i = 0; i < RequirementProgress.SEQUENTIAL_THRESHOLD * 4 + 3; i++) {
+            int memberNumber = i;
+            members.add(codes.stream().filter(code -> (memberNumber >> codes.indexOf(code)) % 2 == 1)
+                    .collect(Collectors.toSet()));
+        }
+
+        RequirementProgress progress = RequirementProgress.of(requirements, members, this::toModuleIds);
+        assertEquals(members.size(), progress.getMemberCount());
+        for (int i = 0; i < requirements.getRequirements().size(); i++) {
+            int expectedCleared = 0;
+            for (Set<String> member : members) {
+                RequirementProgress memberProgress = RequirementProgress.of(requirements, List.of(member),
+                        this::toModuleIds);
+                expectedCleared += memberProgress.countCleared(i);
+            }
+            assertEquals(expectedCleared, progress.countCleared(i));
+        }
+        // every combination of the 5 modules 32 times, half without CS2103T, then 3 more without it
+        assertEquals(32 * 16 + 3, progress.countOutstanding(0, "CS2103T"));
+    }
+
+    private BitSet toModuleIds(Set<String> codes) {
+        return requirements.toModuleIds(codes.stream().map(PreviousModule::new).collect(Collectors.toList()));
+    }
+
+}
@@ -2,6 +2,7 @@ package seedu.address.model.person;
 
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
 
 import java.util.Arrays;
 import java.util.Collections;
@@ -38,6 +39,28 @@ public class NameContainsKeywordsPredicateTest {
         assertFalse(firstPredicate.equals(secondPredicate));
     }
 
+    @Test
+    public void constructor_invalidKeyword_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () -> new NameContainsKeywordsPredicate(List.of("Alice", " ")));
+        assertThrows(IllegalArgumentException.class, () -> new NameContainsKeywordsPredicate(List.of("Alice Bob")));
+        assertThrows(IllegalArgumentException.class, () -> new NameContainsKeywordsPredicate(List.of("~")));
+    }
+
+    @Test
+    public void test_nameNearFuzzyKeywords_returnsTrue() {
+        // One edit away
+        NameContainsKeywordsPredicate predicate = new NameContainsKeywordsPredicate(List.of("~alise"));
+        assertTrue(predicate.test(new PersonBuilder().withName("Alice Bob").build()));
+
+        // Two edits away from a long keyword
+        predicate = new NameContainsKeywordsPredicate(List.of("~bbo", "~Alicia"));
+        assertTrue(predicate.test(new PersonBuilder().withName("Alice Bob").build()));
+
+        // Two edits away from a short keyword
+        predicate = new NameContainsKeywordsPredicate(List.of("~bxx"));
+        assertFalse(predicate.test(new PersonBuilder().withName("Alice Bob").build()));
+    }
+
     @Test
     public void test_nameContainsKeywords_returnsTrue() {
         // One keyword
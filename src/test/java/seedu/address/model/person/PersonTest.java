@@ -18,11 +18,13 @@ import static seedu.address.testutil.Assert.assertThrows;
 import static seedu.address.testutil.TypicalPersons.ALICE;
 import static seedu.address.testutil.TypicalPersons.BOB;
 
+import java.util.List;
 import java.util.Set;
 
 import org.junit.jupiter.api.Test;
 
 import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.model.module.BusyWeek;
 import seedu.address.model.module.Lesson;
 import seedu.address.testutil.LessonBuilder;
 import seedu.address.testutil.PersonBuilder;
@@ -85,6 +87,26 @@ public class PersonTest {
 
     }
 
+    @Test
+    public void withDetailsLoadedOnDemand_detailsNeeded_loadsOnce() {
+        int[] loadCount = {0};
+        Person person = Person.withDetailsLoadedOnDemand(ALICE.getName(), () -> {
+            loadCount[0]++;
+            return new PersonBuilder(ALICE).build();
+        });
+
+        // name only -> not loaded
+        assertTrue(person.isSamePerson(ALICE));
+        assertTrue(person.getPendingDetailsLoader().isPresent());
+        assertEquals(Integer.valueOf(0), Integer.valueOf(loadCount[0]));
+
+        // details -> loaded once
+        assertEquals(ALICE, person);
+        assertEquals(ALICE.getTags(), person.getTags());
+        assertFalse(person.getPendingDetailsLoader().isPresent());
+        assertEquals(Integer.valueOf(1), Integer.valueOf(loadCount[0]));
+    }
+
     @Test
     public void differentConstructor_samePerson_returnsTrue() {
         assertTrue(ALICE.isSamePerson(new Person(ALICE)));
@@ -288,4 +310,21 @@ public class PersonTest {
         assertEquals(expectedNumberOfLessons, lessonsAddedToSamplePerson.size());
     }
 
+    @Test
+    public void getBusyWeek_lessonsChanged_followsLessons() throws CommandException {
+        Person samplePerson = new PersonBuilder().build();
+        assertEquals(BusyWeek.FREE, samplePerson.getBusyWeek());
+
+        samplePerson.addLesson(existingLesson);
+        assertEquals(BusyWeek.of(List.of(existingLesson)), samplePerson.getBusyWeek());
+        samplePerson.addLesson(lesson7);
+        assertEquals(BusyWeek.of(List.of(existingLesson, lesson7)), samplePerson.getBusyWeek());
+
+        // copies keep the busy week until their lessons change
+        Person copy = new Person(samplePerson);
+        copy.removeLesson(lesson7);
+        assertEquals(BusyWeek.of(List.of(existingLesson)), copy.getBusyWeek());
+        assertEquals(BusyWeek.of(List.of(existingLesson, lesson7)), samplePerson.getBusyWeek());
+    }
+
 }
@@ -15,12 +15,15 @@ import static seedu.address.testutil.TypicalPersons.DANIEL;
 import static seedu.address.testutil.TypicalPersons.ELLE;
 import static seedu.address.testutil.TypicalPersons.FIONA;
 
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
+import java.util.Random;
 
 import org.junit.jupiter.api.Test;
 
+import javafx.collections.ListChangeListener;
 import seedu.address.model.person.exceptions.DuplicatePersonException;
 import seedu.address.model.person.exceptions.PersonNotFoundException;
 import seedu.address.testutil.PersonBuilder;
@@ -64,6 +67,16 @@ public class UniquePersonListTest {
         assertThrows(DuplicatePersonException.class, () -> uniquePersonList.add(ALICE));
     }
 
+    @Test
+    public void add_atIndex_insertsPersonAndKeepsLaterPersonsReachable() {
+        uniquePersonList.add(ALICE);
+        uniquePersonList.add(CARL);
+        uniquePersonList.add(1, BENSON);
+        assertEquals(Arrays.asList(ALICE, BENSON, CARL), uniquePersonList.asUnmodifiableObservableList());
+        assertEquals(2, uniquePersonList.indexOf(CARL));
+        assertThrows(DuplicatePersonException.class, () -> uniquePersonList.add(0, CARL));
+    }
+
     @Test
     public void setPerson_nullTargetPerson_throwsNullPointerException() {
         assertThrows(NullPointerException.class, () -> uniquePersonList.setPerson(null, ALICE));
@@ -108,6 +121,23 @@ public class UniquePersonListTest {
         assertEquals(expectedUniquePersonList, uniquePersonList);
     }
 
+    @Test
+    public void setPerson_editedPersonHasDifferentIdentity_updatesIdentityLookup() {
+        uniquePersonList.add(ALICE);
+        uniquePersonList.setPerson(ALICE, BOB);
+        assertFalse(uniquePersonList.contains(ALICE));
+        assertTrue(uniquePersonList.contains(BOB));
+        uniquePersonList.add(ALICE);
+        assertEquals(Arrays.asList(BOB, ALICE), uniquePersonList.asUnmodifiableObservableList());
+    }
+
+    @Test
+    public void setPerson_targetWithSameIdentityButDifferentFields_throwsPersonNotFoundException() {
+        uniquePersonList.add(ALICE);
+        Person editedAlice = new PersonBuilder(ALICE).withAddress(VALID_ADDRESS_BOB).build();
+        assertThrows(PersonNotFoundException.class, () -> uniquePersonList.setPerson(editedAlice, BOB));
+    }
+
     @Test
     public void setPerson_editedPersonHasNonUniqueIdentity_throwsDuplicatePersonException() {
         uniquePersonList.add(ALICE);
@@ -133,6 +163,28 @@ public class UniquePersonListTest {
         assertEquals(expectedUniquePersonList, uniquePersonList);
     }
 
+    @Test
+    public void remove_personInMiddle_keepsLaterPersonsReachable() {
+        uniquePersonList.add(ALICE);
+        uniquePersonList.add(BENSON);
+        uniquePersonList.add(CARL);
+        uniquePersonList.remove(BENSON);
+        assertFalse(uniquePersonList.contains(BENSON));
+
+        Person editedCarl = new PersonBuilder(CARL).withAddress(VALID_ADDRESS_BOB).build();
+        uniquePersonList.setPerson(CARL, editedCarl);
+        uniquePersonList.remove(ALICE);
+        assertEquals(Collections.singletonList(editedCarl), uniquePersonList.asUnmodifiableObservableList());
+    }
+
+    @Test
+    public void remove_personWithSameIdentityButDifferentFields_throwsPersonNotFoundException() {
+        uniquePersonList.add(ALICE);
+        Person editedAlice = new PersonBuilder(ALICE).withAddress(VALID_ADDRESS_BOB).build();
+        assertThrows(PersonNotFoundException.class, () -> uniquePersonList.remove(editedAlice));
+        assertTrue(uniquePersonList.contains(ALICE));
+    }
+
     @Test
     public void setPersons_nullUniquePersonList_throwsNullPointerException() {
         assertThrows(NullPointerException.class, () -> uniquePersonList.setPersons((UniquePersonList) null));
@@ -168,6 +220,135 @@ public class UniquePersonListTest {
         assertThrows(DuplicatePersonException.class, () -> uniquePersonList.setPersons(listWithDuplicatePersons));
     }
 
+    @Test
+    public void setPersons_listWithDuplicatePersons_reportsEveryDuplicateNameOnce() {
+        uniquePersonList.add(CARL);
+        List<Person> listWithDuplicatePersons = Arrays.asList(ALICE, BOB, ALICE, BENSON, BOB, ALICE);
+        String expectedMessage = "Operation would result in duplicate persons: "
+                + ALICE.getName() + ", " + BOB.getName();
+        assertThrows(DuplicatePersonException.class, expectedMessage, ()
+            -> uniquePersonList.setPersons(listWithDuplicatePersons));
+
+        // list is left unchanged
+        assertEquals(Collections.singletonList(CARL), uniquePersonList.asUnmodifiableObservableList());
+        assertTrue(uniquePersonList.contains(CARL));
+        assertFalse(uniquePersonList.contains(ALICE));
+    }
+
+    @Test
+    public void endBatch_changesInBatch_publishedInOneChange() {
+        uniquePersonList.add(ALICE);
+        int[] listChanges = new int[1];
+        uniquePersonList.asUnmodifiableObservableList()
+                .addListener((ListChangeListener<Person>) change -> listChanges[0]++);
+
+        uniquePersonList.beginBatch();
+        uniquePersonList.add(BOB);
+        uniquePersonList.add(0, CARL);
+        Person editedAlice = new PersonBuilder(ALICE).withAddress(VALID_ADDRESS_BOB).build();
+        uniquePersonList.setPersons(List.of(CARL, ALICE, BOB));
+        uniquePersonList.setPerson(ALICE, editedAlice);
+        uniquePersonList.remove(BOB);
+
+        // the list and its indexes are up to date within the batch, but its listeners are not told yet
+        assertTrue(uniquePersonList.contains(editedAlice));
+        assertEquals(1, uniquePersonList.indexOf(editedAlice));
+        assertFalse(uniquePersonList.contains(BOB));
+        assertEquals(Collections.singletonList(ALICE), uniquePersonList.asUnmodifiableObservableList());
+        assertEquals(0, listChanges[0]);
+
+        uniquePersonList.endBatch();
+        assertEquals(Arrays.asList(CARL, editedAlice), uniquePersonList.asUnmodifiableObservableList());
+        assertEquals(1, listChanges[0]);
+    }
+
+    @Test
+    public void endBatch_nestedBatches_publishedByOutermostBatch() {
+        int[] listChanges = new int[1];
+        uniquePersonList.asUnmodifiableObservableList()
+                .addListener((ListChangeListener<Person>) change -> listChanges[0]++);
+
+        uniquePersonList.beginBatch();
+        uniquePersonList.beginBatch();
+        uniquePersonList.add(ALICE);
+        uniquePersonList.endBatch();
+        uniquePersonList.add(BOB);
+        assertEquals(0, listChanges[0]);
+        uniquePersonList.endBatch();
+        assertEquals(Arrays.asList(ALICE, BOB), uniquePersonList.asUnmodifiableObservableList());
+        assertEquals(1, listChanges[0]);
+
+        // an unchanged batch publishes nothing, and the list is published as usual after a batch
+        uniquePersonList.beginBatch();
+        uniquePersonList.endBatch();
+        assertEquals(1, listChanges[0]);
+        uniquePersonList.remove(BOB);
+        assertEquals(2, listChanges[0]);
+    }
+
+    @Test
+    public void endBatch_changesInMiddle_onlyChangedRangeReplaced() {
+        uniquePersonList.setPersons(Arrays.asList(ALICE, BENSON, CARL, DANIEL, ELLE));
+        List<Integer> changedRange = new ArrayList<>();
+        uniquePersonList.asUnmodifiableObservableList().addListener((ListChangeListener<Person>) change -> {
+            while (change.next()) {
+                changedRange.addAll(Arrays.asList(change.getFrom(), change.getTo(), change.getRemovedSize()));
+            }
+        });
+
+        // one person edited -> that person alone is replaced
+        Person editedCarl = new PersonBuilder(CARL).withAddress(VALID_ADDRESS_BOB).build();
+        uniquePersonList.beginBatch();
+        uniquePersonList.setPerson(CARL, editedCarl);
+        uniquePersonList.endBatch();
+        assertEquals(Arrays.asList(2, 3, 1), changedRange);
+
+        // persons around the changes keep their places
+        changedRange.clear();
+        uniquePersonList.beginBatch();
+        uniquePersonList.remove(BENSON);
+        uniquePersonList.add(2, FIONA);
+        uniquePersonList.endBatch();
+        assertEquals(Arrays.asList(ALICE, editedCarl, FIONA, DANIEL, ELLE),
+                uniquePersonList.asUnmodifiableObservableList());
+        assertEquals(Arrays.asList(1, 1, 2, 1, 3, 0), changedRange);
+    }
+
+    @Test
+    public void endBatch_randomChanges_observableListSameAsList() {
+        List<Person> allPersons = new ArrayList<>();
+        for (int i = 0; i < 20; i++) {
+            allPersons.add(new PersonBuilder().withName("Person " + i).build());
+        }
+        Random random = new Random(0);
+        for (int round = 0; round < 200; round++) {
+            uniquePersonList.beginBatch();
+            for (int change = random.nextInt(4); change >= 0; change--) {
+                Person person = allPersons.get(random.nextInt(allPersons.size()));
+                List<Person> current = uniquePersonList.asUnmodifiableCurrentList();
+                if (uniquePersonList.contains(person)) {
+                    person = current.stream().filter(person::isSamePerson).findFirst().get();
+                    if (random.nextBoolean()) {
+                        uniquePersonList.remove(person);
+                    } else {
+                        uniquePersonList.setPerson(person, new PersonBuilder(person).withAddress("Street " + round)
+                                .build());
+                    }
+                } else {
+                    uniquePersonList.add(random.nextInt(current.size() + 1), person);
+                }
+            }
+            uniquePersonList.endBatch();
+            assertEquals(uniquePersonList.asUnmodifiableCurrentList(),
+                    uniquePersonList.asUnmodifiableObservableList());
+        }
+    }
+
+    @Test
+    public void endBatch_noBatch_throwsIllegalStateException() {
+        assertThrows(IllegalStateException.class, uniquePersonList::endBatch);
+    }
+
     @Test
     public void asUnmodifiableObservableList_modifyList_throwsUnsupportedOperationException() {
         assertThrows(UnsupportedOperationException.class, ()
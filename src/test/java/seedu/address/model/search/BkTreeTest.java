@@ -0,0 +1,62 @@
+package seedu.address.model.search;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.commons.util.StringUtil;
+
+public class BkTreeTest {
+
+    private final BkTree bkTree = new BkTree();
+
+    @Test
+    public void search_emptyTree_noWords() {
+        assertEquals(List.of(), bkTree.search("alice", 2));
+    }
+
+    @Test
+    public void search_wordsWithinDistance() {
+        List.of("alice", "alise", "alicia", "bob", "alice").forEach(bkTree::add);
+
+        assertEquals(Set.of("alice", "alise"), new HashSet<>(bkTree.search("alice", 1)));
+        assertEquals(Set.of("alice", "alise", "alicia"), new HashSet<>(bkTree.search("alice", 2)));
+        assertEquals(List.of("bob"), bkTree.search("bob", 0));
+
+        bkTree.clear();
+        assertEquals(List.of(), bkTree.search("bob", 0));
+    }
+
+    @Test
+    public void search_randomWords_sameAsEveryWordMeasured() {
+        Random random = new Random(1);
+        List<String> words = new ArrayList<>();
+        for (int i = 0; i < 500; i++) {
+            StringBuilder word = new StringBuilder();
+            for (int length = 1 + random.nextInt(6); length > 0; length--) {
+                word.append((char) ('a' + random.nextInt(4)));
+            }
+            words.add(word.toString());
+            bkTree.add(word.toString());
+        }
+
+        for (String query : List.of("abc", "dddd", "a", "abcdab")) {
+            for (int maxDistance = 0; maxDistance <= 2; maxDistance++) {
+                Set<String> expected = new HashSet<>();
+                for (String word : words) {
+                    if (StringUtil.editDistanceIgnoreCase(query, word) <= maxDistance) {
+                        expected.add(word);
+                    }
+                }
+                assertEquals(expected, new HashSet<>(bkTree.search(query, maxDistance)));
+            }
+        }
+    }
+
+}
@@ -0,0 +1,79 @@
+package seedu.address.model.search;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Predicate;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.person.Person;
+import seedu.address.testutil.PersonBuilder;
+
+public class ModuleIndexTest {
+
+    private static final Person AMY = new PersonBuilder().withName("Amy Bee").withCurrentModules("CS2103T", "CS2101")
+            .build();
+    private static final Person BOB = new PersonBuilder().withName("Bob Choo").withCurrentModules("CS2101").build();
+
+    private final List<Person> persons = new ArrayList<>();
+    private final ModuleIndex moduleIndex = new ModuleIndex(persons, Person::getCurrModules);
+
+    @Test
+    public void matcherFor_nullKeywords_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> moduleIndex.matcherFor(null));
+    }
+
+    @Test
+    public void matcherFor_anyCodeIgnoringCase() {
+        persons.add(AMY);
+        persons.add(BOB);
+
+        Predicate<Person> matcher = moduleIndex.matcherFor("cs2103t");
+        assertTrue(matcher.test(AMY));
+        assertFalse(matcher.test(BOB));
+
+        matcher = moduleIndex.matcherFor(" CS2103T   cs2101 ");
+        assertTrue(matcher.test(AMY));
+        assertTrue(matcher.test(BOB));
+
+        // part of a code -> no match
+        assertFalse(moduleIndex.matcherFor("CS210").test(BOB));
+    }
+
+    @Test
+    public void matcherFor_notLoaded_loadsOnlyWhenSearched() {
+        Person lazyAmy = Person.withDetailsLoadedOnDemand(AMY.getName(), () -> new PersonBuilder(AMY).build());
+        persons.add(lazyAmy);
+        moduleIndex.add(lazyAmy);
+        Predicate<Person> matcher = moduleIndex.matcherFor("CS2101");
+        assertTrue(lazyAmy.getPendingDetailsLoader().isPresent());
+
+        assertTrue(matcher.test(lazyAmy));
+        assertFalse(lazyAmy.getPendingDetailsLoader().isPresent());
+    }
+
+    @Test
+    public void addAndRemove_afterBuilt_keptInStep() {
+        persons.add(AMY);
+        Predicate<Person> matcher = moduleIndex.matcherFor("CS2101");
+        assertTrue(matcher.test(AMY));
+
+        moduleIndex.add(BOB);
+        persons.add(BOB);
+        assertTrue(matcher.test(BOB));
+
+        moduleIndex.remove(AMY);
+        persons.remove(AMY);
+        assertFalse(matcher.test(AMY));
+
+        // reset -> built again from the list
+        persons.clear();
+        moduleIndex.reset();
+        assertFalse(matcher.test(BOB));
+    }
+
+}
@@ -0,0 +1,120 @@
+package seedu.address.model.search;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Set;
+import java.util.function.Predicate;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.person.Name;
+import seedu.address.model.person.Person;
+import seedu.address.testutil.PersonBuilder;
+
+public class NameIndexTest {
+
+    private static final Name ALICE_PAULINE = new Name("Alice Pauline");
+    private static final Name ALICE_BOB = new Name("alice  Bob");
+    private static final Name CARL = new Name("Carl Kurz");
+
+    private final NameIndex nameIndex = new NameIndex();
+
+    @Test
+    public void find_nullKeywords_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> nameIndex.find(null));
+    }
+
+    @Test
+    public void find_wholeWordsIgnoringCase() {
+        nameIndex.add(ALICE_PAULINE);
+        nameIndex.add(ALICE_BOB);
+        nameIndex.add(CARL);
+
+        assertEquals(Set.of(ALICE_PAULINE, ALICE_BOB), nameIndex.find(Collections.singletonList("ALICE")));
+        assertEquals(Set.of(ALICE_BOB, CARL), nameIndex.find(Arrays.asList("bob", "kURZ")));
+
+        // part of a word -> no match
+        assertEquals(Collections.emptySet(), nameIndex.find(Collections.singletonList("Ali")));
+
+        // no keywords -> no match
+        assertEquals(Collections.emptySet(), nameIndex.find(Collections.emptyList()));
+    }
+
+    @Test
+    public void remove_nameRemoved_notFound() {
+        nameIndex.add(ALICE_PAULINE);
+        nameIndex.add(ALICE_BOB);
+        nameIndex.remove(ALICE_PAULINE);
+
+        assertEquals(Set.of(ALICE_BOB), nameIndex.find(Collections.singletonList("alice")));
+        assertEquals(Collections.emptySet(), nameIndex.find(Collections.singletonList("pauline")));
+
+        nameIndex.clear();
+        assertEquals(Collections.emptySet(), nameIndex.find(Collections.singletonList("alice")));
+    }
+
+    @Test
+    public void matcherFor_indexChanged_seesChange() {
+        Person alice = new PersonBuilder().withName(ALICE_PAULINE.fullName).build();
+        Predicate<Person> matcher = nameIndex.matcherFor(Collections.singletonList("pauline"));
+        assertFalse(matcher.test(alice));
+
+        nameIndex.add(ALICE_PAULINE);
+        assertTrue(matcher.test(alice));
+
+        nameIndex.remove(ALICE_PAULINE);
+        assertFalse(matcher.test(alice));
+    }
+
+    @Test
+    public void matcherFor_fuzzyKeywords_nearWordsMatch() {
+        Person alice = new PersonBuilder().withName(ALICE_PAULINE.fullName).build();
+        Person carl = new PersonBuilder().withName(CARL.fullName).build();
+        nameIndex.add(ALICE_PAULINE);
+        nameIndex.add(CARL);
+
+        // one edit for short words, two for longer words
+        assertTrue(nameIndex.matcherFor(Collections.singletonList("~alise")).test(alice));
+        assertTrue(nameIndex.matcherFor(Collections.singletonList("~PAULIEN")).test(alice));
+        assertFalse(nameIndex.matcherFor(Collections.singletonList("~alise")).test(carl));
+        assertTrue(nameIndex.matcherFor(Collections.singletonList("~krz")).test(carl));
+        assertFalse(nameIndex.matcherFor(Collections.singletonList("~kr")).test(carl));
+
+        // mixed with exact keywords
+        Predicate<Person> matcher = nameIndex.matcherFor(Arrays.asList("kurz", "~alic"));
+        assertTrue(matcher.test(alice));
+        assertTrue(matcher.test(carl));
+    }
+
+    @Test
+    public void matcherFor_fuzzyKeywordIndexChanged_seesChange() {
+        Person alice = new PersonBuilder().withName(ALICE_PAULINE.fullName).build();
+        Predicate<Person> matcher = nameIndex.matcherFor(Collections.singletonList("~paulina"));
+        assertFalse(matcher.test(alice));
+
+        nameIndex.add(ALICE_PAULINE);
+        assertTrue(matcher.test(alice));
+
+        nameIndex.remove(ALICE_PAULINE);
+        assertFalse(matcher.test(alice));
+
+        // word added again after being removed
+        nameIndex.add(ALICE_PAULINE);
+        assertTrue(matcher.test(alice));
+    }
+
+    @Test
+    public void foldCase_sameAsEqualsIgnoreCase() {
+        String[][] pairs = {{"Kurz", "\u212Aurz"}, {"s", "\u017F"}, {"ABC", "abc"}, {"a", "b"}};
+        for (String[] pair : pairs) {
+            assertEquals(pair[0].equalsIgnoreCase(pair[1]),
+                    NameIndex.foldCase(pair[0]).equals(NameIndex.foldCase(pair[1])));
+        }
+    }
+
+}
@@ -0,0 +1,138 @@
+package seedu.address.model.search;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.person.Person;
+import seedu.address.testutil.PersonBuilder;
+
+public class PrefixIndexTest {
+
+    private static final Person AMY = new PersonBuilder().withName("Amy Bee").withTags("friends")
+            .withCurrentModules("CS2103T").withPreviousModules("CS2040S").build();
+    private static final Person BOB = new PersonBuilder().withName("Bob Choo").withTags("family")
+            .withCurrentModules("CS2101").withPlannedModules("CS2103T").build();
+
+    private final List<Person> persons = new ArrayList<>(List.of(AMY, BOB));
+    private final PrefixIndex prefixIndex = new PrefixIndex(persons);
+
+    @Test
+    public void find_null_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> prefixIndex.find(null));
+    }
+
+    @Test
+    public void find_notBuilt_findsNoOne() {
+        assertEquals(Set.of(), prefixIndex.find(List.of("a")));
+    }
+
+    @Test
+    public void find_everyPrefixIgnoringCase() {
+        prefixIndex.build();
+
+        // name, tag and module code words
+        assertEquals(Set.of(AMY.getName()), prefixIndex.find(List.of("am")));
+        assertEquals(Set.of(AMY.getName(), BOB.getName()), prefixIndex.find(List.of("F")));
+        assertEquals(Set.of(AMY.getName(), BOB.getName()), prefixIndex.find(List.of("cs2103")));
+        assertEquals(Set.of(AMY.getName()), prefixIndex.find(List.of("cs204")));
+
+        // every prefix must match, in any word
+        assertEquals(Set.of(BOB.getName()), prefixIndex.find(List.of("fa", "cs21")));
+        assertEquals(Set.of(), prefixIndex.find(List.of("amy", "choo")));
+
+        // prefix longer than any word
+        assertEquals(Set.of(), prefixIndex.find(List.of("friendship")));
+
+        // no prefixes -> everyone
+        assertEquals(Set.of(AMY.getName(), BOB.getName()), prefixIndex.find(List.of()));
+    }
+
+    @Test
+    public void narrow_onlyGivenNames() {
+        prefixIndex.build();
+        assertEquals(Set.of(AMY.getName()), prefixIndex.narrow(Set.of(AMY.getName()), List.of("cs2")));
+        assertEquals(Set.of(BOB.getName()), prefixIndex.narrow(Set.of(AMY.getName(), BOB.getName()),
+                List.of("b", "CS2101")));
+
+        // names no longer in the index are dropped
+        prefixIndex.remove(AMY);
+        persons.remove(AMY);
+        assertEquals(Set.of(), prefixIndex.narrow(Set.of(AMY.getName()), List.of("amy")));
+    }
+
+    @Test
+    public void addAndRemove_afterBuilt_keptInStep() {
+        prefixIndex.build();
+        Person carl = new PersonBuilder().withName("Carl Amyot").withTags().build();
+        prefixIndex.add(carl);
+        persons.add(carl);
+        assertEquals(Set.of(AMY.getName(), carl.getName()), prefixIndex.find(List.of("amy")));
+
+        prefixIndex.remove(AMY);
+        persons.remove(AMY);
+        assertEquals(Set.of(carl.getName()), prefixIndex.find(List.of("amy")));
+        assertEquals(Set.of(BOB.getName()), prefixIndex.find(List.of("f")));
+
+        // reset -> built again from the list
+        prefixIndex.reset();
+        assertEquals(Set.of(), prefixIndex.find(List.of("bob")));
+        prefixIndex.build();
+        assertEquals(Set.of(BOB.getName()), prefixIndex.find(List.of("bob")));
+    }
+
+    @Test
+    public void find_notLoaded_loadsOnlyWhenSearched() {
+        Person lazyAmy = Person.withDetailsLoadedOnDemand(AMY.getName(), () -> new PersonBuilder(AMY).build());
+        persons.set(0, lazyAmy);
+        prefixIndex.add(lazyAmy);
+        prefixIndex.build();
+        assertTrue(lazyAmy.getPendingDetailsLoader().isPresent());
+
+        assertEquals(Set.of(AMY.getName()), prefixIndex.find(List.of("friends")));
+        assertFalse(lazyAmy.getPendingDetailsLoader().isPresent());
+    }
+
+    @Test
+    public void build_listChangedBeforeSearch_indexesListWhenBuilt() {
+        prefixIndex.build();
+        Person carl = new PersonBuilder().withName("Carl Amyot").withTags().build();
+        prefixIndex.add(carl);
+        persons.add(carl);
+        prefixIndex.remove(AMY);
+        persons.remove(AMY);
+        assertEquals(Set.of(carl.getName()), prefixIndex.find(List.of("amy")));
+    }
+
+    @Test
+    public void addAndRemove_beforeSearch_listNotIndexedUntilSearched() {
+        Person lazyAmy = Person.withDetailsLoadedOnDemand(AMY.getName(), () -> new PersonBuilder(AMY).build());
+        Person lazyBob = Person.withDetailsLoadedOnDemand(BOB.getName(), () -> new PersonBuilder(BOB).build());
+        persons.set(0, lazyAmy);
+        persons.set(1, lazyBob);
+        prefixIndex.build();
+
+        Person carl = Person.withDetailsLoadedOnDemand(new PersonBuilder().withName("Carl Amyot").build().getName(),
+                () -> new PersonBuilder().withName("Carl Amyot").withTags("family").build());
+        prefixIndex.add(carl);
+        persons.add(carl);
+        prefixIndex.remove(lazyBob);
+        persons.remove(lazyBob);
+        assertTrue(lazyAmy.getPendingDetailsLoader().isPresent());
+        assertTrue(lazyBob.getPendingDetailsLoader().isPresent());
+        assertTrue(carl.getPendingDetailsLoader().isPresent());
+
+        // changes are applied to the trie built by the first search
+        assertEquals(Set.of(carl.getName()), prefixIndex.find(List.of("fam")));
+        assertEquals(Set.of(AMY.getName(), carl.getName()), prefixIndex.find(List.of("amy")));
+        assertFalse(lazyAmy.getPendingDetailsLoader().isPresent());
+    }
+
+}
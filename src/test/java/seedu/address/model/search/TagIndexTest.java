@@ -0,0 +1,89 @@
+package seedu.address.model.search;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Predicate;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.person.Person;
+import seedu.address.model.tag.TagQuery;
+import seedu.address.testutil.PersonBuilder;
+
+public class TagIndexTest {
+
+    private static final Person AMY = new PersonBuilder().withName("Amy Bee").withTags("friends", "colleagues")
+            .build();
+    private static final Person BOB = new PersonBuilder().withName("Bob Choo").withTags("friends").build();
+    private static final Person CARL = new PersonBuilder().withName("Carl Kurz").withTags().build();
+
+    private final List<Person> persons = new ArrayList<>();
+    private final TagIndex tagIndex = new TagIndex(persons);
+
+    @Test
+    public void matcherFor_nullQuery_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> tagIndex.matcherFor(null));
+    }
+
+    @Test
+    public void matcherFor_sameAsQueryIgnoringCase() {
+        persons.addAll(List.of(AMY, BOB, CARL));
+
+        Predicate<Person> matcher = tagIndex.matcherFor(TagQuery.parse("FRIENDS AND NOT colleagues"));
+        assertFalse(matcher.test(AMY));
+        assertTrue(matcher.test(BOB));
+        assertFalse(matcher.test(CARL));
+
+        matcher = tagIndex.matcherFor(TagQuery.parse("NOT (friends OR family)"));
+        assertFalse(matcher.test(AMY));
+        assertFalse(matcher.test(BOB));
+        assertTrue(matcher.test(CARL));
+
+        // person not in the list -> no match
+        assertFalse(matcher.test(new PersonBuilder().withTags().build()));
+    }
+
+    @Test
+    public void matcherFor_notLoaded_loadsOnlyWhenSearched() {
+        Person lazyAmy = Person.withDetailsLoadedOnDemand(AMY.getName(), () -> new PersonBuilder(AMY).build());
+        persons.add(lazyAmy);
+        tagIndex.add(lazyAmy);
+        Predicate<Person> matcher = tagIndex.matcherFor(TagQuery.parse("colleagues"));
+        assertTrue(lazyAmy.getPendingDetailsLoader().isPresent());
+
+        assertTrue(matcher.test(lazyAmy));
+        assertFalse(lazyAmy.getPendingDetailsLoader().isPresent());
+    }
+
+    @Test
+    public void addAndRemove_afterBuilt_keptInStep() {
+        persons.add(AMY);
+        Predicate<Person> matcher = tagIndex.matcherFor(TagQuery.parse("friends AND NOT colleagues"));
+        assertFalse(matcher.test(AMY));
+
+        tagIndex.add(BOB);
+        persons.add(BOB);
+        assertTrue(matcher.test(BOB));
+
+        // the number of a removed person is reused
+        tagIndex.remove(BOB);
+        persons.remove(BOB);
+        tagIndex.add(CARL);
+        persons.add(CARL);
+        assertFalse(matcher.test(BOB));
+        assertFalse(matcher.test(CARL));
+        assertTrue(tagIndex.matcherFor(TagQuery.parse("NOT friends")).test(CARL));
+
+        // reset -> built again from the list
+        persons.clear();
+        persons.add(BOB);
+        tagIndex.reset();
+        assertTrue(matcher.test(BOB));
+        assertFalse(matcher.test(AMY));
+    }
+
+}
@@ -0,0 +1,88 @@
+package seedu.address.model.tag;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.util.BitSet;
+import java.util.Map;
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+
+public class TagQueryTest {
+
+    @Test
+    public void parse_null_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> TagQuery.parse(null));
+    }
+
+    @Test
+    public void parse_invalidQuery_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () -> TagQuery.parse("")); // no tag names
+        assertThrows(IllegalArgumentException.class, () -> TagQuery.parse("friends AND")); // missing operand
+        assertThrows(IllegalArgumentException.class, () -> TagQuery.parse("OR friends")); // missing operand
+        assertThrows(IllegalArgumentException.class, () -> TagQuery.parse("NOT")); // missing operand
+        assertThrows(IllegalArgumentException.class, () -> TagQuery.parse("(friends")); // unclosed bracket
+        assertThrows(IllegalArgumentException.class, () -> TagQuery.parse("friends)")); // unopened bracket
+        assertThrows(IllegalArgumentException.class, () -> TagQuery.parse("()")); // empty brackets
+        assertThrows(IllegalArgumentException.class, () -> TagQuery.parse("best-friends")); // invalid tag name
+    }
+
+    @Test
+    public void matches() {
+        Set<String> tags = Set.of("friends", "colleagues");
+
+        // plain list of tag names -> any of them
+        assertTrue(matches("family friends", tags));
+        assertFalse(matches("family owesMoney", tags));
+
+        assertTrue(matches("friends AND colleagues", tags));
+        assertFalse(matches("friends AND family", tags));
+        assertTrue(matches("family OR colleagues", tags));
+        assertTrue(matches("NOT family", tags));
+        assertFalse(matches("NOT NOT family", tags));
+
+        // NOT binds tighter than AND, which binds tighter than OR
+        assertTrue(matches("family AND owesMoney OR friends", tags));
+        assertFalse(matches("family AND (owesMoney OR friends)", tags));
+        assertFalse(matches("NOT friends AND colleagues", tags));
+        assertTrue(matches("NOT (friends AND family)", tags));
+    }
+
+    @Test
+    public void evaluate_sameAsMatches() {
+        // persons 0 to 3 have these tags
+        Map<String, BitSet> personsWithTag = Map.of("friends", bits(0, 1), "colleagues", bits(1, 2));
+        BitSet allPersons = bits(0, 1, 2, 3);
+
+        assertEquals(bits(0, 1, 2), evaluate("friends colleagues", personsWithTag, allPersons));
+        assertEquals(bits(1), evaluate("friends AND colleagues", personsWithTag, allPersons));
+        assertEquals(bits(0, 3), evaluate("NOT colleagues", personsWithTag, allPersons));
+        assertEquals(bits(0), evaluate("friends AND NOT colleagues", personsWithTag, allPersons));
+        assertEquals(bits(), evaluate("family", personsWithTag, allPersons));
+
+        // the given sets are not changed
+        assertEquals(bits(0, 1), personsWithTag.get("friends"));
+        assertEquals(bits(0, 1, 2, 3), allPersons);
+    }
+
+    private static boolean matches(String query, Set<String> tags) {
+        return TagQuery.parse(query).matches(tags::contains);
+    }
+
+    private static BitSet evaluate(String query, Map<String, BitSet> personsWithTag, BitSet allPersons) {
+        return TagQuery.parse(query).evaluate(tagName -> personsWithTag.getOrDefault(tagName, new BitSet()),
+                allPersons);
+    }
+
+    private static BitSet bits(int... indexes) {
+        BitSet bits = new BitSet();
+        for (int index : indexes) {
+            bits.set(index);
+        }
+        return bits;
+    }
+
+}
@@ -1,6 +1,8 @@
 package seedu.address.model.tag;
 
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.testutil.Assert.assertThrows;
 
@@ -21,6 +23,14 @@ public class TagTest {
         assertThrows(IllegalArgumentException.class, () -> new Tag(invalidTagName));
     }
 
+    @Test
+    public void of_sameTagName_sameInstance() {
+        assertThrows(IllegalArgumentException.class, () -> Tag.of(""));
+        Tag tag = Tag.of("friends");
+        assertSame(tag, Tag.of("friends"));
+        assertNotSame(tag, Tag.of("Friends"));
+    }
+
     @Test
     public void isValidTagName() {
         // null tag name
@@ -51,6 +51,10 @@ public class TagsContainsKeywordsPredicateTest {
         // Mixed-case keywords
         predicate = new TagsContainsKeywordsPredicate("ALIce");
         assertTrue(predicate.test(new PersonBuilder().withTags("Alice", "Bob").build()));
+
+        // Tag query
+        predicate = new TagsContainsKeywordsPredicate("alice AND NOT (Carol OR Dave)");
+        assertTrue(predicate.test(new PersonBuilder().withTags("Alice", "Bob").build()));
     }
 
     @Test
@@ -68,5 +72,9 @@ public class TagsContainsKeywordsPredicateTest {
         assertFalse(predicate.test(new PersonBuilder().withName("Alice").withPhone("12345")
                 .withEmail("alice@email.com").withAddress("Main Street").withGithub("alice")
                 .withTags("Friend").build()));
+
+        // Tag query not matched
+        predicate = new TagsContainsKeywordsPredicate("Alice AND Bob");
+        assertFalse(predicate.test(new PersonBuilder().withTags("Alice").build()));
     }
 }
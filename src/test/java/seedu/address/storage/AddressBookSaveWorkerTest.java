@@ -0,0 +1,129 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.model.AddressBook;
+import seedu.address.model.ReadOnlyAddressBook;
+
+public class AddressBookSaveWorkerTest {
+
+    private static final IOException DUMMY_IO_EXCEPTION = new IOException("dummy exception");
+
+    @TempDir
+    public Path testFolder;
+
+    @Test
+    public void save_addressBookChangedAfterwards_savesCopy() throws Exception {
+        AddressBookStorageStub storage = new AddressBookStorageStub(testFolder.resolve("addressBook.json"));
+        AddressBookSaveWorker saveWorker = new AddressBookSaveWorker(storage);
+        AddressBook addressBook = getTypicalAddressBook();
+
+        saveWorker.save(addressBook);
+        addressBook.removePerson(ALICE);
+        saveWorker.flush();
+
+        assertEquals(getTypicalAddressBook(), new AddressBook(storage.readAddressBook().get()));
+    }
+
+    @Test
+    public void save_manySavesWhileWriting_coalescesIntoOneWrite() throws Exception {
+        AddressBookStorageStub storage = new AddressBookStorageStub(testFolder.resolve("addressBook.json"));
+        AddressBookSaveWorker saveWorker = new AddressBookSaveWorker(storage);
+        storage.blockNextSave();
+
+        AddressBook addressBook = getTypicalAddressBook();
+        saveWorker.save(addressBook);
+        assertTrue(storage.saveStarted.await(10, TimeUnit.SECONDS));
+        for (int i = 0; i < 5; i++) {
+            addressBook.removePerson(addressBook.getPersonList().get(0));
+            saveWorker.save(addressBook);
+        }
+        storage.unblock();
+        saveWorker.flush();
+
+        assertEquals(2, storage.savedAddressBooks.size());
+        assertEquals(addressBook, new AddressBook(storage.readAddressBook().get()));
+    }
+
+    @Test
+    public void save_storageThrowsIoException_notifiesFailureHandler() throws Exception {
+        AddressBookStorageStub storage = new AddressBookStorageStub(testFolder.resolve("addressBook.json"));
+        storage.isFailing = true;
+        AddressBookSaveWorker saveWorker = new AddressBookSaveWorker(storage);
+        List<IOException> failures = Collections.synchronizedList(new ArrayList<>());
+        saveWorker.setFailureHandler(failures::add);
+
+        saveWorker.save(getTypicalAddressBook());
+        assertThrows(IOException.class, saveWorker::flush);
+        assertEquals(Collections.singletonList(DUMMY_IO_EXCEPTION), failures);
+    }
+
+    @Test
+    public void flush_lastSaveFailed_retriesLastSave() throws Exception {
+        AddressBookStorageStub storage = new AddressBookStorageStub(testFolder.resolve("addressBook.json"));
+        storage.isFailing = true;
+        AddressBookSaveWorker saveWorker = new AddressBookSaveWorker(storage);
+        AddressBook addressBook = getTypicalAddressBook();
+        addressBook.removePerson(BENSON);
+
+        saveWorker.save(addressBook);
+        assertThrows(IOException.class, saveWorker::flush);
+
+        storage.isFailing = false;
+        saveWorker.shutdown();
+        assertEquals(addressBook, new AddressBook(storage.readAddressBook().get()));
+    }
+
+    /**
+     * A {@code JsonAddressBookStorage} that records every save, and can fail or wait before saving.
+     */
+    private static class AddressBookStorageStub extends JsonAddressBookStorage {
+        private final List<ReadOnlyAddressBook> savedAddressBooks = Collections.synchronizedList(new ArrayList<>());
+        private final CountDownLatch saveStarted = new CountDownLatch(1);
+        private CountDownLatch saveAllowed = new CountDownLatch(0);
+        private volatile boolean isFailing;
+
+        private AddressBookStorageStub(Path filePath) {
+            super(filePath);
+        }
+
+        private void blockNextSave() {
+            saveAllowed = new CountDownLatch(1);
+        }
+
+        private void unblock() {
+            saveAllowed.countDown();
+        }
+
+        @Override
+        public void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
+            saveStarted.countDown();
+            try {
+                saveAllowed.await();
+            } catch (InterruptedException e) {
+                throw new IOException(e);
+            }
+            if (isFailing) {
+                throw DUMMY_IO_EXCEPTION;
+            }
+            savedAddressBooks.add(addressBook);
+            super.saveAddressBook(addressBook, filePath);
+        }
+    }
+}
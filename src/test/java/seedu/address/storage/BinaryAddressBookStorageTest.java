@@ -0,0 +1,287 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalLessons.CS2040S_LAB;
+import static seedu.address.testutil.TypicalLessons.CS2103T_LECTURE;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.HOON;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Arrays;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.commons.exceptions.DataConversionException;
+import seedu.address.commons.util.JsonUtil;
+import seedu.address.model.AddressBook;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.module.CurrentModule;
+import seedu.address.model.module.Lesson;
+import seedu.address.model.person.Person;
+import seedu.address.model.tag.Tag;
+import seedu.address.testutil.PersonBuilder;
+
+public class BinaryAddressBookStorageTest {
+
+    @TempDir
+    public Path testFolder;
+
+    @Test
+    public void readAddressBook_nullFilePath_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> new BinaryAddressBookStorage(null).readAddressBook(null));
+    }
+
+    @Test
+    public void readAddressBook_missingFile_emptyResult() throws Exception {
+        assertFalse(new BinaryAddressBookStorage(testFolder.resolve("NonExistentFile.bin")).readAddressBook()
+                .isPresent());
+    }
+
+    @Test
+    public void readAddressBook_notBinaryFormat_throwDataConversionException() throws Exception {
+        Path filePath = testFolder.resolve("TempAddressBook.bin");
+        new JsonAddressBookStorage(filePath).saveAddressBook(getTypicalAddressBook());
+
+        assertThrows(DataConversionException.class, () -> new BinaryAddressBookStorage(filePath).readAddressBook());
+    }
+
+    @Test
+    public void readAddressBook_truncatedFile_throwDataConversionException() throws Exception {
+        Path filePath = testFolder.resolve("TempAddressBook.bin");
+        new BinaryAddressBookStorage(filePath).saveAddressBook(getTypicalAddressBook());
+        byte[] bytes = Files.readAllBytes(filePath);
+        Files.write(filePath, Arrays.copyOf(bytes, bytes.length / 2));
+
+        assertThrows(DataConversionException.class, () -> new BinaryAddressBookStorage(filePath).readAddressBook());
+    }
+
+    @Test
+    public void readAddressBook_unsupportedVersion_throwDataConversionException() throws Exception {
+        Path filePath = testFolder.resolve("TempAddressBook.bin");
+        new BinaryAddressBookStorage(filePath).saveAddressBook(getTypicalAddressBook());
+        byte[] bytes = Files.readAllBytes(filePath);
+        bytes[BinaryAddressBookFormat.MAGIC.length] = BinaryAddressBookFormat.VERSION + 1;
+        Files.write(filePath, bytes);
+
+        assertThrows(DataConversionException.class, () -> new BinaryAddressBookStorage(filePath).readAddressBook());
+    }
+
+    @Test
+    public void readAddressBook_invalidPerson_throwDataConversionException() throws Exception {
+        Path filePath = testFolder.resolve("TempAddressBook.bin");
+        AddressBook original = new AddressBook();
+        original.addPerson(new PersonBuilder().withName("Hans Muster").build());
+        new BinaryAddressBookStorage(filePath).saveAddressBook(original);
+        byte[] bytes = Files.readAllBytes(filePath);
+        String invalid = new String(bytes, "ISO-8859-1").replace("Hans Muster", "Ha!ns Must");
+        Files.write(filePath, invalid.getBytes("ISO-8859-1"));
+
+        assertThrows(DataConversionException.class, () -> new BinaryAddressBookStorage(filePath).readAddressBook());
+    }
+
+    @Test
+    public void readAndSaveAddressBook_allInOrder_success() throws Exception {
+        Path filePath = testFolder.resolve("TempAddressBook.bin");
+        AddressBook original = getTypicalAddressBook();
+        original.addPerson(new PersonBuilder(HOON).withCurrentModules("CS2103T", "CS2100")
+                .withLessons(CS2103T_LECTURE, CS2040S_LAB).build());
+        original.addLessonToUser(CS2040S_LAB);
+        BinaryAddressBookStorage binaryAddressBookStorage = new BinaryAddressBookStorage(filePath);
+
+        binaryAddressBookStorage.saveAddressBook(original);
+        ReadOnlyAddressBook readBack = binaryAddressBookStorage.readAddressBook().get();
+        assertEquals(original, new AddressBook(readBack));
+        for (int i = 0; i < original.getPersonList().size(); i++) {
+            assertEquals(describeLessons(original.getPersonList().get(i).getLessons()),
+                    describeLessons(readBack.getPersonList().get(i).getLessons()));
+        }
+        assertEquals(describeLessons(original.getUser().getLessons()),
+                describeLessons(readBack.getUser().getLessons()));
+
+        // Modify data, overwrite exiting file, and read back
+        original.removePerson(ALICE);
+        original.deleteUser();
+        binaryAddressBookStorage.saveAddressBook(original);
+        readBack = binaryAddressBookStorage.readAddressBook().get();
+        assertEquals(original, new AddressBook(readBack));
+    }
+
+    @Test
+    public void saveAddressBook_unreadableFile_keptAsBackup() throws Exception {
+        Path filePath = testFolder.resolve("TempAddressBook.bin");
+        Files.writeString(filePath, "not binary");
+        BinaryAddressBookStorage binaryAddressBookStorage = new BinaryAddressBookStorage(filePath);
+        assertThrows(DataConversionException.class, () -> binaryAddressBookStorage.readAddressBook());
+
+        binaryAddressBookStorage.saveAddressBook(new AddressBook());
+
+        Path backupFilePath = testFolder.resolve("TempAddressBook.bin" + JsonAddressBookStorage.BACKUP_FILE_SUFFIX);
+        assertEquals("not binary", Files.readString(backupFilePath));
+        assertEquals(new AddressBook(), new AddressBook(binaryAddressBookStorage.readAddressBook().get()));
+
+        // a file that was read is overwritten
+        binaryAddressBookStorage.saveAddressBook(getTypicalAddressBook());
+        assertEquals("not binary", Files.readString(backupFilePath));
+    }
+
+    @Test
+    public void readAddressBook_sharedTagsAndModules_interned() throws Exception {
+        Path filePath = testFolder.resolve("TempAddressBook.bin");
+        new BinaryAddressBookStorage(filePath).saveAddressBook(getTypicalAddressBook());
+
+        Person alice = new BinaryAddressBookStorage(filePath).readAddressBook().get().getPersonList().get(0);
+        assertSame(Tag.of("family"), alice.getTags().iterator().next());
+        assertSame(CurrentModule.of("CS2103T"), alice.getCurrModules().iterator().next());
+    }
+
+    @Test
+    public void readAddressBook_onDemand_loadsPersonsWhenNeeded() throws Exception {
+        Path filePath = testFolder.resolve("TempAddressBook.bin");
+        AddressBook original = getTypicalAddressBook();
+        original.addPerson(new PersonBuilder(HOON).withLessons(CS2103T_LECTURE, CS2040S_LAB).build());
+        new BinaryAddressBookStorage(filePath).saveAddressBook(original);
+
+        ReadOnlyAddressBook readBack = new BinaryAddressBookStorage(filePath, true).readAddressBook().get();
+        for (int i = 0; i < original.getPersonList().size(); i++) {
+            Person person = readBack.getPersonList().get(i);
+            assertEquals(original.getPersonList().get(i).getName(), person.getName());
+            assertTrue(person.getPendingDetailsLoader().isPresent());
+        }
+
+        assertEquals(original, new AddressBook(readBack));
+        Person hoon = readBack.getPersonList().get(original.getPersonList().size() - 1);
+        assertFalse(hoon.getPendingDetailsLoader().isPresent());
+        assertEquals(describeLessons(Set.of(CS2103T_LECTURE, CS2040S_LAB)), describeLessons(hoon.getLessons()));
+    }
+
+    @Test
+    public void saveAddressBook_personsNotLoaded_copiedWithoutLoading() throws Exception {
+        Path filePath = testFolder.resolve("TempAddressBook.bin");
+        AddressBook original = getTypicalAddressBook();
+        BinaryAddressBookStorage binaryAddressBookStorage = new BinaryAddressBookStorage(filePath, true);
+        binaryAddressBookStorage.saveAddressBook(original);
+        AddressBook readBack = new AddressBook(binaryAddressBookStorage.readAddressBook().get());
+
+        // The new person's tag and modules are not in the string table of the file read
+        Person added = new PersonBuilder(HOON).withTags("neighbours").withCurrentModules("MA1521").build();
+        readBack.addPerson(added);
+        original.addPerson(added);
+        binaryAddressBookStorage.saveAddressBook(readBack);
+        for (Person person : readBack.getPersonList()) {
+            assertEquals(person != added, person.getPendingDetailsLoader().isPresent());
+        }
+
+        assertEquals(original, new AddressBook(new BinaryAddressBookStorage(filePath).readAddressBook().get()));
+    }
+
+    @Test
+    public void readAddressBook_onDemandInvalidName_throwDataConversionException() throws Exception {
+        Path filePath = testFolder.resolve("TempAddressBook.bin");
+        AddressBook original = new AddressBook();
+        original.addPerson(new PersonBuilder().withName("Hans Muster").build());
+        new BinaryAddressBookStorage(filePath).saveAddressBook(original);
+        byte[] bytes = Files.readAllBytes(filePath);
+        String invalid = new String(bytes, "ISO-8859-1").replace("Hans Muster", "Ha!ns Must");
+        Files.write(filePath, invalid.getBytes("ISO-8859-1"));
+
+        assertThrows(DataConversionException.class, () -> new BinaryAddressBookStorage(filePath, true)
+                .readAddressBook());
+    }
+
+    @Test
+    public void readAddressBook_onDemandInvalidLayout_throwDataConversionException() throws Exception {
+        Path filePath = testFolder.resolve("TempAddressBook.bin");
+        AddressBook original = new AddressBook();
+        original.addPerson(new PersonBuilder().withName("Hans Muster").withTags("friends").build());
+        new BinaryAddressBookStorage(filePath).saveAddressBook(original);
+        byte[] bytes = Files.readAllBytes(filePath);
+        // the record ends with the tag's string table position and empty module and lesson lists, then no user
+        assertEquals(0, bytes[bytes.length - 6]);
+        bytes[bytes.length - 6] = 1;
+        Files.write(filePath, bytes);
+
+        assertThrows(DataConversionException.class, () -> new BinaryAddressBookStorage(filePath, true)
+                .readAddressBook());
+    }
+
+    @Test
+    public void readAddressBook_onDemandInvalidDetails_throwsWhenLoaded() throws Exception {
+        Path filePath = testFolder.resolve("TempAddressBook.bin");
+        AddressBook original = new AddressBook();
+        original.addPerson(new PersonBuilder().withName("Hans Muster").withPhone("987654321").build());
+        new BinaryAddressBookStorage(filePath).saveAddressBook(original);
+        byte[] bytes = Files.readAllBytes(filePath);
+        String invalid = new String(bytes, "ISO-8859-1").replace("987654321", "98765432a");
+        Files.write(filePath, invalid.getBytes("ISO-8859-1"));
+
+        Person person = new BinaryAddressBookStorage(filePath, true).readAddressBook().get().getPersonList().get(0);
+        assertEquals("Hans Muster", person.getName().fullName);
+        assertThrows(IllegalStateException.class, person::getPhone);
+    }
+
+    @Test
+    public void readAddressBook_sameTagOrModule_sharesObject() throws Exception {
+        Path filePath = testFolder.resolve("TempAddressBook.bin");
+        AddressBook original = new AddressBook();
+        original.addPerson(new PersonBuilder().withName("Amy").withTags("friends").withCurrentModules("CS2103T")
+                .build());
+        original.addPerson(new PersonBuilder().withName("Bob").withTags("friends").withCurrentModules("CS2103T")
+                .build());
+        BinaryAddressBookStorage binaryAddressBookStorage = new BinaryAddressBookStorage(filePath);
+        binaryAddressBookStorage.saveAddressBook(original);
+
+        ReadOnlyAddressBook readBack = binaryAddressBookStorage.readAddressBook().get();
+        Person amy = readBack.getPersonList().get(0);
+        Person bob = readBack.getPersonList().get(1);
+        assertTrue(amy.getTags().iterator().next() == bob.getTags().iterator().next());
+        assertTrue(amy.getCurrModules().iterator().next() == bob.getCurrModules().iterator().next());
+    }
+
+    @Test
+    public void saveAddressBook_smallerThanJson() throws Exception {
+        AddressBook original = getTypicalAddressBook();
+        Path binaryFilePath = testFolder.resolve("TempAddressBook.bin");
+        new BinaryAddressBookStorage(binaryFilePath).saveAddressBook(original);
+
+        String json = JsonUtil.toJsonString(new JsonSerializableAddressBook(original));
+        assertTrue(Files.size(binaryFilePath) < json.length() / 2);
+    }
+
+    @Test
+    public void getBinaryFilePath() {
+        assertEquals(Paths.get("data", "ConnectNUS.bin"),
+                BinaryAddressBookStorage.getBinaryFilePath(Paths.get("data", "ConnectNUS.json")));
+        assertEquals(Paths.get("addressbook.bin"),
+                BinaryAddressBookStorage.getBinaryFilePath(Paths.get("addressbook")));
+    }
+
+    @Test
+    public void saveAddressBook_nullAddressBook_throwsNullPointerException() {
+        Path filePath = testFolder.resolve("TempAddressBook.bin");
+        assertThrows(NullPointerException.class, () -> new BinaryAddressBookStorage(filePath)
+                .saveAddressBook(null, filePath));
+    }
+
+    @Test
+    public void saveAddressBook_nullFilePath_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> new BinaryAddressBookStorage(null)
+                .saveAddressBook(new AddressBook(), null));
+    }
+
+    private static Set<String> describeLessons(Set<Lesson> lessons) {
+        return lessons.stream()
+                .map(lesson -> lesson.getType() + " " + lesson.getModule() + " " + lesson.getDay() + " "
+                        + lesson.getStartTime() + " " + lesson.getEndTime())
+                .collect(Collectors.toSet());
+    }
+}
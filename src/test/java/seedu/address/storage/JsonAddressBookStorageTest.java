@@ -2,22 +2,31 @@ package seedu.address.storage;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.testutil.Assert.assertThrows;
 import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.CARL;
 import static seedu.address.testutil.TypicalPersons.HOON;
 import static seedu.address.testutil.TypicalPersons.IDA;
+import static seedu.address.testutil.TypicalPersons.XAVIER;
 import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
 
 import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
 
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.io.TempDir;
 
 import seedu.address.commons.exceptions.DataConversionException;
+import seedu.address.commons.util.JsonUtil;
 import seedu.address.model.AddressBook;
 import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.testutil.PersonBuilder;
 
 public class JsonAddressBookStorageTest {
     private static final Path TEST_DATA_FOLDER = Paths.get("src", "test", "data", "JsonAddressBookStorageTest");
@@ -86,6 +95,155 @@ public class JsonAddressBookStorageTest {
 
     }
 
+    @Test
+    public void saveAddressBook_sameLayoutAsSerializableAddressBook() throws Exception {
+        Path filePath = testFolder.resolve("TempAddressBook.json");
+        AddressBook original = getTypicalAddressBook();
+        new JsonAddressBookStorage(filePath).saveAddressBook(original);
+
+        JsonSerializableAddressBook readBack = JsonUtil.readJsonFile(filePath, JsonSerializableAddressBook.class).get();
+        assertEquals(original, readBack.toModelType());
+    }
+
+    @Test
+    public void readAddressBook_duplicatePersons_throwDataConversionException() throws Exception {
+        Path filePath = testFolder.resolve("TempAddressBook.json");
+        AddressBook original = getTypicalAddressBook();
+        original.addPerson(HOON);
+        new JsonAddressBookStorage(filePath).saveAddressBook(original);
+        Files.writeString(filePath, Files.readString(filePath).replace(HOON.getName().fullName,
+                ALICE.getName().fullName));
+
+        assertThrows(DataConversionException.class, () -> new JsonAddressBookStorage(filePath).readAddressBook());
+    }
+
+    @Test
+    public void readAddressBook_missingUser_throwDataConversionException() throws Exception {
+        Path filePath = testFolder.resolve("TempAddressBook.json");
+        Files.writeString(filePath, "{ \"persons\" : [ ] }");
+
+        assertThrows(DataConversionException.class, () -> new JsonAddressBookStorage(filePath).readAddressBook());
+    }
+
+    @Test
+    public void saveAddressBook_afterRead_appendsChangesToJournal() throws Exception {
+        Path filePath = testFolder.resolve("TempAddressBook.json");
+        AddressBook original = getTypicalAddressBook();
+        new JsonAddressBookStorage(filePath).saveAddressBook(original, filePath);
+        String savedFile = Files.readString(filePath);
+
+        JsonAddressBookStorage jsonAddressBookStorage = new JsonAddressBookStorage(filePath);
+        AddressBook modified = new AddressBook(jsonAddressBookStorage.readAddressBook().get());
+        modified.addPerson(1, HOON);
+        modified.removePerson(CARL);
+        modified.setPerson(BENSON, new PersonBuilder(BENSON).withName("Benson Meier").build());
+        modified.setUser(XAVIER);
+        jsonAddressBookStorage.saveAddressBook(modified);
+
+        // only the journal is written
+        assertEquals(savedFile, Files.readString(filePath));
+        assertEquals(1, Files.readAllLines(JsonAddressBookStorage.getJournalFilePath(filePath)).size());
+
+        ReadOnlyAddressBook readBack = new JsonAddressBookStorage(filePath).readAddressBook().get();
+        assertEquals(modified, new AddressBook(readBack));
+    }
+
+    @Test
+    public void readAddressBook_incompleteLastJournalEntry_ignoresEntry() throws Exception {
+        Path filePath = testFolder.resolve("TempAddressBook.json");
+        AddressBook original = getTypicalAddressBook();
+        JsonAddressBookStorage jsonAddressBookStorage = new JsonAddressBookStorage(filePath);
+        jsonAddressBookStorage.saveAddressBook(original);
+        original.addPerson(HOON);
+        jsonAddressBookStorage.saveAddressBook(original);
+
+        // crash while the next entry is being written
+        Files.write(JsonAddressBookStorage.getJournalFilePath(filePath), "{\"sequence\":2,\"remo".getBytes(
+                StandardCharsets.UTF_8), StandardOpenOption.APPEND);
+
+        jsonAddressBookStorage = new JsonAddressBookStorage(filePath);
+        AddressBook readBack = new AddressBook(jsonAddressBookStorage.readAddressBook().get());
+        assertEquals(original, readBack);
+
+        // the next save compacts the journal, dropping the incomplete entry
+        readBack.addPerson(IDA);
+        jsonAddressBookStorage.saveAddressBook(readBack);
+        assertFalse(Files.exists(JsonAddressBookStorage.getJournalFilePath(filePath)));
+        assertEquals(readBack, new AddressBook(new JsonAddressBookStorage(filePath).readAddressBook().get()));
+    }
+
+    @Test
+    public void saveAddressBook_partialJournalWrite_retryCompactsJournal() throws Exception {
+        Path filePath = testFolder.resolve("TempAddressBook.json");
+        AddressBook original = getTypicalAddressBook();
+        new JsonAddressBookStorage(filePath).saveAddressBook(original);
+
+        boolean[] isDiskFull = {true};
+        JsonAddressBookStorage jsonAddressBookStorage = new JsonAddressBookStorage(filePath) {
+            @Override
+            void appendToJournal(Path journalFilePath, String line) throws IOException {
+                if (!isDiskFull[0]) {
+                    super.appendToJournal(journalFilePath, line);
+                    return;
+                }
+                // the disk fills up halfway through the entry
+                Files.write(journalFilePath, line.substring(0, line.length() / 2).getBytes(StandardCharsets.UTF_8),
+                        StandardOpenOption.CREATE, StandardOpenOption.APPEND);
+                throw new IOException("No space left on device");
+            }
+        };
+        AddressBook modified = new AddressBook(jsonAddressBookStorage.readAddressBook().get());
+        modified.addPerson(HOON);
+        assertThrows(IOException.class, () -> jsonAddressBookStorage.saveAddressBook(modified));
+
+        // the retry rewrites the file rather than appending after the partial entry
+        isDiskFull[0] = false;
+        jsonAddressBookStorage.saveAddressBook(modified);
+        assertFalse(Files.exists(JsonAddressBookStorage.getJournalFilePath(filePath)));
+        assertEquals(modified, new AddressBook(new JsonAddressBookStorage(filePath).readAddressBook().get()));
+    }
+
+    @Test
+    public void readAddressBook_invalidJournalEntry_throwDataConversionException() throws Exception {
+        Path filePath = testFolder.resolve("TempAddressBook.json");
+        JsonAddressBookStorage jsonAddressBookStorage = new JsonAddressBookStorage(filePath);
+        jsonAddressBookStorage.saveAddressBook(getTypicalAddressBook());
+        Files.write(JsonAddressBookStorage.getJournalFilePath(filePath),
+                "not json\n{\"sequence\":1}\n".getBytes(StandardCharsets.UTF_8));
+
+        assertThrows(DataConversionException.class, () -> new JsonAddressBookStorage(filePath).readAddressBook());
+    }
+
+    @Test
+    public void saveAddressBook_manySaves_compactsJournal() throws Exception {
+        Path filePath = testFolder.resolve("TempAddressBook.json");
+        AddressBook original = getTypicalAddressBook();
+        JsonAddressBookStorage jsonAddressBookStorage = new JsonAddressBookStorage(filePath);
+        jsonAddressBookStorage.saveAddressBook(original);
+
+        for (int i = 0; i < 150; i++) {
+            original.addPerson(new PersonBuilder().withName("Person " + i).build());
+            jsonAddressBookStorage.saveAddressBook(original);
+        }
+
+        assertTrue(Files.readAllLines(JsonAddressBookStorage.getJournalFilePath(filePath)).size() < 100);
+        assertEquals(original, new AddressBook(new JsonAddressBookStorage(filePath).readAddressBook().get()));
+    }
+
+    @Test
+    public void saveAddressBook_unreadableFile_keptAsBackup() throws Exception {
+        Path filePath = testFolder.resolve("TempAddressBook.json");
+        Files.writeString(filePath, "not json");
+        JsonAddressBookStorage jsonAddressBookStorage = new JsonAddressBookStorage(filePath);
+        assertThrows(DataConversionException.class, () -> jsonAddressBookStorage.readAddressBook());
+
+        jsonAddressBookStorage.saveAddressBook(new AddressBook());
+
+        Path backupFilePath = testFolder.resolve("TempAddressBook.json" + JsonAddressBookStorage.BACKUP_FILE_SUFFIX);
+        assertEquals("not json", Files.readString(backupFilePath));
+        assertEquals(new AddressBook(), new AddressBook(jsonAddressBookStorage.readAddressBook().get()));
+    }
+
     @Test
     public void saveAddressBook_nullAddressBook_throwsNullPointerException() {
         assertThrows(NullPointerException.class, () -> saveAddressBook(null, "SomeFile.json"));
@@ -0,0 +1,115 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.ZEPHYR;
+import static seedu.address.testutil.TypicalPersons.getTypicalPersons;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.model.AddressBookChange;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.user.EmptyUser;
+import seedu.address.testutil.PersonBuilder;
+
+public class JsonHistoryJournalTest {
+
+    @TempDir
+    public Path testFolder;
+
+    @Test
+    public void pushAndPop_allChangeTypes_success() throws Exception {
+        JsonHistoryJournal journal = new JsonHistoryJournal(testFolder.resolve("history.journal"));
+        Person editedAlice = new PersonBuilder(ALICE).withPhone("99999999").build();
+        journal.push(Arrays.asList(
+                new AddressBookChange.AddPerson(3, ALICE),
+                new AddressBookChange.RemovePerson(1, BENSON),
+                new AddressBookChange.SetPerson(ALICE, editedAlice),
+                new AddressBookChange.SetUser(new EmptyUser(), ZEPHYR),
+                new AddressBookChange.SetPersons(getTypicalPersons(), Collections.emptyList())));
+        assertEquals(1, journal.size());
+        assertTrue(journal.getFileSize() > 0);
+
+        List<AddressBookChange> changes = journal.pop();
+        assertEquals(0, journal.size());
+        assertEquals(0, journal.getFileSize());
+        assertFalse(Files.exists(journal.getHistoryJournalFilePath()));
+
+        AddressBookChange.AddPerson addPerson = (AddressBookChange.AddPerson) changes.get(0);
+        assertEquals(3, addPerson.getIndex());
+        assertEquals(ALICE, addPerson.getPerson());
+        AddressBookChange.RemovePerson removePerson = (AddressBookChange.RemovePerson) changes.get(1);
+        assertEquals(1, removePerson.getIndex());
+        assertEquals(BENSON, removePerson.getPerson());
+        AddressBookChange.SetPerson setPerson = (AddressBookChange.SetPerson) changes.get(2);
+        assertEquals(ALICE, setPerson.getTarget());
+        assertEquals(editedAlice, setPerson.getEditedPerson());
+        AddressBookChange.SetUser setUser = (AddressBookChange.SetUser) changes.get(3);
+        assertEquals(new EmptyUser(), setUser.getPreviousUser());
+        assertEquals(ZEPHYR, setUser.getUser());
+        AddressBookChange.SetPersons setPersons = (AddressBookChange.SetPersons) changes.get(4);
+        assertEquals(getTypicalPersons(), setPersons.getPreviousPersons());
+        assertTrue(setPersons.getPersons().isEmpty());
+    }
+
+    @Test
+    public void pop_manyStates_returnsNewestFirst() throws Exception {
+        JsonHistoryJournal journal = new JsonHistoryJournal(testFolder.resolve("history.journal"));
+        List<Person> persons = pushOneStatePerPerson(journal, 5);
+
+        for (int i = 4; i >= 0; i--) {
+            assertEquals(persons.get(i), ((AddressBookChange.AddPerson) journal.pop().get(0)).getPerson());
+        }
+        assertEquals(0, journal.size());
+    }
+
+    @Test
+    public void removeOldest_manyStates_compactsAndKeepsNewerStates() throws Exception {
+        JsonHistoryJournal journal = new JsonHistoryJournal(testFolder.resolve("history.journal"));
+        List<Person> persons = pushOneStatePerPerson(journal, 6);
+        long fileSize = journal.getFileSize();
+
+        for (int i = 0; i < 4; i++) {
+            journal.removeOldest();
+        }
+        assertEquals(2, journal.size());
+        assertTrue(journal.getFileSize() < fileSize);
+        assertEquals(journal.getFileSize(), Files.size(journal.getHistoryJournalFilePath()));
+
+        journal.push(Collections.singletonList(new AddressBookChange.AddPerson(0, ALICE)));
+        assertEquals(ALICE, ((AddressBookChange.AddPerson) journal.pop().get(0)).getPerson());
+        assertEquals(persons.get(5), ((AddressBookChange.AddPerson) journal.pop().get(0)).getPerson());
+        assertEquals(persons.get(4), ((AddressBookChange.AddPerson) journal.pop().get(0)).getPerson());
+    }
+
+    @Test
+    public void clear_withStates_deletesFile() throws Exception {
+        JsonHistoryJournal journal = new JsonHistoryJournal(testFolder.resolve("history.journal"));
+        pushOneStatePerPerson(journal, 2);
+
+        journal.clear();
+        assertEquals(0, journal.size());
+        assertFalse(Files.exists(journal.getHistoryJournalFilePath()));
+    }
+
+    private static List<Person> pushOneStatePerPerson(JsonHistoryJournal journal, int count) throws Exception {
+        List<Person> persons = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            Person person = new PersonBuilder().withName("Person " + i).build();
+            persons.add(person);
+            journal.push(Collections.singletonList(new AddressBookChange.AddPerson(i, person)));
+        }
+        return persons;
+    }
+}